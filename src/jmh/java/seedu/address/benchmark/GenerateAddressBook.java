@@ -0,0 +1,38 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.util.AddressBookGenerator;
+import seedu.address.storage.JsonAddressBookWriter;
+
+/**
+ * Writes a generated address book to a JSON file, e.g. to load test the app with.
+ * Usage: {@code GenerateAddressBook COUNT FILE [SEED] [DUPLICATE_RATE]}<br>
+ * There are no duplicate persons unless {@code DUPLICATE_RATE} is given, as the app does not load a data file with
+ * duplicates. Files with duplicates can be used to test the import command instead.
+ */
+public class GenerateAddressBook {
+
+    /**
+     * Generates the address book described by {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println("Usage: GenerateAddressBook COUNT FILE [SEED] [DUPLICATE_RATE]");
+            System.exit(1);
+        }
+
+        int count = Integer.parseInt(args[0]);
+        Path filePath = Paths.get(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : AddressBookGenerator.DEFAULT_SEED;
+        double duplicateRate = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+        AddressBookGenerator generator = new AddressBookGenerator(seed).withDuplicateRate(duplicateRate);
+
+        try (JsonAddressBookWriter writer = new JsonAddressBookWriter(filePath)) {
+            writer.writeAll(generator.stream(count).iterator());
+        }
+        System.out.println("Generated " + count + " persons with seed " + seed + " to " + filePath);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * The persons that a benchmark runs against, at each of the address book sizes that we benchmark.
+ */
+@State(Scope.Benchmark)
+public class PersonsState {
+
+    @Param({"1000", "100000", "1000000"})
+    protected int size;
+
+    private List<Person> persons;
+    private Person extraPerson;
+
+    /**
+     * Generates {@code size} persons, and one more that is not the same as any of them.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> generatedPersons = new AddressBookGenerator(AddressBookGenerator.DEFAULT_SEED)
+                .generateUniquePersons(size + 1);
+        extraPerson = generatedPersons.remove(size);
+        persons = generatedPersons;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns a person that is not the same as any of the persons in {@link #getPersons()}.
+     */
+    public Person getExtraPerson() {
+        return extraPerson;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.PersonsState;
+
+/**
+ * Benchmarks {@code StringUtil#computeCloseness} and {@code StringUtil#isClosenessLessThan} against the name and
+ * address of every person in the address book.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringUtilBenchmark {
+
+    private String[] names;
+    private String[] addresses;
+
+    @Setup(Level.Trial)
+    public void setUp(PersonsState state) {
+        names = state.getPersons().stream().map(person -> person.getName().fullName).toArray(String[]::new);
+        addresses = state.getPersons().stream().map(person -> person.getAddress().value).toArray(String[]::new);
+    }
+
+    /**
+     * Computes the closeness of a short keyword to every name.
+     */
+    @Benchmark
+    public double computeClosenessNames() {
+        double total = 0;
+        for (String name : names) {
+            total += StringUtil.computeCloseness(name, "Charlote Olivero");
+        }
+        return total;
+    }
+
+    /**
+     * Computes the closeness of a longer keyword to every address, which have more and longer words than names.
+     */
+    @Benchmark
+    public double computeClosenessAddresses() {
+        double total = 0;
+        for (String address : addresses) {
+            total += StringUtil.computeCloseness(address, "Serangon Gardens Stret");
+        }
+        return total;
+    }
+
+    /**
+     * Checks whether a short keyword is close enough to every name, as the name predicate of {@code find} does.
+     */
+    @Benchmark
+    public int isClosenessLessThanNames() {
+        int matches = 0;
+        for (String name : names) {
+            matches += StringUtil.isClosenessLessThan(name, "Charlote Olivero", 2) ? 1 : 0;
+        }
+        return matches;
+    }
+
+    /**
+     * Checks whether a longer keyword is close enough to every address, as the address predicate of {@code find}
+     * does.
+     */
+    @Benchmark
+    public int isClosenessLessThanAddresses() {
+        int matches = 0;
+        for (String address : addresses) {
+            matches += StringUtil.isClosenessLessThan(address, "Serangon Gardens Stret", 3) ? 1 : 0;
+        }
+        return matches;
+    }
+}
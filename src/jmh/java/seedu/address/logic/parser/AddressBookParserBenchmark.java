@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing a typical command of each kind.
+ * Parsing does not depend on the contents of the address book, so this is parameterised by command instead of by
+ * address book size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> COMMANDS = Map.of(
+            "add", "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 "
+                    + "t/friends t/owesMoney",
+            "edit", "edit 1 p/91234567 e/johndoe@example.com",
+            "note", "note 1 nt/Contact this supplier next week!",
+            "filter", "filter n/alex yeoh",
+            "find", "find e/alexyeoh@example.com",
+            "delete", "delete p/87438807",
+            "list", "list");
+
+    @Param({"add", "edit", "note", "filter", "find", "delete", "list"})
+    protected String command;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String userInput;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userInput = COMMANDS.get(command);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.PersonsState;
+
+/**
+ * Benchmarks the operations of {@code UniquePersonList} that check for duplicate persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniquePersonListBenchmark {
+
+    private UniquePersonList uniquePersonList;
+    private Person existingPerson;
+    private Person newPerson;
+
+    @Setup(Level.Trial)
+    public void setUp(PersonsState state) {
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(state.getPersons());
+        existingPerson = state.getPersons().get(state.getSize() / 2);
+        newPerson = state.getExtraPerson();
+    }
+
+    /**
+     * Adds a person that is not in the list, then removes it so that the list stays the same size.
+     */
+    @Benchmark
+    public UniquePersonList addAndRemove() {
+        uniquePersonList.add(newPerson);
+        uniquePersonList.remove(newPerson);
+        return uniquePersonList;
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return uniquePersonList.contains(existingPerson);
+    }
+
+    @Benchmark
+    public boolean containsNew() {
+        return uniquePersonList.contains(newPerson);
+    }
+
+    /**
+     * Replaces the list with the same persons, which checks that they are unique.
+     */
+    @Benchmark
+    public UniquePersonList setPersons(PersonsState state) {
+        uniquePersonList.setPersons(state.getPersons());
+        return uniquePersonList;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.predicate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.PersonsState;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks testing every person in the address book against each of the predicates used by the filter and
+ * find commands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PredicateBenchmark {
+
+    private NameContainsKeywordsPredicate namePredicate;
+    private AddressContainsKeywordsPredicate addressPredicate;
+    private TagContainsKeywordsPredicate tagPredicate;
+    private PhoneIsKeywordPredicate phonePredicate;
+    private EmailIsKeywordPredicate emailPredicate;
+
+    @Setup(Level.Trial)
+    public void setUp(PersonsState state) {
+        Person person = state.getPersons().get(state.getSize() / 2);
+        namePredicate = new NameContainsKeywordsPredicate("Charlote Olivero");
+        addressPredicate = new AddressContainsKeywordsPredicate("serangon gardens");
+        tagPredicate = new TagContainsKeywordsPredicate("suppliers");
+        phonePredicate = new PhoneIsKeywordPredicate(person.getPhone().value);
+        emailPredicate = new EmailIsKeywordPredicate(person.getEmail().value);
+    }
+
+    @Benchmark
+    public int nameContainsKeywords(PersonsState state) {
+        return countMatches(state.getPersons(), namePredicate);
+    }
+
+    @Benchmark
+    public int addressContainsKeywords(PersonsState state) {
+        return countMatches(state.getPersons(), addressPredicate);
+    }
+
+    @Benchmark
+    public int tagContainsKeywords(PersonsState state) {
+        return countMatches(state.getPersons(), tagPredicate);
+    }
+
+    @Benchmark
+    public int phoneIsKeyword(PersonsState state) {
+        return countMatches(state.getPersons(), phonePredicate);
+    }
+
+    @Benchmark
+    public int emailIsKeyword(PersonsState state) {
+        return countMatches(state.getPersons(), emailPredicate);
+    }
+
+    private static int countMatches(List<Person> persons, Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
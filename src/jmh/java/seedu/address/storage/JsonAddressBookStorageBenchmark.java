@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.PersonsState;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks reading and saving the address book as a JSON file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonAddressBookStorageBenchmark {
+
+    private Path tempDir;
+    private Path savedFile;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Saves the address book to a temporary file for the read benchmark.
+     */
+    @Setup(Level.Trial)
+    public void setUp(PersonsState state) throws IOException {
+        tempDir = Files.createTempDirectory("craftconnect-benchmark");
+        savedFile = tempDir.resolve("addressbook.json");
+        storage = new JsonAddressBookStorage(savedFile);
+        addressBook = new AddressBook();
+        addressBook.setPersons(state.getPersons());
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(tempDir.resolve("saved.json"));
+        Files.deleteIfExists(savedFile);
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    /**
+     * Saves the address book to a file other than the one read by {@link #read()}.
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        Path saveFile = tempDir.resolve("saved.json");
+        storage.saveAddressBook(addressBook, saveFile);
+        return saveFile;
+    }
+}
@@ -18,6 +18,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private Path timelinePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +29,28 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to run once the main window is shown, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the file to write the startup timeline to, or null if the default file should be used.
+     */
+    public Path getTimelinePath() {
+        return timelinePath;
+    }
+
+    public void setTimelinePath(Path timelinePath) {
+        this.timelinePath = timelinePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +65,20 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No commands will be run on startup.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String timelinePathParameter = namedParameters.get("timeline");
+        if (timelinePathParameter != null && !FileUtil.isValidPath(timelinePathParameter)) {
+            logger.warning("Invalid timeline path " + timelinePathParameter + ". Using default timeline path.");
+            timelinePathParameter = null;
+        }
+        appParameters.setTimelinePath(timelinePathParameter != null ? Paths.get(timelinePathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +94,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(timelinePath, otherAppParameters.timelinePath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, timelinePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("timelinePath", timelinePath)
                 .toString();
     }
 }
@@ -1,18 +1,26 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimeline;
+import seedu.address.commons.core.StartupTimeline.Phase;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookManagement;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.logic.commands.FileBasedCommand;
@@ -53,11 +61,21 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        if (appParameters.getTimelinePath() != null) {
+            StartupTimeline.setReportFile(appParameters.getTimelinePath());
+        }
+        try (Phase phase = StartupTimeline.begin("config")) {
+            config = initConfig(appParameters.getConfigPath());
+        }
+        try (Phase phase = StartupTimeline.begin("logging")) {
+            initLogging(config);
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        UserPrefs userPrefs;
+        try (Phase phase = StartupTimeline.begin("prefs")) {
+            userPrefs = initPrefs(userPrefsStorage);
+        }
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
@@ -65,9 +83,37 @@ public class MainApp extends Application {
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager;
+        try (Phase phase = StartupTimeline.begin("logic")) {
+            logicManager = new LogicManager(model, storage);
+            logic = logicManager;
+        }
+        try (Phase phase = StartupTimeline.begin("management")) {
+            new AddressBookManagement(logicManager, model, Platform::runLater).register();
+        }
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, initScript(appParameters.getScriptPath()));
+    }
+
+    /**
+     * Returns the commands in the file at {@code scriptPath}, skipping blank lines and lines starting with '#'.
+     * An empty list is returned if {@code scriptPath} is null or the file cannot be read.
+     */
+    private List<String> initScript(Path scriptPath) {
+        if (scriptPath == null) {
+            return Collections.emptyList();
+        }
+
+        logger.info("Using startup script : " + scriptPath);
+        try {
+            return Files.readAllLines(scriptPath).stream()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warning("Startup script at " + scriptPath + " could not be read: " + StringUtil.getDetails(e));
+            return Collections.emptyList();
+        }
     }
 
     /**
@@ -80,7 +126,7 @@ public class MainApp extends Application {
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
-        try {
+        try (Phase phase = StartupTimeline.begin("storage read")) {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
@@ -93,7 +139,16 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        try (Phase phase = StartupTimeline.begin("model build")) {
+            ModelManager modelManager = new ModelManager(initialData, userPrefs);
+            try {
+                modelManager.setParallelFilterThreshold(config.getParallelFilterThreshold());
+            } catch (IllegalArgumentException e) {
+                logger.warning("Ignoring parallel filter threshold " + config.getParallelFilterThreshold()
+                        + " in the config file: " + e.getMessage());
+            }
+            return modelManager;
+        }
     }
 
     private void initLogging(Config config) {
@@ -174,12 +229,15 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
-        ui.start(primaryStage);
+        try (Phase phase = StartupTimeline.begin("ui start")) {
+            ui.start(primaryStage);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        AddressBookManagement.unregister();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
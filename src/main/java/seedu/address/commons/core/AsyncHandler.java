@@ -0,0 +1,192 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to a bounded queue, from which a background thread passes them on to
+ * other handlers (e.g. a {@code FileHandler}). Logging therefore never waits for the console or the disk, unless
+ * the queue is full and the {@link OverflowPolicy} is {@code BLOCK}.<br>
+ * Records that are dropped because the queue is full are counted, and reported by a warning once there is room.
+ */
+public class AsyncHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final String MESSAGE_CONSTRAINTS = "The capacity of the log queue must be positive";
+
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    /**
+     * What to do with a log record when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Drops the record and counts it, so that the logging thread is never delayed. */
+        DROP,
+        /** Waits until there is room in the queue, so that no record is lost. */
+        BLOCK
+    }
+
+    private final BlockingQueue<LogRecord> queue;
+    private final List<Handler> targets;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writerThread;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed = false;
+    /** The number of dropped records that have been reported. Only used by the writer thread. */
+    private long reportedDroppedCount = 0;
+
+    /**
+     * Creates a handler that queues up to {@code capacity} records for {@code targets}, and handles records that
+     * do not fit according to {@code overflowPolicy}.
+     */
+    public AsyncHandler(int capacity, OverflowPolicy overflowPolicy, List<Handler> targets) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        requireNonNull(overflowPolicy);
+        requireNonNull(targets);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.targets = List.copyOf(targets);
+
+        writerThread = new Thread(this::writeRecords, "log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Returns the number of records dropped so far because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The caller is found from the stack of the current thread, so it must be found before handing over.
+        record.getSourceClassName();
+
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(record)) {
+                droppedCount.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            droppedCount.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for the records queued so far to be written, then flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        if (isClosed) {
+            return;
+        }
+        Marker marker = new Marker(false);
+        try {
+            queue.put(marker);
+            marker.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the records queued so far, then closes the target handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        Marker marker = new Marker(true);
+        try {
+            queue.put(marker);
+            marker.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = queue.take();
+            } catch (InterruptedException e) {
+                // the writer thread is only stopped by a closing marker
+                continue;
+            }
+
+            reportDroppedRecords();
+            if (!(record instanceof Marker)) {
+                targets.forEach(target -> target.publish(record));
+                continue;
+            }
+
+            Marker marker = (Marker) record;
+            targets.forEach(Handler::flush);
+            marker.countDown();
+            if (marker.isClosing) {
+                return;
+            }
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.get();
+        if (dropped == reportedDroppedCount) {
+            return;
+        }
+        long newlyDropped = dropped - reportedDroppedCount;
+        LogRecord warning = new LogRecord(Level.WARNING,
+                newlyDropped + " log records were dropped because the log queue was full");
+        warning.setLoggerName(AsyncHandler.class.getName());
+        reportedDroppedCount = dropped;
+        targets.forEach(target -> target.publish(warning));
+    }
+
+    /**
+     * A record that asks the writer thread to flush the target handlers, and to stop if it is closing.
+     */
+    private static class Marker extends LogRecord {
+        private final boolean isClosing;
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        Marker(boolean isClosing) {
+            super(Level.OFF, null);
+            this.isClosing = isClosing;
+        }
+
+        void countDown() {
+            latch.countDown();
+        }
+
+        void await() throws InterruptedException {
+            latch.await(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.jfr.CommandPhaseEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.Histogram;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Records how long each phase of a command (parsing, execution, taking the undo snapshot and saving) takes and how
+ * much memory it allocates, for every command word.<br>
+ * A command is started with {@link #startCommand()} and ended with {@link #finishCommand(String)}. In between,
+ * each phase is measured by closing the {@link Measurement} returned by {@link #measure(Phase)}. A phase that is
+ * measured inside another phase (e.g. the undo snapshot, which is taken while a command executes) is not counted
+ * towards the outer phase. Measurements made outside a command are ignored.<br>
+ * Each phase is also emitted as a {@link CommandPhaseEvent} for Java Flight Recorder.
+ */
+public class CommandMetrics {
+
+    /** The command word that commands which could not be parsed are recorded under. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long BYTES_PER_KIB = 1024L;
+    private static final long BYTES_PER_MIB = 1024L * 1024L;
+
+    private static final Map<String, CommandRecord> commands = new TreeMap<>();
+    private static final ThreadLocal<Sample> currentSample = new ThreadLocal<>();
+    private static final Measurement NO_OP_MEASUREMENT = new Measurement(null, null);
+    private static final AllocationCounter allocationCounter = new AllocationCounter();
+    private static String lastCommandWord = null;
+    private static long lastCommandNanos = 0;
+
+    /**
+     * The phases of a command that are measured.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        UNDO_SNAPSHOT("undo snapshot"),
+        SAVE("save");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Starts measuring a command on the current thread, discarding any command that was not finished.
+     */
+    public static void startCommand() {
+        currentSample.set(new Sample());
+    }
+
+    /**
+     * Sets the word of the command on the current thread, which is attached to the flight recorder events
+     * the command emits. Does nothing if no command was started.
+     */
+    public static void setCurrentCommandWord(String commandWord) {
+        requireNonNull(commandWord);
+        Sample sample = currentSample.get();
+        if (sample != null) {
+            sample.commandWord = commandWord;
+        }
+    }
+
+    /**
+     * Returns the word of the command on the current thread, or an empty string if there is none.
+     */
+    public static String getCurrentCommandWord() {
+        Sample sample = currentSample.get();
+        return sample == null ? "" : sample.commandWord;
+    }
+
+    /**
+     * Starts measuring {@code phase} of the command on the current thread. The phase ends when the returned
+     * {@code Measurement} is closed.
+     */
+    public static Measurement measure(Phase phase) {
+        requireNonNull(phase);
+        Sample sample = currentSample.get();
+        if (sample == null) {
+            return NO_OP_MEASUREMENT;
+        }
+        Measurement measurement = new Measurement(sample, phase);
+        sample.active = measurement;
+        return measurement;
+    }
+
+    /**
+     * Ends the command on the current thread and records its phases under {@code commandWord}.
+     * Does nothing if no command was started.
+     */
+    public static void finishCommand(String commandWord) {
+        requireNonNull(commandWord);
+        Sample sample = currentSample.get();
+        if (sample == null) {
+            return;
+        }
+        currentSample.remove();
+        record(commandWord, sample);
+    }
+
+    private static synchronized void record(String commandWord, Sample sample) {
+        CommandRecord commandRecord = commands.computeIfAbsent(commandWord, unused -> new CommandRecord());
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (Map.Entry<Phase, long[]> entry : sample.phases.entrySet()) {
+            long[] nanosAndBytes = entry.getValue();
+            commandRecord.getPhase(entry.getKey()).record(nanosAndBytes[0], nanosAndBytes[1]);
+            totalNanos += nanosAndBytes[0];
+            totalBytes += nanosAndBytes[1];
+        }
+        commandRecord.total.record(totalNanos, totalBytes);
+        lastCommandWord = commandWord;
+        lastCommandNanos = totalNanos;
+    }
+
+    /**
+     * Returns a table of the median and 99th percentile time and allocation of every phase of every command
+     * recorded so far.
+     */
+    public static synchronized String getSummary() {
+        if (commands.isEmpty()) {
+            return "No commands have been recorded yet.";
+        }
+        StringBuilder builder = new StringBuilder("Command statistics (p50 / p99 time, p50 / p99 allocated):");
+        for (Map.Entry<String, CommandRecord> entry : commands.entrySet()) {
+            CommandRecord commandRecord = entry.getValue();
+            builder.append("\n").append(entry.getKey())
+                    .append(" (x").append(commandRecord.total.nanos.getCount()).append("): ")
+                    .append(commandRecord.total.toSummary());
+            for (Map.Entry<Phase, PhaseRecord> phaseEntry : commandRecord.phases.entrySet()) {
+                builder.append("\n    ").append(phaseEntry.getKey()).append(": ")
+                        .append(phaseEntry.getValue().toSummary());
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns a one-line summary of the last command recorded, or an empty string if there is none.
+     */
+    public static synchronized String getLastCommandSummary() {
+        if (lastCommandWord == null) {
+            return "";
+        }
+        Histogram nanos = commands.get(lastCommandWord).total.nanos;
+        return lastCommandWord + ": " + formatNanos(lastCommandNanos)
+                + " (p50 " + formatNanos(nanos.getValueAtPercentile(50))
+                + ", p99 " + formatNanos(nanos.getValueAtPercentile(99)) + ")";
+    }
+
+    /**
+     * Returns the heap currently in use and the maximum heap size, e.g. {@code "heap 85 / 512 MB"}.
+     */
+    public static String getHeapSummary() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedBytes = runtime.totalMemory() - runtime.freeMemory();
+        return "heap " + usedBytes / BYTES_PER_MIB + " / " + runtime.maxMemory() / BYTES_PER_MIB + " MB";
+    }
+
+    /**
+     * Writes the histograms of every phase of every command recorded so far to {@code file} as JSON.
+     */
+    public static synchronized void saveHistograms(Path file) throws IOException {
+        requireNonNull(file);
+        Report report = new Report(commands);
+        FileUtil.createIfMissing(file);
+        JsonUtil.saveJsonFile(report, file);
+    }
+
+    /**
+     * Clears all recorded commands.
+     */
+    public static synchronized void reset() {
+        commands.clear();
+        currentSample.remove();
+        lastCommandWord = null;
+        lastCommandNanos = 0;
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.1f ms", (double) nanos / NANOS_PER_MILLI);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < BYTES_PER_KIB) {
+            return bytes + " B";
+        }
+        if (bytes < BYTES_PER_MIB) {
+            return bytes / BYTES_PER_KIB + " KB";
+        }
+        return String.format("%.1f MB", (double) bytes / BYTES_PER_MIB);
+    }
+
+    /**
+     * A phase of a command that is being measured.
+     */
+    public static class Measurement implements AutoCloseable {
+        private final Sample sample;
+        private final Phase phase;
+        private final Measurement parent;
+        private final CommandPhaseEvent event;
+        private final long startNanos;
+        private final long startBytes;
+        private long nestedNanos = 0;
+        private long nestedBytes = 0;
+        private boolean isClosed;
+
+        private Measurement(Sample sample, Phase phase) {
+            this.sample = sample;
+            this.phase = phase;
+            this.parent = sample == null ? null : sample.active;
+            this.isClosed = sample == null;
+            this.event = sample == null ? null : new CommandPhaseEvent(phase.toString());
+            this.startBytes = sample == null ? 0 : allocationCounter.getAllocatedBytes();
+            this.startNanos = System.nanoTime();
+            if (event != null) {
+                event.begin();
+            }
+        }
+
+        /**
+         * Ends this measurement and adds it to its command. Closing a measurement more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (isClosed) {
+                return;
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = allocationCounter.getAllocatedBytes() - startBytes;
+            isClosed = true;
+            event.commit();
+
+            sample.add(phase, elapsedNanos - nestedNanos, allocatedBytes - nestedBytes);
+            if (parent != null) {
+                parent.nestedNanos += elapsedNanos;
+                parent.nestedBytes += allocatedBytes;
+            }
+            sample.active = parent;
+        }
+    }
+
+    /**
+     * The measurements of a command that has not finished.
+     */
+    private static class Sample {
+        /** The time taken and bytes allocated by each phase. */
+        private final Map<Phase, long[]> phases = new EnumMap<>(Phase.class);
+        private String commandWord = "";
+        private Measurement active;
+
+        void add(Phase phase, long nanos, long bytes) {
+            long[] nanosAndBytes = phases.computeIfAbsent(phase, unused -> new long[2]);
+            nanosAndBytes[0] += nanos;
+            nanosAndBytes[1] += Math.max(0, bytes);
+        }
+    }
+
+    /**
+     * Counts the bytes allocated by the current thread, if the JVM supports it.
+     */
+    private static class AllocationCounter {
+        private final com.sun.management.ThreadMXBean threadMxBean;
+
+        AllocationCounter() {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                threadMxBean = (com.sun.management.ThreadMXBean) bean;
+            } else {
+                threadMxBean = null;
+            }
+        }
+
+        /**
+         * Returns the number of bytes allocated by the current thread so far, or 0 if this is not supported.
+         */
+        long getAllocatedBytes() {
+            return threadMxBean == null ? 0 : threadMxBean.getCurrentThreadAllocatedBytes();
+        }
+    }
+
+    /**
+     * The histograms of every phase of a command word.
+     */
+    private static class CommandRecord {
+        private final PhaseRecord total = new PhaseRecord();
+        private final Map<Phase, PhaseRecord> phases = new EnumMap<>(Phase.class);
+
+        PhaseRecord getPhase(Phase phase) {
+            return phases.computeIfAbsent(phase, unused -> new PhaseRecord());
+        }
+    }
+
+    /**
+     * The histograms of the time taken and bytes allocated by a phase.
+     */
+    private static class PhaseRecord {
+        private final Histogram nanos = new Histogram();
+        private final Histogram bytes = new Histogram();
+
+        void record(long elapsedNanos, long allocatedBytes) {
+            nanos.record(Math.max(0, elapsedNanos));
+            bytes.record(Math.max(0, allocatedBytes));
+        }
+
+        String toSummary() {
+            return formatNanos(nanos.getValueAtPercentile(50)) + " / " + formatNanos(nanos.getValueAtPercentile(99))
+                    + ", " + formatBytes(bytes.getValueAtPercentile(50))
+                    + " / " + formatBytes(bytes.getValueAtPercentile(99));
+        }
+    }
+
+    /**
+     * Jackson-friendly snapshot of all recorded commands.
+     */
+    private static class Report {
+        private final List<CommandEntry> commands = new ArrayList<>();
+
+        Report(Map<String, CommandRecord> records) {
+            for (Map.Entry<String, CommandRecord> entry : records.entrySet()) {
+                commands.add(new CommandEntry(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly version of {@link CommandRecord}.
+     */
+    private static class CommandEntry {
+        private final String command;
+        private final PhaseEntry total;
+        private final List<PhaseEntry> phases = new ArrayList<>();
+
+        CommandEntry(String command, CommandRecord commandRecord) {
+            this.command = command;
+            this.total = new PhaseEntry("total", commandRecord.total);
+            for (Map.Entry<Phase, PhaseRecord> entry : commandRecord.phases.entrySet()) {
+                phases.add(new PhaseEntry(entry.getKey().toString(), entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly version of {@link PhaseRecord}.
+     */
+    private static class PhaseEntry {
+        private final String phase;
+        private final HistogramEntry timeNanos;
+        private final HistogramEntry allocatedBytes;
+
+        PhaseEntry(String phase, PhaseRecord phaseRecord) {
+            this.phase = phase;
+            this.timeNanos = new HistogramEntry(phaseRecord.nanos);
+            this.allocatedBytes = new HistogramEntry(phaseRecord.bytes);
+        }
+    }
+
+    /**
+     * Jackson-friendly version of {@link Histogram}.
+     */
+    private static class HistogramEntry {
+        private final long count;
+        private final long min;
+        private final double mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long p999;
+        private final long max;
+        /** The highest value and count of every non-empty bucket. */
+        private final List<long[]> buckets = new ArrayList<>();
+
+        HistogramEntry(Histogram histogram) {
+            count = histogram.getCount();
+            min = histogram.getMin();
+            mean = histogram.getMean();
+            p50 = histogram.getValueAtPercentile(50);
+            p90 = histogram.getValueAtPercentile(90);
+            p99 = histogram.getValueAtPercentile(99);
+            p999 = histogram.getValueAtPercentile(99.9);
+            max = histogram.getMax();
+            for (Histogram.Bucket bucket : histogram.getBuckets()) {
+                buckets.add(new long[] {bucket.getHighestValue(), bucket.getCount()});
+            }
+        }
+    }
+}
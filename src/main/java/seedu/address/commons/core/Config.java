@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private AsyncHandler.OverflowPolicy logOverflowPolicy = AsyncHandler.OverflowPolicy.DROP;
+    private int parallelFilterThreshold = 50_000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public AsyncHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +65,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(logOverflowPolicy, otherConfig.logOverflowPolicy)
+                && parallelFilterThreshold == otherConfig.parallelFilterThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, logOverflowPolicy, parallelFilterThreshold);
     }
 
     @Override
@@ -60,6 +80,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("logOverflowPolicy", logOverflowPolicy)
+                .add("parallelFilterThreshold", parallelFilterThreshold)
                 .toString();
     }
 
@@ -0,0 +1,217 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Records how long each phase of the application startup takes (e.g. reading the config, loading FXML files).<br>
+ * Phases are started with {@link #begin(String)} and ended by closing the returned {@link Phase}. Phases that share
+ * a name (e.g. the FXML file of every person card) are aggregated into a single entry.<br>
+ * Once {@link #finish()} is called, the timeline is written to the log and to the report file, and any phase
+ * that begins afterwards is ignored.
+ */
+public class StartupTimeline {
+
+    public static final Path DEFAULT_REPORT_FILE = Paths.get("startup-timeline.json");
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimeline.class);
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private static final Map<String, PhaseRecord> phases = new LinkedHashMap<>();
+    private static final Phase NO_OP_PHASE = new Phase(null, 0);
+    private static long originNanos = System.nanoTime();
+    private static boolean isFinished = false;
+    private static Path reportFile = DEFAULT_REPORT_FILE;
+
+    /**
+     * Sets the file that the timeline is written to when {@link #finish()} is called.
+     */
+    public static synchronized void setReportFile(Path reportFile) {
+        requireNonNull(reportFile);
+        StartupTimeline.reportFile = reportFile;
+    }
+
+    /**
+     * Starts timing the phase named {@code name}. The phase ends when the returned {@code Phase} is closed.
+     */
+    public static synchronized Phase begin(String name) {
+        requireNonNull(name);
+        if (isFinished) {
+            return NO_OP_PHASE;
+        }
+        return new Phase(name, System.nanoTime());
+    }
+
+    /**
+     * Records a point in time (e.g. the first rendered frame) as a phase that spans from the start of the
+     * timeline to now.
+     */
+    public static synchronized void mark(String name) {
+        requireNonNull(name);
+        record(name, originNanos, System.nanoTime());
+    }
+
+    /**
+     * Returns true if the timeline has been written and no longer accepts phases.
+     */
+    public static synchronized boolean isFinished() {
+        return isFinished;
+    }
+
+    /**
+     * Stops recording, then writes the timeline to the log and to the report file.
+     * Does nothing if the timeline has already been finished.
+     */
+    public static synchronized void finish() {
+        if (isFinished) {
+            return;
+        }
+        isFinished = true;
+
+        Report report = createReport();
+        logger.info(report.toLogString());
+        try {
+            FileUtil.createIfMissing(reportFile);
+            JsonUtil.saveJsonFile(report, reportFile);
+        } catch (IOException e) {
+            logger.warning("Failed to write startup timeline to " + reportFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Clears all recorded phases and restarts the timeline from now.
+     */
+    public static synchronized void reset() {
+        phases.clear();
+        originNanos = System.nanoTime();
+        isFinished = false;
+        reportFile = DEFAULT_REPORT_FILE;
+    }
+
+    private static synchronized void record(String name, long startNanos, long endNanos) {
+        if (isFinished) {
+            return;
+        }
+        PhaseRecord phaseRecord = phases.computeIfAbsent(name, unused -> new PhaseRecord(name, startNanos));
+        phaseRecord.add(endNanos - startNanos);
+    }
+
+    private static Report createReport() {
+        List<PhaseRecord> records = new ArrayList<>(phases.values());
+        long totalNanos = System.nanoTime() - originNanos;
+        // RuntimeMXBean is only touched here, after startup, so that loading it does not slow down the launch.
+        long jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        long totalMillis = totalNanos / NANOS_PER_MILLI;
+        return new Report(records, totalMillis, jvmUptimeMillis - totalMillis);
+    }
+
+    /**
+     * A phase of the startup that is being timed.
+     */
+    public static class Phase implements AutoCloseable {
+        private final String name;
+        private final long startNanos;
+        private boolean isClosed;
+
+        private Phase(String name, long startNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+            this.isClosed = name == null;
+        }
+
+        /**
+         * Ends this phase and records its duration. Closing a phase more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            record(name, startNanos, System.nanoTime());
+        }
+    }
+
+    /**
+     * The aggregated timing of all phases that share a name.
+     */
+    private static class PhaseRecord {
+        private final String name;
+        private final long firstStartNanos;
+        private long totalNanos = 0;
+        private int count = 0;
+
+        PhaseRecord(String name, long firstStartNanos) {
+            this.name = name;
+            this.firstStartNanos = firstStartNanos;
+        }
+
+        void add(long durationNanos) {
+            totalNanos += durationNanos;
+            count++;
+        }
+    }
+
+    /**
+     * Jackson-friendly snapshot of the timeline.
+     */
+    private static class Report {
+        /** Time from the start of the JVM to the start of the timeline. */
+        private final long launchOffsetMillis;
+        private final long totalMillis;
+        private final List<Entry> phases = new ArrayList<>();
+
+        Report(List<PhaseRecord> records, long totalMillis, long launchOffsetMillis) {
+            this.totalMillis = totalMillis;
+            this.launchOffsetMillis = launchOffsetMillis;
+            for (PhaseRecord phaseRecord : records) {
+                phases.add(new Entry(phaseRecord));
+            }
+        }
+
+        String toLogString() {
+            StringBuilder builder = new StringBuilder("Startup timeline (")
+                    .append(totalMillis).append(" ms, after ")
+                    .append(launchOffsetMillis).append(" ms of JVM startup):");
+            for (Entry entry : phases) {
+                builder.append("\n    ").append(entry.name)
+                        .append(": ").append(entry.durationMillis).append(" ms")
+                        .append(" (starts at ").append(entry.startMillis).append(" ms");
+                if (entry.count > 1) {
+                    builder.append(", x").append(entry.count);
+                }
+                builder.append(")");
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Jackson-friendly version of {@link PhaseRecord}.
+     */
+    private static class Entry {
+        private final String name;
+        private final long startMillis;
+        private final double durationMillis;
+        private final int count;
+
+        Entry(PhaseRecord phaseRecord) {
+            name = phaseRecord.name;
+            startMillis = (phaseRecord.firstStartNanos - originNanos) / NANOS_PER_MILLI;
+            durationMillis = Math.round(phaseRecord.totalNanos / 1000.0) / 1000.0;
+            count = phaseRecord.count;
+        }
+    }
+}
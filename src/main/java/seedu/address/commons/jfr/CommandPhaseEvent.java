@@ -0,0 +1,23 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A phase of a command, e.g. parsing or executing it.
+ *
+ * @see seedu.address.commons.core.CommandMetrics.Phase
+ */
+@Name("seedu.address.CommandPhase")
+@Label("Command Phase")
+@Description("A phase of a command, e.g. parsing or executing it")
+public class CommandPhaseEvent extends CraftConnectEvent {
+
+    @Label("Phase")
+    private final String phase;
+
+    public CommandPhaseEvent(String phase) {
+        this.phase = phase;
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The snapshot of the address book taken so that a modification can be undone.
+ */
+@Name("seedu.address.Commit")
+@Label("Commit Address Book")
+@Description("Snapshot of the address book taken so that a modification can be undone")
+public class CommitEvent extends CraftConnectEvent {
+
+    @Label("Modification")
+    private String modification;
+
+    @Label("Persons")
+    private int personCount;
+
+    public void setModification(String modification) {
+        this.modification = modification;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+}
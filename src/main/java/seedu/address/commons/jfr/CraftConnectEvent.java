@@ -0,0 +1,22 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import seedu.address.commons.core.CommandMetrics;
+
+/**
+ * A Java Flight Recorder event of CraftConnect.<br>
+ * Every event records the word of the command that was running on its thread when it was created, so that events
+ * can be grouped by command in JDK Mission Control.
+ */
+@Category("CraftConnect")
+public abstract class CraftConnectEvent extends Event {
+
+    @Label("Command")
+    protected final String commandWord;
+
+    protected CraftConnectEvent() {
+        commandWord = CommandMetrics.getCurrentCommandWord();
+    }
+}
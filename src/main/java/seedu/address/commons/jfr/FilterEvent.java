@@ -0,0 +1,43 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An update of the predicate that selects the persons shown.
+ */
+@Name("seedu.address.Filter")
+@Label("Update Filtered Person List")
+@Description("Update of the predicate that selects the persons shown")
+public class FilterEvent extends CraftConnectEvent {
+
+    @Label("Predicate")
+    private final String predicateType;
+
+    @Label("Persons")
+    private int personCount;
+
+    @Label("Persons Shown")
+    private int shownCount;
+
+    @Label("Refinement")
+    @Description("Whether only the persons shown by the previous predicate were tested")
+    private boolean isRefinement;
+
+    public FilterEvent(String predicateType) {
+        this.predicateType = predicateType;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setShownCount(int shownCount) {
+        this.shownCount = shownCount;
+    }
+
+    public void setRefinement(boolean isRefinement) {
+        this.isRefinement = isRefinement;
+    }
+}
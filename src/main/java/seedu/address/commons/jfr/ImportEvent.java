@@ -0,0 +1,42 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An import of the contacts in a file into the address book.
+ */
+@Name("seedu.address.Import")
+@Label("Import")
+@Description("Import of the contacts in a file into the address book")
+public class ImportEvent extends CraftConnectEvent {
+
+    @Label("File")
+    private final String file;
+
+    @Label("Overwrite")
+    private final boolean isOverwrite;
+
+    @Label("Persons Before")
+    private int personCountBefore;
+
+    @Label("Persons After")
+    private int personCountAfter;
+
+    /**
+     * Creates an event for importing {@code file}, replacing the address book if {@code isOverwrite} is true.
+     */
+    public ImportEvent(String file, boolean isOverwrite) {
+        this.file = file;
+        this.isOverwrite = isOverwrite;
+    }
+
+    public void setPersonCountBefore(int personCountBefore) {
+        this.personCountBefore = personCountBefore;
+    }
+
+    public void setPersonCountAfter(int personCountAfter) {
+        this.personCountAfter = personCountAfter;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.commons.jfr;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Starts and stops a Java Flight Recorder recording of the running application, which includes the events in this
+ * package along with the JVM's own profiling events. Only one recording can run at a time.
+ */
+public class Profiler {
+
+    /** The JFR settings used for recordings, which sample more often than the default continuous settings. */
+    public static final String CONFIGURATION_NAME = "profile";
+
+    private static final Logger logger = LogsCenter.getLogger(Profiler.class);
+
+    private static Recording recording;
+    private static Path destination;
+
+    /**
+     * Starts a recording that is written to {@code file} when {@link #stop()} is called.
+     *
+     * @throws IllegalStateException if a recording is already running.
+     * @throws IOException if {@code file} cannot be created or written to.
+     */
+    public static synchronized void start(Path file) throws IOException {
+        requireNonNull(file);
+        if (recording != null) {
+            throw new IllegalStateException("A recording is already running");
+        }
+
+        FileUtil.createIfMissing(file);
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(CONFIGURATION_NAME));
+        } catch (ParseException e) {
+            throw new IOException("Could not read the " + CONFIGURATION_NAME + " recording settings", e);
+        }
+        newRecording.setName("CraftConnect");
+        newRecording.setToDisk(true);
+        try {
+            newRecording.setDestination(file);
+        } catch (IOException e) {
+            newRecording.close();
+            throw e;
+        }
+
+        newRecording.start();
+        recording = newRecording;
+        destination = file;
+        logger.info("Started flight recording to " + file);
+    }
+
+    /**
+     * Stops the running recording and writes it to its file.
+     *
+     * @return the file the recording was written to.
+     * @throws IllegalStateException if no recording is running.
+     */
+    public static synchronized Path stop() {
+        if (recording == null) {
+            throw new IllegalStateException("No recording is running");
+        }
+
+        Path file = destination;
+        try {
+            recording.stop();
+        } finally {
+            recording.close();
+            recording = null;
+            destination = null;
+        }
+        logger.info("Stopped flight recording to " + file);
+        return file;
+    }
+
+    public static synchronized boolean isRecording() {
+        return recording != null;
+    }
+}
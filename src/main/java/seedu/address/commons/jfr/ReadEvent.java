@@ -0,0 +1,44 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A read of an address book from a file.
+ */
+@Name("seedu.address.Read")
+@Label("Read Address Book")
+@Description("Read of an address book from a file")
+public class ReadEvent extends CraftConnectEvent {
+
+    @Label("File")
+    private final String file;
+
+    @Label("Ignores Duplicates")
+    private final boolean ignoresDuplicates;
+
+    @Label("Persons")
+    private int personCount;
+
+    @Label("Bytes Read")
+    @DataAmount
+    private long bytesRead;
+
+    /**
+     * Creates an event for reading {@code file}, skipping duplicate persons if {@code ignoresDuplicates} is true.
+     */
+    public ReadEvent(String file, boolean ignoresDuplicates) {
+        this.file = file;
+        this.ignoresDuplicates = ignoresDuplicates;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A save of the address book to a file.
+ */
+@Name("seedu.address.Save")
+@Label("Save Address Book")
+@Description("Save of the address book to a file")
+public class SaveEvent extends CraftConnectEvent {
+
+    @Label("File")
+    private final String file;
+
+    @Label("Persons")
+    private int personCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    public SaveEvent(String file) {
+        this.file = file;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An undo or redo of one or more modifications to the address book.
+ */
+@Name("seedu.address.UndoRedo")
+@Label("Undo/Redo")
+@Description("Undo or redo of one or more modifications to the address book")
+public class UndoRedoEvent extends CraftConnectEvent {
+
+    @Label("Redo")
+    private final boolean isRedo;
+
+    @Label("Requested Changes")
+    private final int requestedChanges;
+
+    @Label("Changes")
+    private int changes;
+
+    @Label("Persons")
+    private int personCount;
+
+    /**
+     * Creates an event for undoing, or redoing if {@code isRedo} is true, {@code requestedChanges} modifications.
+     */
+    public UndoRedoEvent(boolean isRedo, int requestedChanges) {
+        this.isRedo = isRedo;
+        this.requestedChanges = requestedChanges;
+    }
+
+    public void setChanges(int changes) {
+        this.changes = changes;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+}
@@ -0,0 +1,458 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative {@code int}s stored in the style of a Roaring bitmap.<br>
+ * The values are split into chunks of {@value #CHUNK_SIZE} by their upper 16 bits. A chunk that holds few values
+ * stores them as a sorted array, and one that holds many stores them as a plain bitmap, so that the bitmap takes
+ * little memory whether its values are sparse or dense, and unions and intersections work a chunk at a time.
+ */
+public class CompressedBitmap {
+
+    public static final String MESSAGE_CONSTRAINTS = "Values in a bitmap must not be negative";
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    /** The largest number of values stored in a chunk as an array, at which the array is as large as a bitmap. */
+    private static final int ARRAY_LIMIT = 4096;
+
+    /** The upper 16 bits of the values in each chunk, in increasing order. */
+    private int[] keys = new int[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount = 0;
+
+    /**
+     * Adds {@code value} to this bitmap.
+     * @return true if this bitmap did not already contain {@code value}.
+     */
+    public boolean add(int value) {
+        checkArgument(value >= 0, MESSAGE_CONSTRAINTS);
+        int key = value >>> 16;
+        int position = findChunk(key);
+        if (position < 0) {
+            position = -position - 1;
+            insertChunk(position, key, new Chunk());
+        }
+        return chunks[position].add((char) value);
+    }
+
+    /**
+     * Removes {@code value} from this bitmap.
+     * @return true if this bitmap contained {@code value}.
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int position = findChunk(value >>> 16);
+        if (position < 0 || !chunks[position].remove((char) value)) {
+            return false;
+        }
+        if (chunks[position].cardinality == 0) {
+            removeChunk(position);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this bitmap contains {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int position = findChunk(value >>> 16);
+        return position >= 0 && chunks[position].contains((char) value);
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Returns the number of values in this bitmap.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    /**
+     * Passes every value of this bitmap to {@code action}, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns a new bitmap with the values that are in this bitmap or in {@code other}.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        requireNonNull(other);
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], chunks[i].copy());
+                i++;
+            } else if (i == chunkCount || other.keys[j] < keys[i]) {
+                result.appendChunk(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], Chunk.or(chunks[i], other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap with the values that are in both this bitmap and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        requireNonNull(other);
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                Chunk chunk = Chunk.and(chunks[i], other.chunks[j]);
+                if (chunk.cardinality > 0) {
+                    result.appendChunk(keys[i], chunk);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap with the values that are in this bitmap but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        requireNonNull(other);
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Chunk chunk = j < other.chunkCount && other.keys[j] == keys[i]
+                    ? Chunk.andNot(chunks[i], other.chunks[j])
+                    : chunks[i].copy();
+            if (chunk.cardinality > 0) {
+                result.appendChunk(keys[i], chunk);
+            }
+        }
+        return result;
+    }
+
+    private int findChunk(int key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int position, int key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            int newLength = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            chunks = Arrays.copyOf(chunks, newLength);
+        }
+        System.arraycopy(keys, position, keys, position + 1, chunkCount - position);
+        System.arraycopy(chunks, position, chunks, position + 1, chunkCount - position);
+        keys[position] = key;
+        chunks[position] = chunk;
+        chunkCount++;
+    }
+
+    private void appendChunk(int key, Chunk chunk) {
+        insertChunk(chunkCount, key, chunk);
+    }
+
+    private void removeChunk(int position) {
+        System.arraycopy(keys, position + 1, keys, position, chunkCount - position - 1);
+        System.arraycopy(chunks, position + 1, chunks, position, chunkCount - position - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompressedBitmap otherBitmap) || chunkCount != otherBitmap.chunkCount) {
+            return false;
+        }
+
+        for (int i = 0; i < chunkCount; i++) {
+            if (keys[i] != otherBitmap.keys[i] || !chunks[i].equals(otherBitmap.chunks[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {1};
+        forEach(value -> hash[0] = 31 * hash[0] + value);
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("cardinality", getCardinality()).toString();
+    }
+
+    /**
+     * The lower 16 bits of the values that share the same upper 16 bits, stored either as a sorted array or as a
+     * bitmap, whichever is smaller.
+     */
+    private static class Chunk {
+        private static final int BITMAP_WORDS = CHUNK_SIZE / Long.SIZE;
+
+        private char[] values = new char[4];
+        private long[] bits = null;
+        private int cardinality = 0;
+
+        boolean contains(char value) {
+            if (bits != null) {
+                return (bits[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        boolean add(char value) {
+            if (bits != null) {
+                long before = bits[value >>> 6];
+                bits[value >>> 6] = before | (1L << value);
+                if (before == bits[value >>> 6]) {
+                    return false;
+                }
+                cardinality++;
+                return true;
+            }
+
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                convertToBitmap();
+                return add(value);
+            }
+            position = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, cardinality * 2));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char value) {
+            if (bits != null) {
+                long before = bits[value >>> 6];
+                bits[value >>> 6] = before & ~(1L << value);
+                if (before == bits[value >>> 6]) {
+                    return false;
+                }
+                cardinality--;
+                // Only convert well below the limit, so that values added and removed around it do not thrash.
+                if (cardinality < ARRAY_LIMIT / 2) {
+                    convertToArray();
+                }
+                return true;
+            }
+
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+            cardinality--;
+            return true;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (bits == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(base | values[i]);
+                }
+                return;
+            }
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    action.accept(base | (word << 6) | Long.numberOfTrailingZeros(remaining));
+                    remaining &= remaining - 1;
+                }
+            }
+        }
+
+        Chunk copy() {
+            Chunk copy = new Chunk();
+            copy.values = values == null ? null : Arrays.copyOf(values, Math.max(cardinality, 1));
+            copy.bits = bits == null ? null : bits.clone();
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        static Chunk or(Chunk a, Chunk b) {
+            if (a.bits == null && b.bits == null && a.cardinality + b.cardinality <= ARRAY_LIMIT) {
+                Chunk result = new Chunk();
+                result.values = new char[Math.max(a.cardinality + b.cardinality, 1)];
+                int i = 0;
+                int j = 0;
+                while (i < a.cardinality || j < b.cardinality) {
+                    char next;
+                    if (j == b.cardinality || (i < a.cardinality && a.values[i] < b.values[j])) {
+                        next = a.values[i++];
+                    } else if (i == a.cardinality || b.values[j] < a.values[i]) {
+                        next = b.values[j++];
+                    } else {
+                        next = a.values[i++];
+                        j++;
+                    }
+                    result.values[result.cardinality++] = next;
+                }
+                return result;
+            }
+
+            long[] resultBits = a.toBits();
+            long[] otherBits = b.toBits();
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                resultBits[word] |= otherBits[word];
+            }
+            return fromBits(resultBits);
+        }
+
+        static Chunk and(Chunk a, Chunk b) {
+            if (a.bits != null && b.bits != null) {
+                long[] resultBits = new long[BITMAP_WORDS];
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    resultBits[word] = a.bits[word] & b.bits[word];
+                }
+                return fromBits(resultBits);
+            }
+
+            Chunk small = a.bits == null ? a : b;
+            Chunk large = small == a ? b : a;
+            Chunk result = new Chunk();
+            result.values = new char[Math.max(small.cardinality, 1)];
+            for (int i = 0; i < small.cardinality; i++) {
+                if (large.contains(small.values[i])) {
+                    result.values[result.cardinality++] = small.values[i];
+                }
+            }
+            return result;
+        }
+
+        static Chunk andNot(Chunk a, Chunk b) {
+            if (a.bits == null) {
+                Chunk result = new Chunk();
+                result.values = new char[Math.max(a.cardinality, 1)];
+                for (int i = 0; i < a.cardinality; i++) {
+                    if (!b.contains(a.values[i])) {
+                        result.values[result.cardinality++] = a.values[i];
+                    }
+                }
+                return result;
+            }
+
+            long[] resultBits = a.bits.clone();
+            long[] otherBits = b.toBits();
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                resultBits[word] &= ~otherBits[word];
+            }
+            return fromBits(resultBits);
+        }
+
+        private long[] toBits() {
+            if (bits != null) {
+                return bits.clone();
+            }
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                result[values[i] >>> 6] |= 1L << values[i];
+            }
+            return result;
+        }
+
+        private static Chunk fromBits(long[] bits) {
+            Chunk result = new Chunk();
+            result.bits = bits;
+            result.values = null;
+            for (long word : bits) {
+                result.cardinality += Long.bitCount(word);
+            }
+            if (result.cardinality <= ARRAY_LIMIT) {
+                result.convertToArray();
+            }
+            return result;
+        }
+
+        private void convertToBitmap() {
+            bits = toBits();
+            values = null;
+        }
+
+        private void convertToArray() {
+            char[] array = new char[Math.max(cardinality, 1)];
+            int[] count = {0};
+            forEach(0, value -> array[count[0]++] = (char) value);
+            values = array;
+            bits = null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Chunk otherChunk) || cardinality != otherChunk.cardinality) {
+                return false;
+            }
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                if (wordAt(word) != otherChunk.wordAt(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return cardinality;
+        }
+
+        private long wordAt(int word) {
+            if (bits != null) {
+                return bits[word];
+            }
+            long result = 0;
+            int from = Arrays.binarySearch(values, 0, cardinality, (char) (word << 6));
+            for (int i = from < 0 ? -from - 1 : from; i < cardinality && values[i] >>> 6 == word; i++) {
+                result |= 1L << values[i];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Computes edit distances between words without allocating, by reusing its own buffers.<br>
+ * Keywords of at most {@value #MAX_BIT_PARALLEL_LENGTH} ASCII characters are matched with Myers' bit-parallel
+ * algorithm, which processes a whole column of the edit distance table in a few word operations. Other keywords
+ * are matched with a dynamic programming table of two rows, of which only the diagonal band that can still be
+ * below the threshold is filled.<br>
+ * When a threshold is given, both algorithms stop as soon as the distance can no longer be below it.<br><br>
+ *
+ * Words are compared exactly, so callers must lower case them first for a case-insensitive comparison, e.g. with
+ * {@link StringUtil#toSearchWords(String)}. Lists of words are expected to support fast random access.
+ * A {@code FuzzyMatcher} is not thread-safe; use {@link #getInstance()} to get one for the current thread.
+ */
+public class FuzzyMatcher {
+
+    public static final int MAX_BIT_PARALLEL_LENGTH = Long.SIZE;
+    public static final String MESSAGE_CONSTRAINTS = "The threshold of a fuzzy match must be positive";
+
+    private static final int ALPHABET_SIZE = 128;
+    private static final ThreadLocal<FuzzyMatcher> INSTANCES = ThreadLocal.withInitial(FuzzyMatcher::new);
+
+    /** For each ASCII character, the positions of the current keyword at which it occurs. */
+    private final long[] positionMasks = new long[ALPHABET_SIZE];
+    private int[] previousRow = new int[16];
+    private int[] currentRow = new int[16];
+
+    /**
+     * Returns the {@code FuzzyMatcher} of the current thread.
+     */
+    public static FuzzyMatcher getInstance() {
+        return INSTANCES.get();
+    }
+
+    /**
+     * Returns the edit distance between {@code word} and {@code keyword}.
+     */
+    public int computeDistance(CharSequence word, CharSequence keyword) {
+        requireNonNull(word);
+        requireNonNull(keyword);
+        return computeBoundedDistance(word, keyword, Math.max(word.length(), keyword.length()) + 1);
+    }
+
+    /**
+     * Returns true if the edit distance between {@code word} and {@code keyword} is less than {@code threshold}.
+     */
+    public boolean isDistanceLessThan(CharSequence word, CharSequence keyword, int threshold) {
+        requireNonNull(word);
+        requireNonNull(keyword);
+        checkArgument(threshold > 0, MESSAGE_CONSTRAINTS);
+        return computeBoundedDistance(word, keyword, threshold) < threshold;
+    }
+
+    /**
+     * Returns the closeness of {@code words} to {@code keywords}, which is the largest edit distance between a
+     * keyword and the word closest to it.
+     *
+     * @see StringUtil#computeCloseness(String, String)
+     */
+    public int computeCloseness(List<String> words, List<String> keywords) {
+        requireNonNull(words);
+        requireNonNull(keywords);
+        int closeness = 0;
+        for (String keyword : keywords) {
+            int limit = keyword.length() + 1;
+            for (String word : words) {
+                limit = Math.max(limit, word.length() + 1);
+            }
+            closeness = Math.max(closeness, computeSmallestDistance(words, keyword, limit));
+        }
+        return closeness;
+    }
+
+    /**
+     * Returns true if the closeness of {@code words} to {@code keywords} is less than {@code threshold}, i.e. if
+     * every keyword is less than {@code threshold} edits away from one of the words.
+     *
+     * @see #computeCloseness(List, List)
+     */
+    public boolean isClosenessLessThan(List<String> words, List<String> keywords, int threshold) {
+        requireNonNull(words);
+        requireNonNull(keywords);
+        checkArgument(threshold > 0, MESSAGE_CONSTRAINTS);
+        for (int i = 0; i < keywords.size(); i++) {
+            if (computeSmallestDistance(words, keywords.get(i), threshold) >= threshold) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the smallest edit distance between {@code keyword} and any of {@code words}, or {@code limit} if
+     * none of them is less than {@code limit}. The keyword is only prepared once for all the words.
+     */
+    private int computeSmallestDistance(List<String> words, String keyword, int limit) {
+        if (!canMatchBitParallel(keyword)) {
+            int smallest = limit;
+            for (int i = 0; i < words.size(); i++) {
+                smallest = Math.min(smallest, computeBandedDistance(words.get(i), keyword, smallest));
+            }
+            return smallest;
+        }
+
+        preparePositionMasks(keyword);
+        int smallest = limit;
+        for (int i = 0; i < words.size(); i++) {
+            smallest = Math.min(smallest, computeBitParallelDistance(words.get(i), keyword.length(), smallest));
+            if (smallest == 0) {
+                break;
+            }
+        }
+        clearPositionMasks(keyword);
+        return smallest;
+    }
+
+    /**
+     * Returns the edit distance between {@code word} and {@code keyword}, or {@code limit} if it is not less.
+     */
+    private int computeBoundedDistance(CharSequence word, CharSequence keyword, int limit) {
+        if (!canMatchBitParallel(keyword)) {
+            return computeBandedDistance(word, keyword, limit);
+        }
+        preparePositionMasks(keyword);
+        int distance = computeBitParallelDistance(word, keyword.length(), limit);
+        clearPositionMasks(keyword);
+        return distance;
+    }
+
+    private static boolean canMatchBitParallel(CharSequence keyword) {
+        if (keyword.length() > MAX_BIT_PARALLEL_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (keyword.charAt(i) >= ALPHABET_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void preparePositionMasks(CharSequence keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            positionMasks[keyword.charAt(i)] |= 1L << i;
+        }
+    }
+
+    private void clearPositionMasks(CharSequence keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            positionMasks[keyword.charAt(i)] = 0;
+        }
+    }
+
+    /**
+     * Computes the edit distance with Myers' algorithm, in the formulation of Hyyro, using the position masks of a
+     * keyword of {@code keywordLength} characters. Bit {@code i} of the vertical (horizontal) deltas is set if the
+     * distance increases (decreases) from row {@code i} to row {@code i + 1} (column {@code j} to {@code j + 1})
+     * of the edit distance table. Returns {@code limit} if the distance is not less than {@code limit}.
+     */
+    private int computeBitParallelDistance(CharSequence word, int keywordLength, int limit) {
+        int wordLength = word.length();
+        if (Math.abs(wordLength - keywordLength) >= limit) {
+            return limit;
+        }
+        if (keywordLength == 0) {
+            return wordLength;
+        }
+
+        long lastRow = 1L << (keywordLength - 1);
+        long positiveVertical = -1L;
+        long negativeVertical = 0;
+        int distance = keywordLength;
+        for (int j = 0; j < wordLength; j++) {
+            char c = word.charAt(j);
+            long matches = c < ALPHABET_SIZE ? positionMasks[c] : 0;
+            long verticalChanges = matches | negativeVertical;
+            long horizontalChanges = (((matches & positiveVertical) + positiveVertical) ^ positiveVertical) | matches;
+            long positiveHorizontal = negativeVertical | ~(horizontalChanges | positiveVertical);
+            long negativeHorizontal = positiveVertical & horizontalChanges;
+
+            if ((positiveHorizontal & lastRow) != 0) {
+                distance++;
+            } else if ((negativeHorizontal & lastRow) != 0) {
+                distance--;
+            }
+            // Each remaining character can lower the distance by at most one.
+            if (distance - (wordLength - j - 1) >= limit) {
+                return limit;
+            }
+
+            // The first row of the table increases by one in every column.
+            positiveHorizontal = (positiveHorizontal << 1) | 1;
+            negativeHorizontal = negativeHorizontal << 1;
+            positiveVertical = negativeHorizontal | ~(verticalChanges | positiveHorizontal);
+            negativeVertical = positiveHorizontal & verticalChanges;
+        }
+        return Math.min(distance, limit);
+    }
+
+    /**
+     * Computes the edit distance with a table of two rows, filling only the cells at most {@code limit - 1} away
+     * from the diagonal since the others cannot lead to a distance less than {@code limit}. Returns {@code limit}
+     * if the distance is not less than {@code limit}.
+     */
+    private int computeBandedDistance(CharSequence word, CharSequence keyword, int limit) {
+        int wordLength = word.length();
+        int keywordLength = keyword.length();
+        int band = limit - 1;
+        if (Math.abs(wordLength - keywordLength) > band) {
+            return limit;
+        }
+        ensureRowCapacity(wordLength + 1);
+
+        for (int j = 0; j <= wordLength; j++) {
+            previousRow[j] = Math.min(j, limit);
+        }
+        for (int i = 1; i <= keywordLength; i++) {
+            int from = Math.max(1, i - band);
+            int to = Math.min(wordLength, i + band);
+            currentRow[0] = Math.min(i, limit);
+            if (from > 1) {
+                currentRow[from - 1] = limit;
+            }
+
+            int smallestInRow = currentRow[from - 1];
+            char keywordChar = keyword.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int replace = previousRow[j - 1] + (word.charAt(j - 1) == keywordChar ? 0 : 1);
+                int delete = previousRow[j] + 1;
+                int insert = currentRow[j - 1] + 1;
+                currentRow[j] = Math.min(limit, Math.min(replace, Math.min(delete, insert)));
+                smallestInRow = Math.min(smallestInRow, currentRow[j]);
+            }
+            if (to < wordLength) {
+                currentRow[to + 1] = limit;
+            }
+            if (smallestInRow >= limit) {
+                return limit;
+            }
+
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[wordLength];
+    }
+
+    private void ensureRowCapacity(int capacity) {
+        if (previousRow.length < capacity) {
+            int newCapacity = Math.max(capacity, previousRow.length * 2);
+            previousRow = Arrays.copyOf(previousRow, newCapacity);
+            currentRow = Arrays.copyOf(currentRow, newCapacity);
+        }
+    }
+}
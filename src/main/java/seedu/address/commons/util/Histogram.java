@@ -0,0 +1,170 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records the distribution of non-negative {@code long} values (e.g. durations in nanoseconds) in the style of an
+ * HDR histogram.<br>
+ * Values below {@code 2 * SUB_BUCKET_COUNT} are counted exactly. Larger values are counted in buckets whose width
+ * doubles with every power of two, so that any recorded value is reported with a relative error of less than
+ * {@code 1 / SUB_BUCKET_COUNT} no matter how large it is. Memory use grows only with the largest value recorded.
+ */
+public class Histogram {
+
+    public static final String MESSAGE_CONSTRAINTS = "Values recorded in a histogram must not be negative";
+    public static final String MESSAGE_PERCENTILE_CONSTRAINTS = "Percentiles must be between 0 and 100";
+
+    /** Number of equally wide buckets that each power of two is split into. */
+    private static final int SUB_BUCKET_COUNT = 32;
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+
+    private long[] counts = new long[2 * SUB_BUCKET_COUNT];
+    private long totalCount = 0;
+    private long sum = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    /**
+     * Records one occurrence of {@code value}.
+     */
+    public void record(long value) {
+        checkArgument(value >= 0, MESSAGE_CONSTRAINTS);
+        int index = indexOf(value);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + SUB_BUCKET_COUNT));
+        }
+        counts[index]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the smallest value recorded, or 0 if nothing has been recorded.
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of all values recorded, or 0 if nothing has been recorded.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the recorded values are less than or equal to, rounded
+     * up to the largest value of its bucket. Returns 0 if nothing has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, MESSAGE_PERCENTILE_CONSTRAINTS);
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(Math.max(highestValueOf(i), min), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the non-empty buckets of this histogram in ascending order of value.
+     */
+    public List<Bucket> getBuckets() {
+        List<Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                buckets.add(new Bucket(lowestValueOf(i), highestValueOf(i), counts[i]));
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Returns the index of the bucket that {@code value} is counted in.
+     */
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Shift the value so that it lies in [SUB_BUCKET_COUNT, 2 * SUB_BUCKET_COUNT).
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKET_COUNT + (subBucket - SUB_BUCKET_COUNT);
+    }
+
+    static long lowestValueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return subBucket << shift;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        return lowestValueOf(index) + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", totalCount)
+                .add("min", getMin())
+                .add("p50", getValueAtPercentile(50))
+                .add("p99", getValueAtPercentile(99))
+                .add("max", max)
+                .toString();
+    }
+
+    /**
+     * The number of recorded values that fall in {@code [lowestValue, highestValue]}.
+     */
+    public static class Bucket {
+        private final long lowestValue;
+        private final long highestValue;
+        private final long count;
+
+        Bucket(long lowestValue, long highestValue, long count) {
+            this.lowestValue = lowestValue;
+            this.highestValue = highestValue;
+            this.count = count;
+        }
+
+        public long getLowestValue() {
+            return lowestValue;
+        }
+
+        public long getHighestValue() {
+            return highestValue;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -63,7 +64,7 @@ public class JsonUtil {
         if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-        logger.info("JSON file " + filePath + " found.");
+        logger.info(() -> "JSON file " + filePath + " found.");
 
         T jsonFile;
 
@@ -91,6 +92,19 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a {@code JsonGenerator} that writes to the specified file in the same format as
+     * {@link #saveJsonFile(Object, Path)}, for data that is too large to be converted to a string in one go.
+     * Objects written with {@link JsonGenerator#writeObject(Object)} are serialized in the same way as by
+     * {@link #saveJsonFile(Object, Path)}. The generator must be closed to finish writing the file.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened for writing
+     */
+    public static JsonGenerator createJsonFileGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory().createGenerator(Files.newBufferedWriter(filePath)).useDefaultPrettyPrinter();
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
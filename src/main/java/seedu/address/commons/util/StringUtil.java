@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -36,7 +38,7 @@ public class StringUtil {
 
         return isEdgeCase ? Arrays.stream(wordsInPreppedSentence).anyMatch(wordInPreppedSentence ->
                 wordInPreppedSentence.length() == 1 ? wordInPreppedSentence.equalsIgnoreCase(preppedWord)
-                        : computeCloseness(wordInPreppedSentence, preppedWord) < threshold)
+                        : isClosenessLessThan(wordInPreppedSentence, preppedWord, threshold))
                 : Arrays.stream(wordsInPreppedSentence).anyMatch(preppedWord::equalsIgnoreCase);
     }
 
@@ -70,42 +72,10 @@ public class StringUtil {
     }
 
     /**
-     * Builds the 2D dynamic programming array to compute the edit distance between two words
-     * @param w1 The first word
-     * @param w2 The second word
-     * @return The fully filled 2D table
-     */
-    private static int[][] buildEditDistanceTable(String w1, String w2) {
-        int[][] dp = new int[w1.length() + 1][w2.length() + 1];
-
-        // Base cases, if one string is empty, return the length of the other string
-        for (int i = 0; i <= w1.length(); i++) {
-            dp[i][0] = i;
-        }
-
-        for (int j = 0; j <= w2.length(); j++) {
-            dp[0][j] = j;
-        }
-
-        // Build the table bottom-up
-        for (int i = 1; i <= w1.length(); i++) {
-            for (int j = 1; j <= w2.length(); j++) {
-                if (w1.charAt(i - 1) == w2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    int insertOp = dp[i][j - 1] + 1;
-                    int deleteOp = dp[i - 1][j] + 1;
-                    int replaceOp = dp[i - 1][j - 1] + 1;
-
-                    dp[i][j] = Math.min(insertOp, Math.min(deleteOp, replaceOp));
-                }
-            }
-        }
-        return dp;
-    }
-
-    /**
-     * Returns the edit distance between two words.<br><br>
+     * Computes the closeness of a String to the user's keyword.<br>
+     * Split the keywords and the String into words, find the smallest edit distance from each word of the keywords
+     * to any word of the String, and return the largest of these distances. This returns 0 if every word of the
+     * keywords is also a word of the String.<br><br>
      *
      * The <b>edit distance</b> between two words is the smallest number of
      * operations on the first word to get to the second word. The operations include:<br>
@@ -117,47 +87,66 @@ public class StringUtil {
      *
      * Edit distance is case-insensitive, so Strings like "hello" and "HELLO" will be considered identical.
      *
-     * @param word1 The first word
-     * @param word2 The second word
-     * @return The edit distance between two words
-     */
-    private static double getEditDistance(String word1, String word2) {
-        word1 = (" " + word1).toLowerCase();
-        word2 = (" " + word2).toLowerCase();
-
-        int[][] dp = buildEditDistanceTable(word1, word2);
-
-        return dp[word1.length()][word2.length()];
-    }
-
-    /**
-     * Computes the closeness of a String to the user's keyword.<br>
-     * This returns 0 if the keyword is contained within the String.<br>
-     * Else, split the keywords and the String into two String arrays and perform matching for each word
-     * in the keywords, sum the edit distances for each keyword, and return this value.
-     *
      * @param stringToCompareTo The String to compare the keywords to
      * @param keyword The user's keyword(s), which can be one word or multiple words separated by whitespace
      * @return The closeness of the task's description to the user's keyword
      */
     public static double computeCloseness(String stringToCompareTo, String keyword) {
-        String[] keywordWords = keyword.split("\\s+");
-        String[] descriptionWords = stringToCompareTo.split("\\s+");
+        return FuzzyMatcher.getInstance().computeCloseness(toSearchWords(stringToCompareTo),
+                toSearchWords(keyword));
+    }
 
-        double distance = 0;
+    /**
+     * Returns true if the closeness of a String to the user's keyword is less than {@code threshold}.<br>
+     * This is equivalent to {@code computeCloseness(stringToCompareTo, keyword) < threshold}, but stops comparing
+     * words as soon as the answer is known.
+     *
+     * @see #computeCloseness(String, String)
+     */
+    public static boolean isClosenessLessThan(String stringToCompareTo, String keyword, int threshold) {
+        return FuzzyMatcher.getInstance().isClosenessLessThan(toSearchWords(stringToCompareTo),
+                toSearchWords(keyword), threshold);
+    }
 
-        // for each keyword word, compute the smallest edit distance to any of the description word
-        for (String kw : keywordWords) {
-            double minDistanceToKw = Double.MAX_VALUE;
+    /**
+     * Splits {@code s} into the words that keywords are matched against: in lower case, and with accented
+     * characters in the same (composed) Unicode form whichever way they were typed.
+     */
+    public static List<String> toSearchWords(String s) {
+        requireNonNull(s);
+        return List.of(Normalizer.normalize(s, Normalizer.Form.NFC).toLowerCase().split("\\s+"));
+    }
 
-            for (String dw : descriptionWords) {
-                minDistanceToKw = Math.min(minDistanceToKw, getEditDistance(dw, kw));
+    /**
+     * Returns true if {@code words} contains {@code word}.
+     * Both are expected to be search words, as given by {@link #toSearchWords(String)}.
+     */
+    public static boolean containsWord(List<String> words, String word) {
+        requireNonNull(word);
+        for (int i = 0; i < words.size(); i++) {
+            if (words.get(i).equals(word)) {
+                return true;
             }
-
-            distance = Math.max(distance, minDistanceToKw);
         }
+        return false;
+    }
 
-        return distance;
+    /**
+     * Returns true if one of {@code words} is less than {@code threshold} edits away from {@code word}.
+     * Words of a single character must match exactly, like in {@link #containsWordIgnoreCase}.
+     * Both are expected to be search words, as given by {@link #toSearchWords(String)}.
+     */
+    public static boolean containsCloseWord(List<String> words, String word, int threshold) {
+        requireNonNull(word);
+        FuzzyMatcher matcher = FuzzyMatcher.getInstance();
+        for (int i = 0; i < words.size(); i++) {
+            String candidate = words.get(i);
+            if (candidate.length() == 1 ? candidate.equals(word)
+                    : matcher.isDistanceLessThan(candidate, word, threshold)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
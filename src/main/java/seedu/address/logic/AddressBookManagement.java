@@ -0,0 +1,193 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Implements the {@link ManagedAddressBook} of a {@code LogicManager} and its {@code Model}.<br>
+ * JMX calls arrive on their own threads, so everything that reads or changes the model is run by the executor that
+ * runs the commands (i.e. the JavaFX application thread).
+ */
+public class AddressBookManagement implements ManagedAddressBook {
+
+    public static final String OBJECT_NAME = "seedu.address:type=AddressBook";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookManagement.class);
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LogicManager logic;
+    private final Model model;
+    private final Executor modelExecutor;
+
+    /**
+     * Creates a management interface for {@code logic} and its {@code model}, which are only accessed through
+     * {@code modelExecutor}.
+     */
+    public AddressBookManagement(LogicManager logic, Model model, Executor modelExecutor) {
+        requireAllNonNull(logic, model, modelExecutor);
+        this.logic = logic;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Registers this management interface with the platform MBean server under {@link #OBJECT_NAME}.
+     * Failures are logged, as the application works without it.
+     */
+    public void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            logger.warning("Could not register the management interface: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Unregisters the management interface registered under {@link #OBJECT_NAME}, if any.
+     */
+    public static void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            logger.warning("Could not unregister the management interface: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public int getContactCount() {
+        return onModelThread(() -> model.getAddressBook().getPersonList().size());
+    }
+
+    @Override
+    public int getShownContactCount() {
+        return onModelThread(() -> model.getFilteredPersonList().size());
+    }
+
+    @Override
+    public int getUndoDepth() {
+        return onModelThread(model::getUndoableCount);
+    }
+
+    @Override
+    public int getRedoDepth() {
+        return onModelThread(model::getRedoableCount);
+    }
+
+    @Override
+    public long getHistoryEstimatedBytes() {
+        return onModelThread(model::estimateHistoryBytes);
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return onModelThread(() -> logic.getLastSaveNanos() / NANOS_PER_MILLI);
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return onModelThread(logic::getLastSaveBytes);
+    }
+
+    @Override
+    public int getPendingUnsavedChanges() {
+        return onModelThread(logic::getUnsavedCommandCount);
+    }
+
+    @Override
+    public long getFilterCacheHitCount() {
+        return onModelThread(model::getFilterCacheHitCount);
+    }
+
+    @Override
+    public long getFilterCacheMissCount() {
+        return onModelThread(model::getFilterCacheMissCount);
+    }
+
+    @Override
+    public double getFilterCacheHitRate() {
+        return onModelThread(() -> {
+            long lookupCount = model.getFilterCacheHitCount() + model.getFilterCacheMissCount();
+            return lookupCount == 0 ? 0 : (double) model.getFilterCacheHitCount() / lookupCount;
+        });
+    }
+
+    @Override
+    public long getDroppedLogRecords() {
+        return LogsCenter.getDroppedLogCount();
+    }
+
+    @Override
+    public void flushNow() throws IOException {
+        String error = onModelThread(() -> {
+            try {
+                logic.saveAddressBook();
+                return null;
+            } catch (CommandException e) {
+                return e.getMessage();
+            }
+        });
+        if (error != null) {
+            throw new IOException(error);
+        }
+        logger.info("Address book saved through the management interface");
+    }
+
+    @Override
+    public int trimHistory() {
+        int discardedCount = onModelThread(model::trimHistory);
+        logger.info("Discarded " + discardedCount + " states of the history through the management interface");
+        return discardedCount;
+    }
+
+    @Override
+    public void rebuildIndexes() {
+        onModelThread(() -> {
+            model.rebuildIndexes();
+            return null;
+        });
+        logger.info("Rebuilt the indexes through the management interface");
+    }
+
+    /**
+     * Returns the result of running {@code task} with the model executor, waiting for at most
+     * {@link #TIMEOUT_SECONDS}.
+     */
+    private <T> T onModelThread(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, modelExecutor).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the application", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("The application did not respond in " + TIMEOUT_SECONDS + " seconds");
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Person;
+
+/**
+ * Previews the persons that a {@code find} or {@code filter} command would show while it is being typed.<br>
+ * The command is only parsed and tested once the text has not changed for {@link #DEBOUNCE_MILLIS}, on a
+ * background thread, so typing is never held up by it. A newer text cancels the evaluation of an older one, and
+ * an evaluation that finishes after the text changed is discarded. Texts of other commands hide the preview at once.
+ * <br>
+ * Evaluations test a copy of the persons, which is made once after the persons change (i.e. after each command
+ * that changes them) rather than while typing.<br>
+ * Every method must be called on the thread that changes the persons (i.e. the JavaFX application thread), which is
+ * also the thread the {@link Listener} is told of the previews on.
+ */
+public class LivePreview {
+
+    public static final long DEBOUNCE_MILLIS = 150;
+
+    /** The number of persons tested between checks of whether the evaluation was cancelled. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final ObservableList<Person> persons;
+    private final Function<String, Optional<Predicate<Person>>> filterParser;
+    private final Executor listenerExecutor;
+    private final Listener listener;
+    private final ScheduledExecutorService evaluator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Counts the texts previewed, so that evaluations of older texts can tell that they are stale. */
+    private final AtomicLong generation = new AtomicLong();
+    /** A copy of {@code persons} that evaluations can read while the persons change. */
+    private List<Person> snapshot;
+    private boolean isSnapshotScheduled = false;
+    private Future<?> pendingEvaluation;
+
+    /**
+     * Creates a preview of the persons in {@code persons} that pass the predicates given by {@code filterParser},
+     * which must be safe to call and to test from a background thread. {@code listener} is told of the previews
+     * through {@code listenerExecutor}.
+     */
+    public LivePreview(ObservableList<Person> persons, Function<String, Optional<Predicate<Person>>> filterParser,
+            Executor listenerExecutor, Listener listener) {
+        requireAllNonNull(persons, filterParser, listenerExecutor, listener);
+        this.persons = persons;
+        this.filterParser = filterParser;
+        this.listenerExecutor = listenerExecutor;
+        this.listener = listener;
+        this.snapshot = List.copyOf(persons);
+        persons.addListener((ListChangeListener<Person>) change -> scheduleSnapshot());
+    }
+
+    /**
+     * Copies the persons once the current changes are done, e.g. after the command that changes them, so that
+     * a command that makes many changes is copied once.
+     */
+    private void scheduleSnapshot() {
+        snapshot = null;
+        if (isSnapshotScheduled) {
+            return;
+        }
+        isSnapshotScheduled = true;
+        listenerExecutor.execute(() -> {
+            isSnapshotScheduled = false;
+            if (snapshot == null) {
+                snapshot = List.copyOf(persons);
+            }
+        });
+    }
+
+    /**
+     * Returns true if {@code commandText} is of a command that can be previewed, i.e. {@code find} or
+     * {@code filter}.
+     */
+    private static boolean isPreviewable(String commandText) {
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        return commandWord.equals(FindCommand.COMMAND_WORD) || commandWord.equals(FilterCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Previews {@code commandText} once it has not changed for {@link #DEBOUNCE_MILLIS}, cancelling the preview of
+     * the previous text. A text that is not of a {@code find} or {@code filter} command hides the preview at once.
+     */
+    public void update(String commandText) {
+        cancelPendingEvaluation();
+        long textGeneration = generation.incrementAndGet();
+        if (!isPreviewable(commandText)) {
+            listener.hidePreview();
+            return;
+        }
+
+        if (snapshot == null) {
+            // The persons changed and were not copied yet, which only happens if typing comes before the copy.
+            snapshot = List.copyOf(persons);
+        }
+        List<Person> personsToTest = snapshot;
+        pendingEvaluation = evaluator.schedule(() -> evaluate(commandText, personsToTest, textGeneration),
+                DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the preview of the current text and hides the preview, e.g. when the command is executed.
+     */
+    public void cancel() {
+        cancelPendingEvaluation();
+        generation.incrementAndGet();
+        listener.hidePreview();
+    }
+
+    private void cancelPendingEvaluation() {
+        if (pendingEvaluation != null) {
+            pendingEvaluation.cancel(true);
+            pendingEvaluation = null;
+        }
+    }
+
+    /**
+     * Tests {@code personsToTest} with the predicate of {@code commandText}, and passes the persons that pass it on
+     * to the listener unless a newer text was previewed in the meantime.
+     */
+    private void evaluate(String commandText, List<Person> personsToTest, long textGeneration) {
+        Optional<Predicate<Person>> predicate = filterParser.apply(commandText);
+        if (predicate.isEmpty()) {
+            publish(textGeneration, null);
+            return;
+        }
+
+        List<Person> passing = new ArrayList<>();
+        for (int i = 0; i < personsToTest.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            Person person = personsToTest.get(i);
+            if (predicate.get().test(person)) {
+                passing.add(person);
+            }
+        }
+        publish(textGeneration, passing);
+    }
+
+    /**
+     * Shows {@code passing} as the preview, or hides the preview if it is null, if {@code textGeneration} is still
+     * the text being previewed when the listener gets to it.
+     */
+    private void publish(long textGeneration, List<Person> passing) {
+        listenerExecutor.execute(() -> {
+            if (textGeneration != generation.get()) {
+                return;
+            }
+            if (passing == null) {
+                listener.hidePreview();
+            } else {
+                listener.showPreview(passing);
+            }
+        });
+    }
+
+    /**
+     * Shows the previews to the user.
+     */
+    public interface Listener {
+        /**
+         * Shows {@code persons} in place of the persons shown by the model until {@link #hidePreview()} is called.
+         */
+        void showPreview(List<Person> persons);
+
+        /**
+         * Shows the persons shown by the model again, if a preview was shown.
+         */
+        void hidePreview();
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.FacetCounts;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -23,6 +26,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the predicate that the {@code find} or {@code filter} command in {@code commandText} would show the
+     * persons by, without executing it, or an empty {@code Optional} if it is not a valid one of those commands.
+     * It may be called from any thread.
+     */
+    Optional<Predicate<Person>> parseFilter(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +43,12 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the tag and email domain counts of all the persons in the address book */
+    FacetCounts getFacetCounts();
+
+    /** Returns the tag and email domain counts of the persons in the filtered list */
+    FacetCounts getShownFacetCounts();
+
     /**
      * Returns the user prefs' address book file path.
      */
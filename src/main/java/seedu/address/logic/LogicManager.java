@@ -3,18 +3,28 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.Measurement;
+import seedu.address.commons.core.CommandMetrics.Phase;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.FacetCounts;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -33,6 +43,11 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    private boolean hasSaved = false;
+    private long lastSaveNanos = 0;
+    private long lastSaveBytes = 0;
+    private int unsavedCommandCount = 0;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -44,12 +59,79 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = CommandMetrics.INVALID_COMMAND_WORD;
+        CommandMetrics.startCommand();
+        CommandMetrics.setCurrentCommandWord(commandText.trim().split("\\s+", 2)[0]);
+        try {
+            Command command;
+            try (Measurement measurement = CommandMetrics.measure(Phase.PARSE)) {
+                command = addressBookParser.parseCommand(commandText);
+            }
+            commandWord = CommandMetrics.getCurrentCommandWord();
+
+            ReadOnlyUserPrefs userPrefsBefore = new UserPrefs(model.getUserPrefs());
+            CommandResult commandResult;
+            boolean hasChanges;
+            try (Measurement measurement = CommandMetrics.measure(Phase.EXECUTE)) {
+                boolean isExecuted = false;
+                try {
+                    commandResult = command.execute(model);
+                    isExecuted = true;
+                } finally {
+                    hasChanges = model.publishChanges();
+                    if (!isExecuted && hasChanges) {
+                        // The command changed the persons before it failed, so they are saved by the next command.
+                        unsavedCommandCount++;
+                    }
+                }
+            }
+
+            // The data file only has to be written again if the persons changed, or if it may not be up to date.
+            if (hasChanges || !hasSaved || unsavedCommandCount > 0) {
+                try (Measurement measurement = CommandMetrics.measure(Phase.SAVE)) {
+                    saveAddressBook();
+                } catch (CommandException e) {
+                    // Only the commands that changed the persons have changes left unsaved.
+                    if (hasChanges) {
+                        unsavedCommandCount++;
+                    }
+                    throw e;
+                }
+            }
+            // Preferences changed by a command, such as a saved view, are saved at once rather than when the app stops.
+            if (!userPrefsBefore.equals(model.getUserPrefs())) {
+                saveUserPrefs();
+            }
+
+            return commandResult;
+        } finally {
+            CommandMetrics.finishCommand(commandWord);
+        }
+    }
 
+    @Override
+    public Optional<Predicate<Person>> parseFilter(String commandText) {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+        if (command instanceof FindCommand findCommand) {
+            return Optional.of(findCommand.getPredicate());
+        } else if (command instanceof FilterCommand filterCommand) {
+            return Optional.of(filterCommand.getPredicate());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Saves the address book to its data file, and records how long that took.
+     */
+    void saveAddressBook() throws CommandException {
+        long startNanos = System.nanoTime();
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -57,8 +139,42 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        hasSaved = true;
+        lastSaveNanos = System.nanoTime() - startNanos;
+        lastSaveBytes = storage.getAddressBookFilePath().toFile().length();
+        unsavedCommandCount = 0;
+    }
 
-        return commandResult;
+    /**
+     * Saves the user prefs to their file.
+     */
+    private void saveUserPrefs() throws CommandException {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+    }
+
+    /**
+     * Returns how long the last successful save of the address book took, in nanoseconds.
+     */
+    long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /**
+     * Returns the size of the data file after the last successful save, in bytes.
+     */
+    long getLastSaveBytes() {
+        return lastSaveBytes;
+    }
+
+    /**
+     * Returns the number of commands whose changes could not be saved since the last successful save.
+     */
+    int getUnsavedCommandCount() {
+        return unsavedCommandCount;
     }
 
     @Override
@@ -71,6 +187,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public FacetCounts getFacetCounts() {
+        return model.getFacetCounts();
+    }
+
+    @Override
+    public FacetCounts getShownFacetCounts() {
+        return model.getShownFacetCounts();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -0,0 +1,63 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import javax.management.MXBean;
+
+/**
+ * The JMX management interface of the running application, which exposes the state of the address book, its
+ * history and its storage to monitoring tools such as JConsole.
+ */
+@MXBean
+public interface ManagedAddressBook {
+
+    /** Returns the number of contacts in the address book. */
+    int getContactCount();
+
+    /** Returns the number of contacts currently shown. */
+    int getShownContactCount();
+
+    /** Returns the number of modifications that can be undone. */
+    int getUndoDepth();
+
+    /** Returns the number of undone modifications that can be redone. */
+    int getRedoDepth();
+
+    /** Returns an estimate of the memory used by the undo and redo history, in bytes. */
+    long getHistoryEstimatedBytes();
+
+    /** Returns how long the last successful save of the address book took, in milliseconds. */
+    double getLastSaveMillis();
+
+    /** Returns the size of the data file after the last successful save, in bytes. */
+    long getLastSaveBytes();
+
+    /** Returns the number of commands whose changes have not been saved because saving failed. */
+    int getPendingUnsavedChanges();
+
+    /** Returns the number of filters whose contacts were found in the cache of recent filter results. */
+    long getFilterCacheHitCount();
+
+    /** Returns the number of filters whose contacts were not in the cache of recent filter results. */
+    long getFilterCacheMissCount();
+
+    /** Returns the fraction of filters whose contacts were found in the cache, or 0 if there were none yet. */
+    double getFilterCacheHitRate();
+
+    /** Returns the number of log records dropped because they were logged faster than they could be written. */
+    long getDroppedLogRecords();
+
+    /**
+     * Saves the address book to its data file now.
+     * @throws IOException if the address book could not be saved.
+     */
+    void flushNow() throws IOException;
+
+    /**
+     * Discards the undo and redo history.
+     * @return the number of states of the address book that were discarded.
+     */
+    int trimHistory();
+
+    /** Discards the indexes used to filter contacts and builds them again from the address book. */
+    void rebuildIndexes();
+}
@@ -5,19 +5,18 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Objects;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.modifications.BulkDeleteMod;
 import seedu.address.model.modifications.DeleteMod;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.predicate.EmailIsKeywordPredicate;
-import seedu.address.model.predicate.PhoneIsKeywordPredicate;
 
 /**
  * Deletes a person identified using it's displayed index from the address book.
@@ -25,6 +24,7 @@ import seedu.address.model.predicate.PhoneIsKeywordPredicate;
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
+    public static final String KEYWORD_ALL = "all";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the person identified by his/her unique identifier.\n"
@@ -35,42 +35,72 @@ public class DeleteCommand extends Command {
             + "- Deletion by email or phone number is regardless of what filter is applied and what is displayed. "
             + "For example, suppose after a call to 'find' or 'filter', person A is not displayed. "
             + "Deletion by person A's email or phone number is still allowed.\n"
+            + "- Deletion of a range of indexes, or of '" + KEYWORD_ALL + "', deletes those persons of the currently "
+            + "filtered model at once, and is undone at once.\n"
             + "NOTE: Only supply exactly ONE attribute for deletion.\n"
-            + "Parameters: [INDEX] (must be a positive integer) ["
+            + "Parameters: [INDEX] (must be a positive integer) [FIRST_INDEX-LAST_INDEX] [" + KEYWORD_ALL + "] ["
             + PREFIX_PHONE + "PHONE_NUMBER] ["
             + PREFIX_EMAIL + "EMAIL]\n"
             + "Example: " + COMMAND_WORD + " 1\n"
+            + "or: " + COMMAND_WORD + " 2-5\n"
+            + "or: " + COMMAND_WORD + " " + KEYWORD_ALL + "\n"
             + "or: " + COMMAND_WORD + " " + PREFIX_PHONE + "98761234\n"
             + "or: " + COMMAND_WORD + " " + PREFIX_EMAIL + "ilovecraftconnect@gmail.com";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d persons";
+    public static final String MESSAGE_NO_PERSONS_SHOWN = "There are no persons shown to delete.";
     public static final String MESSAGE_TOO_MANY_ATTRIBUTES_SPECIFIED = "Too many attributes specified!\n%1$s";
     public static final String MESSAGE_NOT_UNIQUE_ATTRIBUTE_DETECTED = "A non-unique attribute is detected!\n%1s";
     public static final String MESSAGE_NO_PERSON_WITH_MATCHING_EMAIL = "No person with matching email address.";
     public static final String MESSAGE_NO_PERSON_WITH_MATCHING_PHONE = "No person with matching phone number.";
 
     private enum DeletionType {
-        BY_INDEX, BY_EMAIL, BY_PHONE
+        BY_INDEX, BY_RANGE, ALL_SHOWN, BY_EMAIL, BY_PHONE
     }
 
     private final Object target;
+    private final Index rangeEnd;
     private final DeletionType deletionAttribute;
 
+    /**
+     * Initialises a DeleteCommand that deletes all the persons in the currently filtered model.
+     */
+    public DeleteCommand() {
+        this.target = null;
+        this.rangeEnd = null;
+        this.deletionAttribute = DeletionType.ALL_SHOWN;
+    }
+
     /**
      * Initialises a DeleteCommand with a target index.
      * @param targetIndex The index of the person to delete.
      */
     public DeleteCommand(Index targetIndex) {
         this.target = targetIndex;
+        this.rangeEnd = null;
         this.deletionAttribute = DeletionType.BY_INDEX;
     }
 
+    /**
+     * Initialises a DeleteCommand with a range of target indexes.
+     * @param firstIndex The index of the first person to delete.
+     * @param lastIndex The index of the last person to delete, which must not be before {@code firstIndex}.
+     */
+    public DeleteCommand(Index firstIndex, Index lastIndex) {
+        assert firstIndex.getZeroBased() <= lastIndex.getZeroBased() : "Range of indexes cannot be empty";
+        this.target = firstIndex;
+        this.rangeEnd = lastIndex;
+        this.deletionAttribute = DeletionType.BY_RANGE;
+    }
+
     /**
      * Initialises a DeleteCommand with a target email address.
      * @param email The email address of the person to delete.
      */
     public DeleteCommand(Email email) {
         this.target = email;
+        this.rangeEnd = null;
         this.deletionAttribute = DeletionType.BY_EMAIL;
     }
 
@@ -80,27 +110,10 @@ public class DeleteCommand extends Command {
      */
     public DeleteCommand(Phone phone) {
         this.target = phone;
+        this.rangeEnd = null;
         this.deletionAttribute = DeletionType.BY_PHONE;
     }
 
-    /**
-     * Returns the first person whose information matches the given predicate.<br>
-     * Ideally, this is used for searching a unique person, so the supplied predicate should
-     * be related to a person's unique attribute, such as phone number and email address.
-     *
-     * @param people The list of Person
-     * @param predicate The predicate that acts on a Person object
-     * @return The first person whose information matches the predicate.
-     */
-    private Person find(List<Person> people, Predicate<Person> predicate) {
-        for (Person person : people) {
-            if (predicate.test(person)) {
-                return person;
-            }
-        }
-        return null;
-    }
-
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -119,13 +132,28 @@ public class DeleteCommand extends Command {
             model.commitAddressBook(new DeleteMod(personToDelete));
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         }
+        case BY_RANGE -> {
+            Index firstIndex = (Index) target;
+
+            if (rangeEnd.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+
+            return deleteAll(model, lastShownList.subList(firstIndex.getZeroBased(), rangeEnd.getOneBased()));
+        }
+        case ALL_SHOWN -> {
+            if (lastShownList.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_PERSONS_SHOWN);
+            }
+
+            return deleteAll(model, lastShownList);
+        }
         case BY_EMAIL -> {
             // deletion by email works even if the filtered list does not have the matching email
-            // because each email is uniquely bounded to one person
-            // thus, restore the unfiltered address book before checking email existence
-            model.updateFilteredPersonList(person -> true);
+            // because each email is uniquely bounded to one person, who is looked up by email
+            // the unfiltered address book is shown after a successful deletion
             Email targetEmail = (Email) target;
-            Person personToDelete = find(lastShownList, new EmailIsKeywordPredicate(targetEmail.value));
+            Person personToDelete = model.findPersonByEmail(targetEmail);
 
             if (personToDelete == null) {
                 throw new CommandException(DeleteCommand.MESSAGE_NO_PERSON_WITH_MATCHING_EMAIL);
@@ -133,15 +161,15 @@ public class DeleteCommand extends Command {
 
             model.deletePerson(personToDelete);
             model.commitAddressBook(new DeleteMod(personToDelete));
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         }
         case BY_PHONE -> {
             // deletion by phone number works even if the filtered list does not have the matching phone number
-            // because each phone number is uniquely bounded to one person
-            // thus, restore the unfiltered address book before checking phone number existence
-            model.updateFilteredPersonList(person -> true);
+            // because each phone number is uniquely bounded to one person, who is looked up by phone number
+            // the unfiltered address book is shown after a successful deletion
             Phone targetPhone = (Phone) target;
-            Person personToDelete = find(lastShownList, new PhoneIsKeywordPredicate(targetPhone.value));
+            Person personToDelete = model.findPersonByPhone(targetPhone);
 
             if (personToDelete == null) {
                 throw new CommandException(DeleteCommand.MESSAGE_NO_PERSON_WITH_MATCHING_PHONE);
@@ -149,6 +177,7 @@ public class DeleteCommand extends Command {
 
             model.deletePerson(personToDelete);
             model.commitAddressBook(new DeleteMod(personToDelete));
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         }
         default -> {
@@ -159,6 +188,17 @@ public class DeleteCommand extends Command {
         throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
     }
 
+    /**
+     * Deletes {@code personsToDelete} as one change of the model, which is undone at once.
+     * They are copied first, as they may be a view of the filtered person list that the deletion changes.
+     */
+    private static CommandResult deleteAll(Model model, List<Person> personsToDelete) {
+        List<Person> deletedPersons = List.copyOf(personsToDelete);
+        model.deletePersons(deletedPersons);
+        model.commitAddressBook(new BulkDeleteMod(deletedPersons));
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, deletedPersons.size()));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -171,13 +211,16 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return target.equals(otherDeleteCommand.target);
+        return deletionAttribute == otherDeleteCommand.deletionAttribute
+                && Objects.equals(target, otherDeleteCommand.target)
+                && Objects.equals(rangeEnd, otherDeleteCommand.rangeEnd);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("target", target)
+                .add("rangeEnd", rangeEnd)
                 .toString();
     }
 }
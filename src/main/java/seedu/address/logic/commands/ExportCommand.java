@@ -6,6 +6,7 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import seedu.address.commons.jfr.ExportEvent;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ExportCommandParser;
@@ -113,8 +114,15 @@ public class ExportCommand extends FileBasedCommand {
         // do the rest
         Path exportedDataFile = userDirectory.resolve(DEFAULT_EXPORT_FILE_NAME);
 
+        ExportEvent event = new ExportEvent(exportedDataFile.toString());
+        event.begin();
         try {
             storage.saveAddressBook(model.getAddressBook(), exportedDataFile);
+            if (event.shouldCommit()) {
+                event.setPersonCount(model.getAddressBook().getPersonList().size());
+                event.setBytesWritten(exportedDataFile.toFile().length());
+                event.commit();
+            }
             return new CommandResult(String.format(MESSAGE_SUCCESS, exportedDataFile));
         } catch (IOException e) {
             throw new CommandException(generateErrorMessage(this.path, MESSAGE_ERROR_COPYING_DATA));
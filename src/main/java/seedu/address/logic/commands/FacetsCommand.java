@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.FacetCounts;
+import seedu.address.model.Model;
+
+/**
+ * Shows how many persons have each tag and an email in each domain, among the persons listed and in the whole
+ * address book, so that the user can tell what to filter on next.
+ */
+public class FacetsCommand extends Command {
+
+    public static final String COMMAND_WORD = "facets";
+
+    public static final String MESSAGE_TAGS = "Tags (listed/all): %1$s";
+    public static final String MESSAGE_EMAIL_DOMAINS = "Email domains (listed/all): %1$s";
+    public static final String MESSAGE_NO_FACETS = "none";
+    public static final String MESSAGE_MORE_FACETS = " and %1$d more";
+
+    /** The number of tags, and of email domains, listed at most. */
+    public static final int MAX_FACETS_LISTED = 20;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        FacetCounts facetCounts = model.getFacetCounts();
+        FacetCounts shownFacetCounts = model.getShownFacetCounts();
+        return new CommandResult(String.format(MESSAGE_TAGS,
+                formatFacets(facetCounts.getTagCounts(), shownFacetCounts.getTagCounts(), MAX_FACETS_LISTED))
+                + "\n" + String.format(MESSAGE_EMAIL_DOMAINS, formatFacets(facetCounts.getEmailDomainCounts(),
+                        shownFacetCounts.getEmailDomainCounts(), MAX_FACETS_LISTED)));
+    }
+
+    /**
+     * Formats the {@code limit} values with the most persons in {@code counts}, each with its number of persons in
+     * {@code shownCounts} and in {@code counts}, e.g. {@code "friends 2/3, colleagues 0/1"}.
+     */
+    public static String formatFacets(Map<String, Integer> counts, Map<String, Integer> shownCounts, int limit) {
+        if (counts.isEmpty()) {
+            return MESSAGE_NO_FACETS;
+        }
+        List<Map.Entry<String, Integer>> mostCommon = counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .toList();
+        String facets = mostCommon.stream()
+                .map(entry -> entry.getKey() + " " + shownCounts.getOrDefault(entry.getKey(), 0) + "/"
+                        + entry.getValue())
+                .collect(Collectors.joining(", "));
+        return counts.size() > limit ? facets + String.format(MESSAGE_MORE_FACETS, counts.size() - limit) : facets;
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
@@ -10,6 +12,7 @@ import java.util.function.Predicate;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.FilterExplanation;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
@@ -20,6 +23,7 @@ import seedu.address.model.person.Person;
  *     <li>Name</li>
  *     <li>Address</li>
  *     <li>Tags</li>
+ *     <li>Note, when combined in a query</li>
  * </ul>
  */
 public class FilterCommand extends Command {
@@ -30,22 +34,45 @@ public class FilterCommand extends Command {
             + "Non-unique identifiers include name, address and tags.\n"
             + "Parameters: [" + PREFIX_ADDRESS + "ADDRESS] "
             + "[" + PREFIX_NAME + "NAME] "
-            + "[" + PREFIX_TAG + "TAGS]\n"
-            + "Example: " + COMMAND_WORD + " t/friends";
+            + "[" + PREFIX_TAG + "TAGS] [" + FLAG_EXPLAIN + "]\n"
+            + "Conditions on names, addresses, tags and notes (" + PREFIX_NOTE + ") can be combined with "
+            + "AND, OR, NOT and parentheses.\n"
+            + "With " + FLAG_EXPLAIN + ", also shows how the persons were found and how long it took.\n"
+            + "Example: " + COMMAND_WORD + " t/friends\n"
+            + "Example: " + COMMAND_WORD + " (n/Alex OR n/Bernice) AND NOT t/supplier";
 
-    public static final String TOO_MANY_IDENTIFIERS_SPECIFIED = "Too many attributes specified!\n%1$s";
+    public static final String TOO_MANY_IDENTIFIERS_SPECIFIED = "Too many attributes specified!\n"
+            + "To combine attributes, join them with AND or OR.\n%1$s";
     public static final String UNIQUE_ATTRIBUTE_DETECTED = "A unique attribute detected!\n"
             + "For unique attributes, use 'find'.\n%1$s";
 
     private final Predicate<Person> predicate;
+    private final boolean isExplaining;
 
     public FilterCommand(Predicate<Person> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a {@code FilterCommand} that also explains how the persons were found if {@code isExplaining}.
+     */
+    public FilterCommand(Predicate<Person> predicate, boolean isExplaining) {
         this.predicate = predicate;
+        this.isExplaining = isExplaining;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (isExplaining) {
+            FilterExplanation explanation = model.explainFilteredPersonList(predicate);
+            return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                    model.getFilteredPersonList().size()) + "\n" + explanation.getSummary());
+        }
         model.updateFilteredPersonList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
@@ -63,13 +90,15 @@ public class FilterCommand extends Command {
         }
 
         FilterCommand otherFilterCommand = (FilterCommand) other;
-        return predicate.equals(otherFilterCommand.predicate);
+        return predicate.equals(otherFilterCommand.predicate)
+                && isExplaining == otherFilterCommand.isExplaining;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplaining", isExplaining)
                 .toString();
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
@@ -8,8 +9,11 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.model.FilterExplanation;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.predicate.EmailIsKeywordPredicate;
+import seedu.address.model.predicate.PhoneIsKeywordPredicate;
 
 /**
  * Finds and displays the person whose unique identifier is exactly the same as the specified keyword.<br>
@@ -29,7 +33,8 @@ public class FindCommand extends Command {
             + "Because this looks for the exact person, the exact phone number or email must be specified.\n"
             + "NOTE: Only supply exactly ONE attribute for finding.\n"
             + "Parameters: [" + PREFIX_PHONE + "PHONE] "
-            + "[" + PREFIX_EMAIL + "EMAIL]\n"
+            + "[" + PREFIX_EMAIL + "EMAIL] [" + FLAG_EXPLAIN + "]\n"
+            + "With " + FLAG_EXPLAIN + ", also shows how the person was found and how long it took.\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "91234578\n"
             + "or: " + COMMAND_WORD + " " + PREFIX_EMAIL + "ilovecraftconnect@gmail.com";
 
@@ -38,17 +43,42 @@ public class FindCommand extends Command {
             + "For non-unique attributes, use 'filter'.\n%1$s";
 
     private final Predicate<Person> predicate;
+    private final boolean isExplaining;
 
     public FindCommand(Predicate<Person> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a {@code FindCommand} that also explains how the persons were found if {@code isExplaining}.
+     */
+    public FindCommand(Predicate<Person> predicate, boolean isExplaining) {
         this.predicate = predicate;
+        this.isExplaining = isExplaining;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        FilterExplanation explanation = showFoundPersons(model);
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        return new CommandResult(isExplaining ? message + "\n" + explanation.getSummary() : message);
+    }
+
+    /**
+     * Shows the persons that pass the predicate, looking the person up by key for a phone number or email address.
+     */
+    private FilterExplanation showFoundPersons(Model model) {
+        if (predicate instanceof PhoneIsKeywordPredicate phonePredicate) {
+            return model.showPersonByPhone(phonePredicate);
+        } else if (predicate instanceof EmailIsKeywordPredicate emailPredicate) {
+            return model.showPersonByEmail(emailPredicate);
+        }
+        return model.explainFilteredPersonList(predicate);
     }
 
     @Override
@@ -63,13 +93,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isExplaining == otherFindCommand.isExplaining;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplaining", isExplaining)
                 .toString();
     }
 }
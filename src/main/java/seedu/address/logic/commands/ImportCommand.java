@@ -6,6 +6,7 @@ import java.nio.file.Paths;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.jfr.ImportEvent;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -184,6 +185,9 @@ public class ImportCommand extends FileBasedCommand {
             throw new CommandException(generateErrorMessage(this.path, MESSAGE_NOT_JSON_FILE));
         }
 
+        ImportEvent event = new ImportEvent(this.path, this.isOverwrite);
+        event.begin();
+        event.setPersonCountBefore(originalAddressBook.getPersonList().size());
         try {
             Path path = Paths.get(this.path);
             Optional<ReadOnlyAddressBook> addressBook;
@@ -201,6 +205,8 @@ public class ImportCommand extends FileBasedCommand {
             }
 
             model.commitAddressBook(new ImportMod(this.path, this.isOverwrite));
+            event.setPersonCountAfter(model.getAddressBook().getPersonList().size());
+            event.commit();
             return new CommandResult(MESSAGE_SUCCESS);
         } catch (DataLoadingException e) {
             throw new CommandException(generateErrorMessage(this.path, MESSAGE_INCOMPATIBLE_SCHEMA));
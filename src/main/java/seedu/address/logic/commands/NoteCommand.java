@@ -60,7 +60,6 @@ public class NoteCommand extends Command {
             personToEdit.getAddress(), personToEdit.getTags(), note);
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
         model.commitAddressBook(new NoteMod(personToEdit, note));
 
@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.commons.jfr.Profiler;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Starts or stops a Java Flight Recorder recording of the application, so that a slowdown can be investigated
+ * in JDK Mission Control without having to reproduce it.
+ */
+public class ProfileCommand extends Command {
+
+    public static final String COMMAND_WORD = "profile";
+    public static final String START_ACTION = "start";
+    public static final String STOP_ACTION = "stop";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Records what CraftConnect is doing, so that "
+            + "slow commands can be investigated.\n"
+            + "Format: " + COMMAND_WORD + " " + START_ACTION + " FILE, or " + COMMAND_WORD + " " + STOP_ACTION + "\n"
+            + "The recording is written to FILE when it is stopped, and can be opened in JDK Mission Control.\n"
+            + "Example: " + COMMAND_WORD + " " + START_ACTION + " recording.jfr";
+
+    public static final String MESSAGE_STARTED = "Started recording to %1$s";
+    public static final String MESSAGE_STOPPED = "Stopped recording, it has been written to %1$s";
+    public static final String MESSAGE_ALREADY_RECORDING = "A recording is already running, stop it first with: "
+            + COMMAND_WORD + " " + STOP_ACTION;
+    public static final String MESSAGE_NOT_RECORDING = "There is no recording to stop";
+    public static final String MESSAGE_START_ERROR = "Could not start recording to %1$s: %2$s";
+
+    private final boolean isStart;
+    private final Path file;
+
+    /**
+     * Creates a {@code ProfileCommand} that starts a recording to {@code file}.
+     */
+    public ProfileCommand(Path file) {
+        requireNonNull(file);
+        this.isStart = true;
+        this.file = file;
+    }
+
+    /**
+     * Creates a {@code ProfileCommand} that stops the running recording.
+     */
+    public ProfileCommand() {
+        this.isStart = false;
+        this.file = null;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isStart) {
+            return start();
+        }
+
+        if (!Profiler.isRecording()) {
+            throw new CommandException(MESSAGE_NOT_RECORDING);
+        }
+        return new CommandResult(String.format(MESSAGE_STOPPED, Profiler.stop()));
+    }
+
+    private CommandResult start() throws CommandException {
+        if (Profiler.isRecording()) {
+            throw new CommandException(MESSAGE_ALREADY_RECORDING);
+        }
+
+        try {
+            Profiler.start(file);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_START_ERROR, file, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_STARTED, file));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ProfileCommand)) {
+            return false;
+        }
+
+        ProfileCommand otherProfileCommand = (ProfileCommand) other;
+        return isStart == otherProfileCommand.isStart
+                && Objects.equals(file, otherProfileCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isStart", isStart)
+                .add("file", file)
+                .toString();
+    }
+}
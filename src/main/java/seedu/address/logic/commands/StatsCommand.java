@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of every command has taken and how much memory it allocated, and optionally writes
+ * the full histograms to a file.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long commands have taken to run.\n"
+            + "Parameters: [FILE]\n"
+            + "If FILE is given, the full statistics are also written to it.\n"
+            + "Example: " + COMMAND_WORD + " stats.json";
+
+    public static final String MESSAGE_CONTACTS_AND_HEAP = "%1$d contacts, %2$s";
+    public static final String MESSAGE_SAVED = "Statistics written to %1$s";
+    public static final String MESSAGE_SAVE_ERROR = "Could not write statistics to %1$s: %2$s";
+
+    private final Path dumpFile;
+
+    /**
+     * Creates a {@code StatsCommand} that only shows the statistics.
+     */
+    public StatsCommand() {
+        this.dumpFile = null;
+    }
+
+    /**
+     * Creates a {@code StatsCommand} that also writes the statistics to {@code dumpFile}.
+     */
+    public StatsCommand(Path dumpFile) {
+        requireNonNull(dumpFile);
+        this.dumpFile = dumpFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        StringBuilder feedback = new StringBuilder(CommandMetrics.getSummary())
+                .append("\n")
+                .append(String.format(MESSAGE_CONTACTS_AND_HEAP,
+                        model.getAddressBook().getPersonList().size(), CommandMetrics.getHeapSummary()));
+
+        if (dumpFile != null) {
+            feedback.append("\n");
+            try {
+                CommandMetrics.saveHistograms(dumpFile);
+                feedback.append(String.format(MESSAGE_SAVED, dumpFile));
+            } catch (IOException e) {
+                // the statistics are still worth showing even if they cannot be written
+                feedback.append(String.format(MESSAGE_SAVE_ERROR, dumpFile, e.getMessage()));
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return Objects.equals(dumpFile, otherStatsCommand.dumpFile);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("dumpFile", dumpFile)
+                .toString();
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.modifications.BulkTagMod;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds tags to, or removes tags from, all the persons in the currently filtered person list.<br>
+ * The persons whose tags change are replaced as one change of the address book, which is undone at once and saved
+ * once, however many persons are shown.
+ */
+public class TagCommand extends Command {
+
+    public static final String COMMAND_WORD = "tag";
+    public static final String ADD_WORD = "add";
+    public static final String REMOVE_WORD = "remove";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds tags to, or removes tags from, "
+            + "all the persons in the currently filtered person list.\n"
+            + "Parameters: " + ADD_WORD + "|" + REMOVE_WORD + " " + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " " + ADD_WORD + " " + PREFIX_TAG + "supplier\n"
+            + "Example: " + COMMAND_WORD + " " + REMOVE_WORD + " " + PREFIX_TAG + "pending " + PREFIX_TAG + "late";
+
+    public static final String MESSAGE_ADD_TAGS_SUCCESS = "Added tags %1$s to %2$d persons";
+    public static final String MESSAGE_REMOVE_TAGS_SUCCESS = "Removed tags %1$s from %2$d persons";
+    public static final String MESSAGE_NOTHING_CHANGED = "None of the persons shown needed their tags changed.";
+
+    private final Set<Tag> tags;
+    private final boolean isAdding;
+
+    /**
+     * Creates a {@code TagCommand} that adds {@code tags} to the persons shown if {@code isAdding}, or removes them
+     * from the persons shown otherwise.
+     */
+    public TagCommand(Set<Tag> tags, boolean isAdding) {
+        requireNonNull(tags);
+        this.tags = Set.copyOf(tags);
+        this.isAdding = isAdding;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        for (Person person : lastShownList) {
+            Set<Tag> editedTags = new HashSet<>(person.getTags());
+            boolean isChanged = isAdding ? editedTags.addAll(tags) : editedTags.removeAll(tags);
+            if (isChanged) {
+                editedPersons.put(person, new Person(person.getName(), person.getPhone(), person.getEmail(),
+                        person.getAddress(), editedTags, person.getNote()));
+            }
+        }
+
+        if (editedPersons.isEmpty()) {
+            return new CommandResult(MESSAGE_NOTHING_CHANGED);
+        }
+
+        model.setPersons(editedPersons);
+        model.commitAddressBook(new BulkTagMod(tags, isAdding, editedPersons.size()));
+        return new CommandResult(String.format(isAdding ? MESSAGE_ADD_TAGS_SUCCESS : MESSAGE_REMOVE_TAGS_SUCCESS,
+                tags, editedPersons.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagCommand)) {
+            return false;
+        }
+
+        TagCommand otherTagCommand = (TagCommand) other;
+        return tags.equals(otherTagCommand.tags) && isAdding == otherTagCommand.isAdding;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("isAdding", isAdding)
+                .toString();
+    }
+}
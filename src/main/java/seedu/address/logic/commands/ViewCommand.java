@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ViewCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves a {@code find} or {@code filter} command as a named view, or shows the persons of a saved view.<br>
+ * The persons of a view are kept up to date as persons are added, edited and deleted from when it is first shown in a
+ * session, so showing it again copies them without testing any person. After all the persons are replaced at once,
+ * e.g. by {@code clear} or {@code undo}, they are found again when the view is next shown.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+    public static final String SAVE_WORD = "save";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves a find or filter command as a named view, "
+            + "or shows the persons of a saved view.\n"
+            + "Parameters: " + SAVE_WORD + " NAME COMMAND, or NAME\n"
+            + "Example: " + COMMAND_WORD + " " + SAVE_WORD + " suppliers filter t/supplier\n"
+            + "Example: " + COMMAND_WORD + " suppliers";
+
+    public static final String MESSAGE_NAME_CONSTRAINTS = "View names should only contain letters, digits, - and _, "
+            + "and cannot be \"" + SAVE_WORD + "\"";
+    public static final String MESSAGE_NOT_A_FILTER = "Only find and filter commands can be saved as views.\n%1$s";
+    public static final String MESSAGE_SAVED = "Saved view %1$s";
+    public static final String MESSAGE_UNKNOWN_VIEW = "There is no saved view named %1$s";
+    public static final String MESSAGE_INVALID_SAVED_VIEW = "The saved command of view %1$s is no longer valid: %2$s";
+
+    private final String name;
+    private final String commandText;
+    private final Predicate<Person> predicate;
+
+    /**
+     * Creates a {@code ViewCommand} that shows the persons of the saved view named {@code name}.
+     */
+    public ViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+        this.commandText = null;
+        this.predicate = null;
+    }
+
+    /**
+     * Creates a {@code ViewCommand} that saves {@code commandText}, whose persons are those that pass
+     * {@code predicate}, as the view named {@code name}, and shows its persons.
+     */
+    public ViewCommand(String name, String commandText, Predicate<Person> predicate) {
+        requireAllNonNull(name, commandText, predicate);
+        this.name = name;
+        this.commandText = commandText;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (commandText != null) {
+            model.saveView(name, commandText, predicate);
+            model.showSavedView(name);
+            return new CommandResult(String.format(MESSAGE_SAVED, name) + "\n"
+                    + String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        }
+
+        Optional<String> savedCommandText = model.getSavedViewCommand(name);
+        if (savedCommandText.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_VIEW, name));
+        }
+        if (!model.showSavedView(name)) {
+            // a view saved in an earlier session is only kept up to date from the first time it is shown
+            try {
+                model.saveView(name, savedCommandText.get(),
+                        ViewCommandParser.parseViewPredicate(savedCommandText.get()));
+            } catch (ParseException e) {
+                throw new CommandException(String.format(MESSAGE_INVALID_SAVED_VIEW, name, e.getMessage()), e);
+            }
+            model.showSavedView(name);
+        }
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ViewCommand)) {
+            return false;
+        }
+
+        ViewCommand otherViewCommand = (ViewCommand) other;
+        return name.equals(otherViewCommand.name)
+                && Objects.equals(commandText, otherViewCommand.commandText)
+                && Objects.equals(predicate, otherViewCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("commandText", commandText)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
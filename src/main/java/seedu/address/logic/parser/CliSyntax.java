@@ -13,4 +13,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_NOTE = new Prefix("nt/");
 
+    /* Flag definitions */
+    public static final String FLAG_EXPLAIN = "--explain";
+
 }
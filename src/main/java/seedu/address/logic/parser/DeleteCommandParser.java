@@ -7,6 +7,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -18,6 +21,10 @@ import seedu.address.model.person.Phone;
  */
 public class DeleteCommandParser implements Parser<DeleteCommand> {
 
+    public static final String MESSAGE_INVALID_RANGE = "The first index of a range cannot be after its last index.";
+
+    private static final Pattern INDEX_RANGE_FORMAT = Pattern.compile("(?<first>\\S+)\\s*-\\s*(?<last>\\S+)");
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
      * and returns a DeleteCommand object for execution.
@@ -49,6 +56,15 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
             return new DeleteCommand(email);
         }
 
+        if (args.trim().equalsIgnoreCase(DeleteCommand.KEYWORD_ALL)) {
+            return new DeleteCommand();
+        }
+
+        Matcher rangeMatcher = INDEX_RANGE_FORMAT.matcher(args.trim());
+        if (rangeMatcher.matches()) {
+            return parseRange(rangeMatcher.group("first"), rangeMatcher.group("last"));
+        }
+
         try {
             Index index = ParserUtil.parseIndex(args);
             return new DeleteCommand(index);
@@ -60,4 +76,24 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
         }
     }
 
+    /**
+     * Parses the indexes of a range given as {@code FIRST_INDEX-LAST_INDEX} into a DeleteCommand.
+     * @throws ParseException if either index is invalid, or the first index is after the last
+     */
+    private static DeleteCommand parseRange(String first, String last) throws ParseException {
+        Index firstIndex;
+        Index lastIndex;
+        try {
+            firstIndex = ParserUtil.parseIndex(first);
+            lastIndex = ParserUtil.parseIndex(last);
+        } catch (ParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), e);
+        }
+
+        if (firstIndex.getZeroBased() > lastIndex.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new DeleteCommand(firstIndex, lastIndex);
+    }
+
 }
@@ -0,0 +1,236 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.predicate.AndPredicate;
+import seedu.address.model.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.predicate.NotPredicate;
+import seedu.address.model.predicate.NoteContainsKeywordsPredicate;
+import seedu.address.model.predicate.OrPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+
+/**
+ * Parses a filter query, which combines conditions on names, addresses, tags and notes with {@code AND},
+ * {@code OR}, {@code NOT} and parentheses, into a single predicate.<br>
+ * {@code NOT} binds tighter than {@code AND}, which binds tighter than {@code OR}. Operators must be in upper case
+ * and separated from conditions by spaces, and are only operators when followed by a condition, {@code NOT} or an
+ * opening parenthesis, so that e.g. {@code a/Blk 5 NOT Street} is a single condition. An opening parenthesis may
+ * be attached to the start of a condition, and closing parentheses to the end of one,
+ * e.g. {@code (n/Alex OR n/Bernice) AND NOT t/supplier}.
+ */
+public class FilterQueryParser {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    public static final String MESSAGE_MISSING_CONDITION = "Expected a condition, NOT or ( but found %1$s";
+    public static final String MESSAGE_MISSING_OPERATOR = "Conditions must be joined by AND or OR, but found %1$s";
+    public static final String MESSAGE_UNCLOSED_GROUP = "A ( is not closed by a matching )";
+    public static final String MESSAGE_EMPTY_NOTE = "Note keywords cannot be empty";
+    public static final String END_OF_QUERY = "the end of the query";
+
+    private static final String GROUP_START = "(";
+    private static final String GROUP_END = ")";
+    private static final List<Prefix> PREFIXES =
+            List.of(PREFIX_NOTE, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_PHONE, PREFIX_EMAIL);
+
+    private final List<String> words;
+    private int position = 0;
+    private int openGroups = 0;
+
+    private FilterQueryParser(String query) {
+        this.words = new ArrayList<>(Arrays.asList(query.trim().split("\\s+")));
+    }
+
+    /**
+     * Returns true if {@code args} uses any operator or parenthesis, and should be parsed as a filter query.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.startsWith(GROUP_START)) {
+            return true;
+        }
+        List<String> words = Arrays.asList(trimmedArgs.split("\\s+"));
+        return IntStream.range(0, words.size()).anyMatch(index -> isOperatorAt(words, index));
+    }
+
+    /**
+     * Parses {@code query} into a predicate that tests every person in a single pass.
+     *
+     * @throws ParseException if {@code query} is not a valid filter query.
+     */
+    public static Predicate<Person> parse(String query) throws ParseException {
+        requireNonNull(query);
+        FilterQueryParser parser = new FilterQueryParser(query);
+        Predicate<Person> predicate = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_OPERATOR, parser.peek()));
+        }
+        return predicate;
+    }
+
+    private Predicate<Person> parseOr() throws ParseException {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (hasNext() && peek().equals(OPERATOR_OR) && isOperatorAt(words, position)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrPredicate(operands);
+    }
+
+    private Predicate<Person> parseAnd() throws ParseException {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (hasNext() && peek().equals(OPERATOR_AND) && isOperatorAt(words, position)) {
+            position++;
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndPredicate(operands);
+    }
+
+    private Predicate<Person> parseNot() throws ParseException {
+        if (hasNext() && peek().equals(OPERATOR_NOT) && isOperatorAt(words, position)) {
+            position++;
+            return new NotPredicate(parseNot());
+        }
+        return parseOperand();
+    }
+
+    private Predicate<Person> parseOperand() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_CONDITION, END_OF_QUERY));
+        }
+
+        String word = peek();
+        if (!word.startsWith(GROUP_START)) {
+            return parseCondition();
+        }
+
+        if (word.length() > GROUP_START.length()) {
+            words.set(position, word.substring(GROUP_START.length()));
+        } else {
+            position++;
+        }
+        openGroups++;
+        Predicate<Person> predicate = parseOr();
+        if (!hasNext() || !peek().equals(GROUP_END)) {
+            throw new ParseException(MESSAGE_UNCLOSED_GROUP);
+        }
+        position++;
+        openGroups--;
+        return predicate;
+    }
+
+    /**
+     * Parses a prefix and the words after it, up to the next operator, prefix or closing parenthesis.
+     */
+    private Predicate<Person> parseCondition() throws ParseException {
+        String word = peek();
+        Prefix prefix = findPrefix(word)
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_MISSING_CONDITION, word)));
+        words.set(position, word.substring(prefix.getPrefix().length()));
+
+        List<String> valueWords = new ArrayList<>();
+        while (hasNext() && !isOperatorAt(words, position) && !peek().equals(GROUP_END)
+                && (valueWords.isEmpty() || findPrefix(peek()).isEmpty())) {
+            String valueWord = peek();
+            int groupEnds = countGroupEnds(valueWord);
+            position++;
+            if (groupEnds == 0) {
+                valueWords.add(valueWord);
+                continue;
+            }
+            // The closing parentheses become words of their own, which end the condition.
+            valueWords.add(valueWord.substring(0, valueWord.length() - groupEnds));
+            for (int i = 0; i < groupEnds; i++) {
+                words.add(position, GROUP_END);
+            }
+            break;
+        }
+        return createPredicate(prefix, String.join(" ", valueWords).trim());
+    }
+
+    /**
+     * Returns the number of parentheses at the end of {@code word} that close groups opened before it.
+     */
+    private int countGroupEnds(String word) {
+        int groupEnds = 0;
+        while (groupEnds < openGroups && groupEnds < word.length()
+                && word.endsWith(GROUP_END.repeat(groupEnds + 1))) {
+            groupEnds++;
+        }
+        return groupEnds;
+    }
+
+    private static Predicate<Person> createPredicate(Prefix prefix, String value) throws ParseException {
+        if (prefix.equals(PREFIX_PHONE) || prefix.equals(PREFIX_EMAIL)) {
+            throw new ParseException(String.format(FilterCommand.UNIQUE_ATTRIBUTE_DETECTED,
+                    FilterCommand.MESSAGE_USAGE));
+        }
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(ParserUtil.parseName(value).fullName);
+        }
+        if (prefix.equals(PREFIX_ADDRESS)) {
+            return new AddressContainsKeywordsPredicate(ParserUtil.parseAddress(value).value);
+        }
+        if (prefix.equals(PREFIX_TAG)) {
+            return new TagContainsKeywordsPredicate(ParserUtil.parseTag(value).tagName);
+        }
+
+        String note = ParserUtil.parseNote(value).value;
+        if (note.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_NOTE);
+        }
+        return new NoteContainsKeywordsPredicate(note);
+    }
+
+    private static Optional<Prefix> findPrefix(String word) {
+        return PREFIXES.stream().filter(prefix -> word.startsWith(prefix.getPrefix())).findFirst();
+    }
+
+    /**
+     * Returns true if the word at {@code index} of {@code words} is an operator, i.e. an operator word followed by a
+     * condition, an opening parenthesis or another {@code NOT} that is an operator.
+     * Otherwise it is part of the value of a condition, e.g. in {@code a/Blk 5 NOT Street}.
+     */
+    private static boolean isOperatorAt(List<String> words, int index) {
+        String word = words.get(index);
+        if (!word.equals(OPERATOR_AND) && !word.equals(OPERATOR_OR) && !word.equals(OPERATOR_NOT)) {
+            return false;
+        }
+        if (index + 1 >= words.size()) {
+            return false;
+        }
+        String nextWord = words.get(index + 1);
+        return nextWord.startsWith(GROUP_START) || findPrefix(nextWord).isPresent()
+                || (nextWord.equals(OPERATOR_NOT) && isOperatorAt(words, index + 1));
+    }
+
+    private boolean hasNext() {
+        return position < words.size();
+    }
+
+    private String peek() {
+        return words.get(position);
+    }
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -32,6 +33,24 @@ public class ParserUtil {
         return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
 
+    /**
+     * Returns true if {@code flag} is one of the whitespace separated words of {@code args}.
+     */
+    public static boolean isFlagPresent(String args, String flag) {
+        return flagPattern(flag).matcher(args).find();
+    }
+
+    /**
+     * Returns {@code args} with every word that is {@code flag} replaced by a space.
+     */
+    public static String removeFlag(String args, String flag) {
+        return flagPattern(flag).matcher(args).replaceAll(" ");
+    }
+
+    private static Pattern flagPattern(String flag) {
+        return Pattern.compile("(?<=^|\\s)" + Pattern.quote(flag) + "(?=\\s|$)");
+    }
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
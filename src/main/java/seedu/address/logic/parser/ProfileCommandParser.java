@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ProfileCommand} object
+ */
+public class ProfileCommandParser implements Parser<ProfileCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ProfileCommand}
+     * and returns a {@code ProfileCommand} object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public ProfileCommand parse(String args) throws ParseException {
+        String[] actionAndFile = args.trim().split("\\s+", 2);
+        String action = actionAndFile[0];
+        String file = actionAndFile.length > 1 ? actionAndFile[1] : "";
+
+        if (action.equals(ProfileCommand.STOP_ACTION) && file.isEmpty()) {
+            return new ProfileCommand();
+        }
+
+        if (!action.equals(ProfileCommand.START_ACTION) || file.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProfileCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new ProfileCommand(Paths.get(file));
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProfileCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code StatsCommand} object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code StatsCommand}
+     * and returns a {@code StatsCommand} object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new StatsCommand();
+        }
+
+        try {
+            return new StatsCommand(Paths.get(trimmedArgs));
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+    }
+}
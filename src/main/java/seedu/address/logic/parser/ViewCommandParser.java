@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Parses input arguments and creates a new {@code ViewCommand} object
+ */
+public class ViewCommandParser implements Parser<ViewCommand> {
+
+    private static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ViewCommand}
+     * and returns a {@code ViewCommand} object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public ViewCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
+
+        String[] words = trimmedArgs.split("\\s+", 3);
+        if (!words[0].equals(ViewCommand.SAVE_WORD)) {
+            if (words.length > 1) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+            }
+            return new ViewCommand(parseName(words[0]));
+        }
+
+        if (words.length < 3) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
+        return new ViewCommand(parseName(words[1]), words[2], parseViewPredicate(words[2]));
+    }
+
+    /**
+     * Parses {@code commandText}, which must be a {@code find} or {@code filter} command, into the predicate the
+     * persons of its view pass.
+     * @throws ParseException if {@code commandText} is not a valid {@code find} or {@code filter} command
+     */
+    public static Predicate<Person> parseViewPredicate(String commandText) throws ParseException {
+        Command command = new AddressBookParser().parseCommand(commandText);
+        if (command instanceof FindCommand findCommand) {
+            return findCommand.getPredicate();
+        } else if (command instanceof FilterCommand filterCommand) {
+            return filterCommand.getPredicate();
+        }
+        throw new ParseException(String.format(ViewCommand.MESSAGE_NOT_A_FILTER, ViewCommand.MESSAGE_USAGE));
+    }
+
+    private static String parseName(String name) throws ParseException {
+        if (name.equals(ViewCommand.SAVE_WORD) || !name.matches(NAME_VALIDATION_REGEX)) {
+            throw new ParseException(ViewCommand.MESSAGE_NAME_CONSTRAINTS);
+        }
+        return name;
+    }
+}
@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -110,6 +112,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes {@code keys} from this {@code AddressBook}, in one change of the person list.
+     * {@code keys} must all exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with its value, in one pass over the persons.
+     * The keys must all exist in the address book.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        persons.replaceAll(editedPersons);
+    }
+
     //// util methods
 
     @Override
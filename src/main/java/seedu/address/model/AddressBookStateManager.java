@@ -11,6 +11,11 @@ import seedu.address.model.person.exceptions.CannotUndoException;
  * Manager for the state history of the address book, supporting undo and redo operations.
  */
 public class AddressBookStateManager {
+    /** Estimated size of a snapshot of an empty address book. */
+    private static final long ESTIMATED_SNAPSHOT_BYTES = 256;
+    /** Estimated size of a person's entry in a snapshot, assuming compressed references. */
+    private static final long ESTIMATED_BYTES_PER_PERSON = 4;
+
     private AddressBook addressBook;
     private final List<AddressBookStateNode> addressBookStates;
     private int currentStatePointer;
@@ -116,6 +121,46 @@ public class AddressBookStateManager {
         return restoredMods;
     }
 
+    /**
+     * Returns the number of modifications that can be undone.
+     */
+    public int getUndoableCount() {
+        return currentStatePointer;
+    }
+
+    /**
+     * Returns the number of modifications that can be redone.
+     */
+    public int getRedoableCount() {
+        return addressBookStates.size() - 1 - currentStatePointer;
+    }
+
+    /**
+     * Returns an estimate of the memory used by the stored states, not counting persons that are shared with the
+     * working address book or between states.
+     */
+    public long estimateHistoryBytes() {
+        long bytes = 0;
+        for (AddressBookStateNode node : addressBookStates) {
+            bytes += ESTIMATED_SNAPSHOT_BYTES + ESTIMATED_BYTES_PER_PERSON * node.getState().getPersonList().size();
+        }
+        return bytes;
+    }
+
+    /**
+     * Discards every stored state other than the current one, so that no modification can be undone or redone.
+     * @returns The number of states that were discarded.
+     */
+    public int trimHistory() {
+        assert(currentStatePointer >= 0 && currentStatePointer < addressBookStates.size());
+        int discardedCount = addressBookStates.size() - 1;
+        AddressBookStateNode currentNode = addressBookStates.get(currentStatePointer);
+        addressBookStates.clear();
+        addressBookStates.add(new AddressBookStateNode(currentNode.getState(), null));
+        currentStatePointer = 0;
+        return discardedCount;
+    }
+
     /**
      * Returns the current state of the working address book.
      */
@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The number of persons in a list with each tag and with each email domain.<br>
+ * The counts are only computed in full when this is created. From then on, only the persons that are added to or
+ * removed from the list are counted, so keeping them up to date costs the same however many persons there are.<br>
+ * Listeners are told after every change of the list, once the counts are up to date.
+ */
+public class FacetCounts implements Observable {
+
+    private final Map<String, Integer> tagCounts = new HashMap<>();
+    private final Map<String, Integer> emailDomainCounts = new HashMap<>();
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates the counts of the persons in {@code persons}, which are kept up to date as the list changes.
+     */
+    public FacetCounts(ObservableList<? extends Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(person -> count(person, 1));
+        persons.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the number of persons with each tag, by the names of the tags. Tags that no person has are left out.
+     */
+    public Map<String, Integer> getTagCounts() {
+        return Collections.unmodifiableMap(tagCounts);
+    }
+
+    /**
+     * Returns the number of persons with an email in each domain, by the lower case domains.
+     * Domains that no person has an email in are left out.
+     */
+    public Map<String, Integer> getEmailDomainCounts() {
+        return Collections.unmodifiableMap(emailDomainCounts);
+    }
+
+    /**
+     * Returns the domain of {@code email}, i.e. the part after the {@code @}, in lower case.
+     */
+    public static String getEmailDomain(Email email) {
+        return email.value.substring(email.value.lastIndexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            // persons are immutable, so permutations and updates leave the counts as they are
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(person -> count(person, -1));
+            change.getAddedSubList().forEach(person -> count(person, 1));
+        }
+        for (InvalidationListener listener : List.copyOf(listeners)) {
+            listener.invalidated(this);
+        }
+    }
+
+    private void count(Person person, int delta) {
+        for (Tag tag : person.getTags()) {
+            add(tagCounts, tag.tagName, delta);
+        }
+        add(emailDomainCounts, getEmailDomain(person.getEmail()), delta);
+    }
+
+    private static void add(Map<String, Integer> counts, String key, int delta) {
+        counts.merge(key, delta, (count, unused) -> count + delta == 0 ? null : count + delta);
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tagCounts)
+                .add("emailDomains", emailDomainCounts)
+                .toString();
+    }
+}
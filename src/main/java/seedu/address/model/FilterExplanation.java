@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.FilterPlan;
+
+/**
+ * How the persons shown by a predicate were found: the strategy used, how many persons were examined, how many
+ * passed, and how long each stage took.
+ */
+public class FilterExplanation {
+
+    public static final String STAGE_PLAN = "plan";
+    public static final String STAGE_FILTER = "filter";
+    public static final String STAGE_CACHE = "cache";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String predicate;
+    private final FilterPlan plan;
+    private final boolean isRefinement;
+    private final int examinedCount;
+    private final int matchCount;
+    private final Map<String, Long> stageNanos;
+
+    /**
+     * Creates an explanation of a filter by {@code predicate} that followed {@code plan}, testing only the persons
+     * shown before if {@code isRefinement}. {@code stageNanos} has the time each stage took, in order.
+     */
+    public FilterExplanation(String predicate, FilterPlan plan, boolean isRefinement, int examinedCount,
+            int matchCount, Map<String, Long> stageNanos) {
+        requireAllNonNull(predicate, plan, stageNanos);
+        this.predicate = predicate;
+        this.plan = plan;
+        this.isRefinement = isRefinement;
+        this.examinedCount = examinedCount;
+        this.matchCount = matchCount;
+        this.stageNanos = new LinkedHashMap<>(stageNanos);
+    }
+
+    public FilterPlan.Strategy getStrategy() {
+        return plan.getStrategy();
+    }
+
+    public boolean isRefinement() {
+        return isRefinement;
+    }
+
+    /**
+     * Returns the number of persons the filtered person list looked at, i.e. the persons shown before for a
+     * refinement, or every person otherwise.
+     */
+    public int getExaminedCount() {
+        return examinedCount;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the explanation in the form shown to the user, one line per item.
+     */
+    public String getSummary() {
+        String strategy = plan.getStrategy() + (isRefinement ? ", refining the persons shown before" : "");
+        String candidates = plan.getCandidateCount() + (plan.isExact() ? " (exact)" : " (tested with the predicate)");
+        String times = stageNanos.entrySet().stream()
+                .map(entry -> String.format("%s %.2f ms", entry.getKey(), entry.getValue() / NANOS_PER_MILLI))
+                .collect(Collectors.joining(", "));
+        return "Predicate: " + predicate + "\n"
+                + "Strategy: " + strategy + "\n"
+                + "Candidates: " + candidates + "\n"
+                + "Persons examined: " + examinedCount + "\n"
+                + "Matches: " + matchCount + "\n"
+                + "Time: " + times;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("plan", plan)
+                .add("refinement", isRefinement)
+                .add("examined", examinedCount)
+                .add("matches", matchCount)
+                .add("stageNanos", stageNanos)
+                .toString();
+    }
+}
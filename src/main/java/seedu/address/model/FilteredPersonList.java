@@ -0,0 +1,357 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of the persons in a list that pass a predicate, in the same order.<br>
+ * The view keeps its predicate until it is given another. When the source list changes, only the persons that
+ * were added, replaced or updated are tested, so adding or editing a person costs the same however many persons
+ * there are, and the filter the user applied stays in place.<br>
+ * When a new predicate is tested on at least {@link #getParallelThreshold()} persons, the persons are split among
+ * the threads of the common fork/join pool, so predicates must be safe to test from several threads at once.
+ */
+public class FilteredPersonList extends TransformationList<Person, Person> {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+    public static final String MESSAGE_CONSTRAINTS = "The parallel filter threshold must be positive";
+    public static final String MESSAGE_DIFFERENT_SOURCE = "Only views of the same persons can be copied";
+
+    /** The number of persons tested by one task, a multiple of 64 so that tasks set different words of bits. */
+    private static final int TASK_SIZE = 4096;
+
+    /** The indexes in the source list of the persons in this view, in increasing order. */
+    private int[] sourceIndexes = new int[16];
+    private int size = 0;
+    private Predicate<? super Person> predicate;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private boolean isDetached = false;
+
+    /**
+     * Creates a view of the persons in {@code source} that pass {@code predicate}.
+     */
+    public FilteredPersonList(ObservableList<Person> source, Predicate<? super Person> predicate) {
+        super(source);
+        this.predicate = requireNonNull(predicate);
+        filterAll();
+    }
+
+    public Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the persons that pass {@code predicate}, which is tested on every person in the source list.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        List<Person> removed = new ArrayList<>(this);
+        filterAll();
+
+        beginChange();
+        nextReplace(0, size, removed);
+        endChange();
+    }
+
+    /**
+     * Shows only the persons that pass {@code predicate}, which is only tested on the persons in this view.<br>
+     * Every person that passes {@code predicate} must pass the current predicate, so that the persons outside this
+     * view need not be tested.
+     */
+    public void refinePredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+
+        beginChange();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int sourceIndex = sourceIndexes[i];
+            Person person = getSource().get(sourceIndex);
+            if (predicate.test(person)) {
+                sourceIndexes[kept++] = sourceIndex;
+            } else {
+                nextRemove(kept, person);
+            }
+        }
+        size = kept;
+        endChange();
+    }
+
+    /**
+     * Shows only the person at {@code sourceIndex} in the source list, or no person if it is -1, and takes on
+     * {@code predicate}, which that person must be the only one in the source list to pass.<br>
+     * No person is tested, so a person looked up by key is shown without looking at the other persons.
+     */
+    public void showOnly(Predicate<? super Person> predicate, int sourceIndex) {
+        requireNonNull(predicate);
+        if (sourceIndex != -1) {
+            Objects.checkIndex(sourceIndex, getSource().size());
+        }
+        this.predicate = predicate;
+        List<Person> removed = new ArrayList<>(this);
+        size = 0;
+        if (sourceIndex != -1) {
+            sourceIndexes[size++] = sourceIndex;
+        }
+
+        beginChange();
+        nextReplace(0, size, removed);
+        endChange();
+    }
+
+    /**
+     * Shows the same persons as {@code other}, a view of the same source list, and takes on its predicate.<br>
+     * The persons are copied from {@code other} as they are, so none of them is tested.
+     */
+    public void showSameAs(FilteredPersonList other) {
+        requireNonNull(other);
+        checkArgument(other.getSource() == getSource(), MESSAGE_DIFFERENT_SOURCE);
+        this.predicate = other.predicate;
+        List<Person> removed = new ArrayList<>(this);
+        sourceIndexes = Arrays.copyOf(other.sourceIndexes, Math.max(other.size, 16));
+        size = other.size;
+
+        beginChange();
+        nextReplace(0, size, removed);
+        endChange();
+    }
+
+    /**
+     * Stops following the changes to the source list, so that they no longer test any person.<br>
+     * The view is out of date from then on, and must not be used again.
+     */
+    public void detach() {
+        isDetached = true;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the number of persons from which a new predicate is tested in parallel.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        checkArgument(parallelThreshold > 0, MESSAGE_CONSTRAINTS);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    private void filterAll() {
+        size = 0;
+        ObservableList<? extends Person> source = getSource();
+        if (source.size() >= parallelThreshold) {
+            filterAllInParallel(source.toArray(new Person[0]));
+            return;
+        }
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                ensureCapacity(size + 1);
+                sourceIndexes[size++] = i;
+            }
+        }
+    }
+
+    /**
+     * Tests {@code persons} with the fork/join pool, which sets a bit for each person that passes, and then
+     * collects the indexes of the set bits in order.
+     */
+    private void filterAllInParallel(Person[] persons) {
+        long[] passing = new long[(persons.length + Long.SIZE - 1) / Long.SIZE];
+        ForkJoinPool.commonPool().invoke(new FilterTask(predicate, persons, passing, 0, persons.length));
+        for (int word = 0; word < passing.length; word++) {
+            long bits = passing[word];
+            while (bits != 0) {
+                ensureCapacity(size + 1);
+                sourceIndexes[size++] = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> change) {
+        if (isDetached) {
+            return;
+        }
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addAndRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Removes the persons removed from the source list and tests the persons added to it, which take their place.
+     * Only the source indexes of the persons after them have to be moved, and none at all when a person is
+     * replaced or added at the end.
+     */
+    private void addAndRemove(Change<? extends Person> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+
+        int viewFrom = findViewPosition(from);
+        int viewRemovedTo = findViewPosition(from + removedSize);
+        if (viewRemovedTo > viewFrom) {
+            List<Person> removed = new ArrayList<>(viewRemovedTo - viewFrom);
+            for (int i = viewFrom; i < viewRemovedTo; i++) {
+                removed.add(change.getRemoved().get(sourceIndexes[i] - from));
+            }
+            nextRemove(viewFrom, removed);
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            if (predicate.test(getSource().get(i))) {
+                added[addedCount++] = i;
+            }
+        }
+
+        int tailSize = size - viewRemovedTo;
+        ensureCapacity(viewFrom + addedCount + tailSize);
+        System.arraycopy(sourceIndexes, viewRemovedTo, sourceIndexes, viewFrom + addedCount, tailSize);
+        System.arraycopy(added, 0, sourceIndexes, viewFrom, addedCount);
+        size = viewFrom + addedCount + tailSize;
+        int shift = addedSize - removedSize;
+        if (shift != 0) {
+            for (int i = viewFrom + addedCount; i < size; i++) {
+                sourceIndexes[i] += shift;
+            }
+        }
+
+        if (addedCount > 0) {
+            nextAdd(viewFrom, viewFrom + addedCount);
+        }
+    }
+
+    /**
+     * Tests the persons that were updated in place, which may now enter or leave this view.
+     */
+    private void update(Change<? extends Person> change) {
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            Person person = getSource().get(i);
+            boolean isPassing = predicate.test(person);
+            int position = Arrays.binarySearch(sourceIndexes, 0, size, i);
+            if (position >= 0 && isPassing) {
+                nextUpdate(position);
+            } else if (position >= 0) {
+                System.arraycopy(sourceIndexes, position + 1, sourceIndexes, position, size - position - 1);
+                size--;
+                nextRemove(position, person);
+            } else if (isPassing) {
+                int insertAt = -position - 1;
+                ensureCapacity(size + 1);
+                System.arraycopy(sourceIndexes, insertAt, sourceIndexes, insertAt + 1, size - insertAt);
+                sourceIndexes[insertAt] = i;
+                size++;
+                nextAdd(insertAt, insertAt + 1);
+            }
+        }
+    }
+
+    private void permute(Change<? extends Person> change) {
+        int[] permuted = new int[size];
+        for (int i = 0; i < size; i++) {
+            permuted[i] = change.getPermutation(sourceIndexes[i]);
+        }
+        int[] sorted = permuted.clone();
+        Arrays.sort(sorted);
+        int[] viewPermutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            viewPermutation[i] = Arrays.binarySearch(sorted, permuted[i]);
+        }
+        System.arraycopy(sorted, 0, sourceIndexes, 0, size);
+        nextPermutation(0, size, viewPermutation);
+    }
+
+    /**
+     * Returns the position in this view of the first person at or after {@code sourceIndex} in the source list.
+     */
+    private int findViewPosition(int sourceIndex) {
+        int position = Arrays.binarySearch(sourceIndexes, 0, size, sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (sourceIndexes.length < capacity) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, Math.max(capacity, sourceIndexes.length * 2));
+        }
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size);
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(sourceIndexes, 0, size, index);
+        return position >= 0 ? position : -1;
+    }
+
+    @Override
+    public Person get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tests a range of persons that starts at a multiple of 64, splitting it in half until it is small enough.
+     */
+    private static class FilterTask extends RecursiveAction {
+        private final Predicate<? super Person> predicate;
+        private final Person[] persons;
+        private final long[] passing;
+        private final int from;
+        private final int to;
+
+        FilterTask(Predicate<? super Person> predicate, Person[] persons, long[] passing, int from, int to) {
+            this.predicate = predicate;
+            this.persons = persons;
+            this.passing = passing;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(persons[i])) {
+                        passing[i / Long.SIZE] |= 1L << i;
+                    }
+                }
+                return;
+            }
+            int middle = from + ((to - from) / 2 / Long.SIZE * Long.SIZE);
+            invokeAll(new FilterTask(predicate, persons, passing, from, middle),
+                    new FilterTask(predicate, persons, passing, middle, to));
+        }
+    }
+}
@@ -2,14 +2,21 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.event.ModelChangeListener;
 import seedu.address.model.modifications.Modification;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.CannotRedoException;
 import seedu.address.model.person.exceptions.CannotUndoException;
+import seedu.address.model.predicate.EmailIsKeywordPredicate;
+import seedu.address.model.predicate.PhoneIsKeywordPredicate;
 
 /**
  * The API of the Model component.
@@ -78,6 +85,24 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons, as one change of the address book.
+     * The persons must all exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
+    /**
+     * Returns the person with the phone number {@code phone}, or null if there is none.
+     * The person is looked up by key, without scanning the address book.
+     */
+    Person findPersonByPhone(Phone phone);
+
+    /**
+     * Returns the person with the email address {@code email}, or null if there is none.
+     * The person is looked up by key, without scanning the address book.
+     */
+    Person findPersonByEmail(Email email);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -91,15 +116,67 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with its value, as one change of the address book.
+     * The keys must all exist in the address book.
+     * The person identity of each value must not be the same as another existing person in the address book, unless
+     * it is the same as that of the person it replaces.
+     */
+    void setPersons(Map<Person, Person> editedPersons);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the tag and email domain counts of all the persons in the address book, kept up to date. */
+    FacetCounts getFacetCounts();
+
+    /** Returns the tag and email domain counts of the persons in the filtered person list, kept up to date. */
+    FacetCounts getShownFacetCounts();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list like {@link #updateFilteredPersonList}, and returns how the
+     * persons that pass {@code predicate} were found.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    FilterExplanation explainFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Shows only the person with the phone number of {@code predicate}, or no person if there is none, and returns
+     * how the person was found. The person is looked up by key, without testing any other person.
+     */
+    FilterExplanation showPersonByPhone(PhoneIsKeywordPredicate predicate);
+
+    /**
+     * Shows only the person with the email address of {@code predicate}, or no person if there is none, and returns
+     * how the person was found. The person is looked up by key, without testing any other person.
+     */
+    FilterExplanation showPersonByEmail(EmailIsKeywordPredicate predicate);
+
+    /**
+     * Saves {@code commandText}, whose persons are those that pass {@code predicate}, as the view named {@code name}
+     * in the user prefs. Once the view is shown, its persons are kept up to date as the address book changes, until
+     * all the persons are replaced at once (e.g. by {@code clear}, {@code undo} or {@code redo}).
+     */
+    void saveView(String name, String commandText, Predicate<Person> predicate);
+
+    /**
+     * Returns the command text of the view named {@code name}, if one was saved.
+     */
+    Optional<String> getSavedViewCommand(String name);
+
+    /**
+     * Shows the persons of the view named {@code name} in the filtered person list, copying them from the view
+     * without testing them if they are being kept up to date, or finding them again otherwise.
+     * Returns false if the view has not been saved with {@link #saveView} since the model was created.
+     */
+    boolean showSavedView(String name);
+
     /**
      * Signals to the model that a command that modifies the address book has finished
      * and the state of the address book should be stored.
@@ -134,4 +211,56 @@ public interface Model {
      * @returns The list of Modifications that were undone.
      */
     List<Modification> redoAddressBookMultiple(int numberOfTimes);
+
+    /**
+     * Returns the number of modifications to the address book that can be undone.
+     */
+    int getUndoableCount();
+
+    /**
+     * Returns the number of undone modifications to the address book that can be redone.
+     */
+    int getRedoableCount();
+
+    /**
+     * Returns an estimate of the memory, in bytes, used to store the states that can be undone or redone.
+     */
+    long estimateHistoryBytes();
+
+    /**
+     * Discards the history of the address book, so that no modification can be undone or redone.
+     * @returns The number of states of the address book that were discarded.
+     */
+    int trimHistory();
+
+    /**
+     * Discards the indexes used to filter the persons and builds them again from the address book.
+     */
+    void rebuildIndexes();
+
+    /**
+     * Returns the number of filters whose persons were found in the cache of recent filter results.
+     */
+    long getFilterCacheHitCount();
+
+    /**
+     * Returns the number of filters whose persons were not in the cache of recent filter results.
+     */
+    long getFilterCacheMissCount();
+
+    /**
+     * Adds a listener that is told of the changes to the persons in the address book, in batches.
+     */
+    void addChangeListener(ModelChangeListener listener);
+
+    /**
+     * Removes a listener added by {@link #addChangeListener}.
+     */
+    void removeChangeListener(ModelChangeListener listener);
+
+    /**
+     * Passes the changes to the persons made since the last call on to the listeners as one batch.
+     * Returns true if there were any.
+     */
+    boolean publishChanges();
 }
@@ -4,28 +4,62 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.Measurement;
+import seedu.address.commons.core.CommandMetrics.Phase;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CommitEvent;
+import seedu.address.commons.jfr.FilterEvent;
+import seedu.address.commons.jfr.UndoRedoEvent;
+import seedu.address.model.event.BulkReset;
+import seedu.address.model.event.ModelChangeBus;
+import seedu.address.model.event.ModelChangeListener;
+import seedu.address.model.event.PersonAdded;
+import seedu.address.model.event.PersonRemoved;
+import seedu.address.model.event.PersonReplaced;
+import seedu.address.model.index.FilterPlan;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.modifications.Modification;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.CannotRedoException;
 import seedu.address.model.person.exceptions.CannotUndoException;
+import seedu.address.model.predicate.EmailIsKeywordPredicate;
+import seedu.address.model.predicate.PhoneIsKeywordPredicate;
+import seedu.address.model.predicate.RefiningPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final String DESCRIPTION_ALL_PERSONS = "all persons";
 
     private final AddressBookStateManager addressBookStateManager;
     private final UserPrefs userPrefs;
-    private FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private final FacetCounts facetCounts;
+    private final FacetCounts shownFacetCounts;
+    private final PersonIndex personIndex;
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    private final ModelChangeBus changeBus = new ModelChangeBus(() -> getAddressBook().getPersonList().size());
+    /**
+     * The views saved since this model was created, by their names. The persons of a view are kept up to date from
+     * when it is first shown, until all the persons are replaced at once.
+     */
+    private final Map<String, SavedView> savedViews = new HashMap<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,11 +67,14 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBookStateManager = new AddressBookStateManager(new AddressBook(addressBook));
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.getAddressBook().getPersonList());
+        filteredPersons = new FilteredPersonList(this.getAddressBook().getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        personIndex = new PersonIndex(this.getAddressBook().getPersonList());
+        facetCounts = new FacetCounts(this.getAddressBook().getPersonList());
+        shownFacetCounts = new FacetCounts(filteredPersons);
     }
 
     public ModelManager() {
@@ -87,7 +124,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        discardSavedViewPersons();
         this.getInternalAddressBook().resetData(addressBook);
+        postBulkReset();
     }
 
     @Override
@@ -104,24 +143,47 @@ public class ModelManager implements Model {
     @Override
     public Person findPersonWithSameEmail(Person person) {
         requireNonNull(person);
-        return this.getInternalAddressBook().findPersonWithSameEmail(person);
+        return findPersonByEmail(person.getEmail());
     }
 
     @Override
     public Person findPersonWithSamePhoneNumber(Person person) {
         requireNonNull(person);
-        return this.getInternalAddressBook().findPersonWithSamePhoneNumber(person);
+        return findPersonByPhone(person.getPhone());
+    }
+
+    @Override
+    public Person findPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return personIndex.findByPhone(phone.value);
+    }
+
+    @Override
+    public Person findPersonByEmail(Email email) {
+        requireNonNull(email);
+        return personIndex.findByEmail(email.value);
     }
 
     @Override
     public void deletePerson(Person target) {
         this.getInternalAddressBook().removePerson(target);
+        changeBus.post(version -> new PersonRemoved(version, target));
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+
+        this.getInternalAddressBook().removePersons(targets);
+        for (Person target : targets) {
+            changeBus.post(version -> new PersonRemoved(version, target));
+        }
     }
 
     @Override
     public void addPerson(Person person) {
         this.getInternalAddressBook().addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        changeBus.post(version -> new PersonAdded(version, person));
     }
 
     @Override
@@ -129,33 +191,171 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         this.getInternalAddressBook().setPerson(target, editedPerson);
+        changeBus.post(version -> new PersonReplaced(version, target, editedPerson));
+    }
+
+    @Override
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        this.getInternalAddressBook().replacePersons(editedPersons);
+        editedPersons.forEach((target, editedPerson) ->
+                changeBus.post(version -> new PersonReplaced(version, target, editedPerson)));
+    }
+
+    //=========== Model changes ==============================================================================
+
+    @Override
+    public void addChangeListener(ModelChangeListener listener) {
+        changeBus.addListener(listener);
+    }
+
+    @Override
+    public void removeChangeListener(ModelChangeListener listener) {
+        changeBus.removeListener(listener);
+    }
+
+    @Override
+    public boolean publishChanges() {
+        return changeBus.publish();
+    }
+
+    /**
+     * Stops keeping the persons of the saved views up to date, before all the persons are replaced at once.
+     * Otherwise every saved view would test every person again, though most will not be shown before the next
+     * reset. A view finds its persons again when it is next shown.
+     */
+    private void discardSavedViewPersons() {
+        savedViews.values().forEach(SavedView::discardPersons);
+    }
+
+    private void postBulkReset() {
+        int personCount = getAddressBook().getPersonList().size();
+        changeBus.post(version -> new BulkReset(version, personCount));
     }
+
     //=========== addressBookStateHistory ===================================================================
 
     @Override
     public void commitAddressBook(Modification modification) {
-        this.addressBookStateManager.commit(modification);
+        CommitEvent event = new CommitEvent();
+        event.begin();
+        try (Measurement measurement = CommandMetrics.measure(Phase.UNDO_SNAPSHOT)) {
+            this.addressBookStateManager.commit(modification);
+        }
+        if (event.shouldCommit()) {
+            event.setModification(modification.getClass().getSimpleName());
+            event.setPersonCount(getAddressBook().getPersonList().size());
+            event.commit();
+        }
     }
 
     @Override
     public Modification undoAddressBook() throws CannotUndoException {
+        UndoRedoEvent event = new UndoRedoEvent(false, 1);
+        event.begin();
+        if (getUndoableCount() > 0) {
+            discardSavedViewPersons();
+        }
         Modification undoneMod = this.addressBookStateManager.undo();
+        postBulkReset();
+        commitUndoRedoEvent(event, 1);
         return undoneMod;
     }
     @Override
     public Modification redoAddressBook() throws CannotRedoException {
+        UndoRedoEvent event = new UndoRedoEvent(true, 1);
+        event.begin();
+        if (getRedoableCount() > 0) {
+            discardSavedViewPersons();
+        }
         Modification restoredMod = this.addressBookStateManager.redo();
+        postBulkReset();
+        commitUndoRedoEvent(event, 1);
         return restoredMod;
     }
 
     @Override
     public List<Modification> undoAddressBookMultiple(int numberOfTimes) {
-        return this.addressBookStateManager.undoMultiple(numberOfTimes);
+        UndoRedoEvent event = new UndoRedoEvent(false, numberOfTimes);
+        event.begin();
+        if (numberOfTimes > 0 && getUndoableCount() > 0) {
+            discardSavedViewPersons();
+        }
+        List<Modification> undoneMods = this.addressBookStateManager.undoMultiple(numberOfTimes);
+        if (!undoneMods.isEmpty()) {
+            postBulkReset();
+        }
+        commitUndoRedoEvent(event, undoneMods.size());
+        return undoneMods;
     }
 
     @Override
     public List<Modification> redoAddressBookMultiple(int numberOfTimes) {
-        return this.addressBookStateManager.redoMultiple(numberOfTimes);
+        UndoRedoEvent event = new UndoRedoEvent(true, numberOfTimes);
+        event.begin();
+        if (numberOfTimes > 0 && getRedoableCount() > 0) {
+            discardSavedViewPersons();
+        }
+        List<Modification> restoredMods = this.addressBookStateManager.redoMultiple(numberOfTimes);
+        if (!restoredMods.isEmpty()) {
+            postBulkReset();
+        }
+        commitUndoRedoEvent(event, restoredMods.size());
+        return restoredMods;
+    }
+
+    @Override
+    public int getUndoableCount() {
+        return this.addressBookStateManager.getUndoableCount();
+    }
+
+    @Override
+    public int getRedoableCount() {
+        return this.addressBookStateManager.getRedoableCount();
+    }
+
+    @Override
+    public long estimateHistoryBytes() {
+        return this.addressBookStateManager.estimateHistoryBytes();
+    }
+
+    @Override
+    public int trimHistory() {
+        return this.addressBookStateManager.trimHistory();
+    }
+
+    @Override
+    public void rebuildIndexes() {
+        personIndex.rebuild();
+        // The slots found by the old indexes no longer apply, so the filter is looked up again.
+        updateFilteredPersonList(filterPredicate);
+        logger.info(() -> "Rebuilt indexes: " + personIndex);
+    }
+
+    /**
+     * Sets the number of persons from which a new filter is tested on the persons in parallel.
+     */
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        filteredPersons.setParallelThreshold(parallelFilterThreshold);
+    }
+
+    @Override
+    public long getFilterCacheHitCount() {
+        return personIndex.getFilterCache().getHitCount();
+    }
+
+    @Override
+    public long getFilterCacheMissCount() {
+        return personIndex.getFilterCache().getMissCount();
+    }
+
+    private void commitUndoRedoEvent(UndoRedoEvent event, int changes) {
+        if (event.shouldCommit()) {
+            event.setChanges(changes);
+            event.setPersonCount(getAddressBook().getPersonList().size());
+            event.commit();
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -169,10 +369,133 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public FacetCounts getFacetCounts() {
+        return facetCounts;
+    }
+
+    @Override
+    public FacetCounts getShownFacetCounts() {
+        return shownFacetCounts;
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
+        explainFilteredPersonList(predicate);
+    }
+
+    @Override
+    public FilterExplanation explainFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        FilterEvent event = new FilterEvent(predicate.getClass().getSimpleName());
+        event.begin();
+        long startNanos = System.nanoTime();
+        int personCount = getAddressBook().getPersonList().size();
+        // A refinement of the current filter only has to be tested on the persons it shows.
+        boolean isRefinement = RefiningPredicate.isRefinement(predicate, filterPredicate);
+        int examinedCount = isRefinement ? filteredPersons.size() : personCount;
+        filterPredicate = predicate;
+        boolean isShowingAll = predicate == PREDICATE_SHOW_ALL_PERSONS;
+        FilterPlan plan = isShowingAll
+                ? new FilterPlan(predicate, FilterPlan.Strategy.FULL_SCAN, personCount, true)
+                : personIndex.plan(predicate);
+        long plannedNanos = System.nanoTime();
+        if (isRefinement) {
+            filteredPersons.refinePredicate(plan.getPredicate());
+        } else {
+            filteredPersons.setPredicate(plan.getPredicate());
+        }
+        long filteredNanos = System.nanoTime();
+        if (!isShowingAll) {
+            personIndex.cacheResult(predicate, filteredPersons);
+        }
+        long cachedNanos = System.nanoTime();
+        if (event.shouldCommit()) {
+            event.setPersonCount(personCount);
+            event.setShownCount(filteredPersons.size());
+            event.setRefinement(isRefinement);
+            event.commit();
+        }
+
+        Map<String, Long> stageNanos = new LinkedHashMap<>();
+        stageNanos.put(FilterExplanation.STAGE_PLAN, plannedNanos - startNanos);
+        stageNanos.put(FilterExplanation.STAGE_FILTER, filteredNanos - plannedNanos);
+        stageNanos.put(FilterExplanation.STAGE_CACHE, cachedNanos - filteredNanos);
+        return new FilterExplanation(isShowingAll ? DESCRIPTION_ALL_PERSONS : predicate.toString(), plan,
+                isRefinement, examinedCount, filteredPersons.size(), stageNanos);
+    }
+
+    @Override
+    public FilterExplanation showPersonByPhone(PhoneIsKeywordPredicate predicate) {
+        requireNonNull(predicate);
+        return showKeyedPerson(predicate, () -> personIndex.findByPhone(predicate.getPhoneKeyword()));
+    }
+
+    @Override
+    public FilterExplanation showPersonByEmail(EmailIsKeywordPredicate predicate) {
+        requireNonNull(predicate);
+        return showKeyedPerson(predicate, () -> personIndex.findByEmail(predicate.getEmailKeyword()));
+    }
+
+    /**
+     * Shows only the person found by {@code lookup}, the only person that can pass {@code predicate}, by its
+     * position in the address book, so that no other person is tested.<br>
+     * The result is not cached, as looking the person up again costs no more than the cache would.
+     */
+    private FilterExplanation showKeyedPerson(Predicate<Person> predicate, Supplier<Person> lookup) {
+        FilterEvent event = new FilterEvent(predicate.getClass().getSimpleName());
+        event.begin();
+        long startNanos = System.nanoTime();
+        Person person = lookup.get();
+        int position = person == null ? -1 : personIndex.findPosition(person);
+        long plannedNanos = System.nanoTime();
+        filterPredicate = predicate;
+        filteredPersons.showOnly(predicate, position);
+        long filteredNanos = System.nanoTime();
+        if (event.shouldCommit()) {
+            event.setPersonCount(getAddressBook().getPersonList().size());
+            event.setShownCount(filteredPersons.size());
+            event.setRefinement(false);
+            event.commit();
+        }
+
+        Map<String, Long> stageNanos = new LinkedHashMap<>();
+        stageNanos.put(FilterExplanation.STAGE_PLAN, plannedNanos - startNanos);
+        stageNanos.put(FilterExplanation.STAGE_FILTER, filteredNanos - plannedNanos);
+        FilterPlan plan = new FilterPlan(predicate, FilterPlan.Strategy.KEY_LOOKUP, filteredPersons.size(), true);
+        return new FilterExplanation(predicate.toString(), plan, false, filteredPersons.size(),
+                filteredPersons.size(), stageNanos);
+    }
+
+    @Override
+    public void saveView(String name, String commandText, Predicate<Person> predicate) {
+        requireAllNonNull(name, commandText, predicate);
+        userPrefs.setSavedView(name, commandText);
+        SavedView replaced = savedViews.put(name, new SavedView(predicate));
+        if (replaced != null) {
+            replaced.discardPersons();
+        }
+    }
+
+    @Override
+    public Optional<String> getSavedViewCommand(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(userPrefs.getSavedViews().get(name));
+    }
+
+    @Override
+    public boolean showSavedView(String name) {
+        requireNonNull(name);
+        SavedView savedView = savedViews.get(name);
+        if (savedView == null) {
+            return false;
+        }
+        filterPredicate = savedView.predicate;
+        filteredPersons.showSameAs(savedView.getPersons(this.getAddressBook().getPersonList()));
+        if (filterPredicate != PREDICATE_SHOW_ALL_PERSONS) {
+            personIndex.cacheResult(filterPredicate, filteredPersons);
+        }
+        return true;
     }
 
     @Override
@@ -192,4 +515,34 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * A saved view, with the persons that pass its predicate, which are found when first needed and then kept up to
+     * date as the address book changes.
+     */
+    private static class SavedView {
+        private final Predicate<Person> predicate;
+        private FilteredPersonList persons;
+
+        SavedView(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Returns the persons in {@code source}, the persons of the address book, that pass the predicate, testing
+         * every person if they were not found yet or were discarded since.
+         */
+        FilteredPersonList getPersons(ObservableList<Person> source) {
+            if (persons == null) {
+                persons = new FilteredPersonList(source, predicate);
+            }
+            return persons;
+        }
+
+        void discardPersons() {
+            if (persons != null) {
+                persons.detach();
+                persons = null;
+            }
+        }
+    }
 }
@@ -1,9 +1,13 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -15,6 +19,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    /** The commands of the saved views, by the names of the views, in the order they were first saved. */
+    private Map<String, String> savedViews = new LinkedHashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSavedViews(newUserPrefs.getSavedViews());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +63,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public Map<String, String> getSavedViews() {
+        return Collections.unmodifiableMap(savedViews);
+    }
+
+    public void setSavedViews(Map<String, String> savedViews) {
+        requireNonNull(savedViews);
+        this.savedViews = new LinkedHashMap<>(savedViews);
+    }
+
+    /**
+     * Saves {@code commandText} as the command of the view named {@code name}, replacing its previous command.
+     */
+    public void setSavedView(String name, String commandText) {
+        requireAllNonNull(name, commandText);
+        savedViews.put(name, commandText);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +93,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && savedViews.equals(otherUserPrefs.savedViews);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, savedViews);
     }
 
     @Override
@@ -82,6 +107,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSaved views : " + savedViews);
         return sb.toString();
     }
 
@@ -0,0 +1,53 @@
+package seedu.address.model.event;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * All the persons in the address book were replaced at once, e.g. by {@code clear}, {@code undo} or {@code redo}.
+ * Listeners should not expect to be told which persons stayed the same, and should read the persons from the model
+ * again instead.
+ */
+public class BulkReset extends ModelChange {
+    private final int personCount;
+
+    /**
+     * Creates the change of version {@code version} after which the address book has {@code personCount} persons.
+     */
+    public BulkReset(long version, int personCount) {
+        super(version);
+        this.personCount = personCount;
+    }
+
+    /**
+     * Returns the number of persons in the address book after the reset.
+     */
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkReset otherBulkReset)) {
+            return false;
+        }
+
+        return getVersion() == otherBulkReset.getVersion() && personCount == otherBulkReset.personCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getVersion(), personCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("version", getVersion()).add("persons", personCount).toString();
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.model.event;
+
+/**
+ * A change to the persons in the address book, numbered by a version that increases with every change made to the
+ * model, so that listeners can tell which changes they have already seen.
+ */
+public abstract class ModelChange {
+    private final long version;
+
+    protected ModelChange(long version) {
+        this.version = version;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
+
+/**
+ * Collects the changes made to the model, and passes them on to its listeners in one batch when they are published,
+ * e.g. at the end of each command.
+ * Changes are only collected while there are listeners, and a batch that grows past {@link #MAX_PENDING_CHANGES}
+ * is replaced by a single {@link BulkReset}, so that changes that are never published do not pile up.
+ */
+public class ModelChangeBus {
+    public static final int MAX_PENDING_CHANGES = 1000;
+
+    private final List<ModelChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<ModelChange> pendingChanges = new ArrayList<>();
+    private long version = 0;
+    private long publishedVersion = 0;
+    private final IntSupplier personCount;
+
+    /**
+     * Creates a bus for a model whose current number of persons is given by {@code personCount}.
+     */
+    public ModelChangeBus(IntSupplier personCount) {
+        this.personCount = requireNonNull(personCount);
+    }
+
+    public void addListener(ModelChangeListener listener) {
+        listeners.add(requireNonNull(listener));
+    }
+
+    /**
+     * Removes {@code listener}, and drops the changes not yet published if it was the last listener.
+     */
+    public void removeListener(ModelChangeListener listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+            pendingChanges.clear();
+        }
+    }
+
+    /**
+     * Returns the version of the latest change posted, or 0 if none was.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Posts the change created by {@code changeOfVersion} for the next version, to be published with the others of
+     * the same batch. The change is not created if there is no listener to pass it on to.
+     */
+    public void post(LongFunction<? extends ModelChange> changeOfVersion) {
+        version++;
+        if (listeners.isEmpty()) {
+            return;
+        }
+        if (pendingChanges.size() >= MAX_PENDING_CHANGES) {
+            pendingChanges.clear();
+            pendingChanges.add(new BulkReset(version, personCount.getAsInt()));
+            return;
+        }
+        pendingChanges.add(changeOfVersion.apply(version));
+    }
+
+    /**
+     * Passes the changes posted since the last call on to the listeners, if there are any.
+     * Returns true if any change was posted since the last call, even if there was no listener to pass it on to.
+     */
+    public boolean publish() {
+        if (version == publishedVersion) {
+            return false;
+        }
+        publishedVersion = version;
+        if (pendingChanges.isEmpty()) {
+            return true;
+        }
+        List<ModelChange> batch = List.copyOf(pendingChanges);
+        pendingChanges.clear();
+        for (ModelChangeListener listener : listeners) {
+            listener.onModelChanged(batch);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.model.event;
+
+import java.util.List;
+
+/**
+ * Listens to the changes to the persons in the address book.
+ */
+@FunctionalInterface
+public interface ModelChangeListener {
+    /**
+     * Called with the changes made by a command, in the order they were made, which is also increasing version.
+     */
+    void onModelChanged(List<ModelChange> changes);
+}
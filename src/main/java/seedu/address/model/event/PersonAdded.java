@@ -0,0 +1,49 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A person was added to the address book.
+ */
+public class PersonAdded extends ModelChange {
+    private final Person person;
+
+    /**
+     * Creates the change of version {@code version} that added {@code person}.
+     */
+    public PersonAdded(long version, Person person) {
+        super(version);
+        this.person = requireNonNull(person);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonAdded otherPersonAdded)) {
+            return false;
+        }
+
+        return getVersion() == otherPersonAdded.getVersion() && person.equals(otherPersonAdded.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return person.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("version", getVersion()).add("person", person).toString();
+    }
+}
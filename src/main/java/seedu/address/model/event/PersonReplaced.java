@@ -0,0 +1,64 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A person in the address book was replaced by another in the same place, e.g. when it was edited.
+ */
+public class PersonReplaced extends ModelChange {
+    private final Person oldPerson;
+    private final Person newPerson;
+
+    /**
+     * Creates the change of version {@code version} that replaced {@code oldPerson} with {@code newPerson}.
+     */
+    public PersonReplaced(long version, Person oldPerson, Person newPerson) {
+        super(version);
+        requireAllNonNull(oldPerson, newPerson);
+        this.oldPerson = oldPerson;
+        this.newPerson = newPerson;
+    }
+
+    public Person getOldPerson() {
+        return oldPerson;
+    }
+
+    public Person getNewPerson() {
+        return newPerson;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonReplaced otherPersonReplaced)) {
+            return false;
+        }
+
+        return getVersion() == otherPersonReplaced.getVersion()
+                && oldPerson.equals(otherPersonReplaced.oldPerson)
+                && newPerson.equals(otherPersonReplaced.newPerson);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(oldPerson, newPerson);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", getVersion())
+                .add("oldPerson", oldPerson)
+                .add("newPerson", newPerson)
+                .toString();
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.FuzzyMatcher;
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the words in the addresses of persons, which finds the words close to a keyword by the trigrams,
+ * i.e. the substrings of three characters, that they share with it.<br>
+ * Each edit changes at most three trigrams of a word, so a word less than {@code threshold} edits away from a
+ * keyword shares all but at most {@code 3 * (threshold - 1)} of the keyword's trigrams. Only the words that share
+ * enough trigrams with a keyword are compared with it. Words are padded with two spaces on each side, so that
+ * short words and their first and last characters also have trigrams.
+ */
+public class AddressIndex extends WordIndex {
+
+    public static final String MESSAGE_CONSTRAINTS = "The threshold of an address lookup must be positive";
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String PADDING = " ".repeat(GRAM_LENGTH - 1);
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    @Override
+    List<String> getWords(Person person) {
+        return person.getAddress().getSearchWords();
+    }
+
+    @Override
+    void addWord(String word) {
+        for (String trigram : getTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    @Override
+    void removeWord(String word) {
+        for (String trigram : getTrigrams(word)) {
+            Set<String> trigramWords = wordsByTrigram.get(trigram);
+            trigramWords.remove(word);
+            if (trigramWords.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the slots of the persons with an address word that is less than {@code threshold} edits away from
+     * {@code keyword} and passes {@code wordPredicate}.<br>
+     * Words further from {@code keyword} may not be passed to {@code wordPredicate}, so it should only accept words
+     * that are less than {@code threshold} edits away from {@code keyword}.
+     */
+    public CompressedBitmap find(String keyword, int threshold, Predicate<String> wordPredicate) {
+        requireNonNull(keyword);
+        requireNonNull(wordPredicate);
+        checkArgument(threshold > 0, MESSAGE_CONSTRAINTS);
+
+        Set<String> keywordTrigrams = getTrigrams(keyword);
+        int minSharedTrigrams = keywordTrigrams.size() - GRAM_LENGTH * (threshold - 1);
+        if (minSharedTrigrams <= 0) {
+            // The keyword is too short to rule out any word by its trigrams.
+            return getSlots(getDistinctWords(), wordPredicate);
+        }
+
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : keywordTrigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        List<String> candidates = new ArrayList<>();
+        sharedTrigramCounts.forEach((word, count) -> {
+            if (count >= minSharedTrigrams) {
+                candidates.add(word);
+            }
+        });
+        return getSlots(candidates, wordPredicate);
+    }
+
+    /**
+     * Returns the slots of the persons with an address word that is less than {@code threshold} edits away from
+     * {@code keyword}.
+     */
+    public CompressedBitmap find(String keyword, int threshold) {
+        FuzzyMatcher matcher = FuzzyMatcher.getInstance();
+        return find(keyword, threshold, word -> matcher.isDistanceLessThan(word, keyword, threshold));
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
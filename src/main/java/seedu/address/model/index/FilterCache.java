@@ -0,0 +1,98 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A cache of the slots of the persons that passed the predicates filtered by most recently, keyed by the
+ * predicates' {@code equals} and {@code hashCode}. When it is full, the least recently used predicate is evicted.<br>
+ * Each entry is stamped with the version of the {@link PersonIndex} it was found at, so that the persons indexed
+ * after it, i.e. those added or edited since, can be tested again.
+ */
+public class FilterCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+    public static final String MESSAGE_CONSTRAINTS = "The capacity of a filter cache must be positive";
+
+    private final int capacity;
+    private final Map<Predicate<Person>, Entry> entries;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Creates a cache of the results of at most {@code capacity} predicates.
+     */
+    public FilterCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, Entry> eldest) {
+                return size() > FilterCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the entry of {@code predicate} and marks it as the most recently used, or null if there is none.
+     */
+    Entry get(Predicate<Person> predicate) {
+        Entry entry = entries.get(predicate);
+        if (entry == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return entry;
+    }
+
+    void put(Predicate<Person> predicate, CompressedBitmap slots, long version) {
+        entries.put(predicate, new Entry(slots, version));
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", entries.size())
+                .add("capacity", capacity)
+                .add("hits", hitCount)
+                .add("misses", missCount)
+                .toString();
+    }
+
+    /**
+     * The slots of the persons that passed a predicate when the {@link PersonIndex} was at {@code version}.
+     */
+    static class Entry {
+        final CompressedBitmap slots;
+        final long version;
+
+        Entry(CompressedBitmap slots, long version) {
+            this.slots = slots;
+            this.version = version;
+        }
+    }
+}
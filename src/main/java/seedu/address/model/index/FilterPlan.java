@@ -0,0 +1,85 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * How the persons that pass a predicate are to be found: the predicate to test the persons with, and whether it
+ * looks them up in an index or the {@link FilterCache} or tests every person.
+ */
+public class FilterPlan {
+
+    /**
+     * The ways in which the persons that pass a predicate can be found.
+     */
+    public enum Strategy {
+        FULL_SCAN("full scan"),
+        INDEX("index"),
+        KEY_LOOKUP("key lookup"),
+        CACHE_HIT("cache hit");
+
+        private final String description;
+
+        Strategy(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final Predicate<Person> predicate;
+    private final Strategy strategy;
+    private final int candidateCount;
+    private final boolean isExact;
+
+    /**
+     * Creates a plan that tests the persons with {@code predicate}, after {@code strategy} found
+     * {@code candidateCount} candidates, which are known to pass if {@code isExact}.
+     */
+    public FilterPlan(Predicate<Person> predicate, Strategy strategy, int candidateCount, boolean isExact) {
+        requireAllNonNull(predicate, strategy);
+        this.predicate = predicate;
+        this.strategy = strategy;
+        this.candidateCount = candidateCount;
+        this.isExact = isExact;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns the number of persons found by the index or the cache, or the number of persons indexed for a full
+     * scan. Persons indexed after the lookup are tested as well.
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Returns true if the candidates are known to pass without being tested with the predicate.
+     */
+    public boolean isExact() {
+        return isExact;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("strategy", strategy)
+                .add("candidates", candidateCount)
+                .add("exact", isExact)
+                .toString();
+    }
+}
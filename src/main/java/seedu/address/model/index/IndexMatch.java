@@ -0,0 +1,100 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The slots of the persons that an index found for a predicate.<br>
+ * An exact match contains exactly the persons that pass the predicate. Otherwise, it only contains candidates:
+ * every person that passes the predicate is among them, but they must still be tested, either with the whole
+ * predicate or with only the part of it that the index could not resolve.
+ */
+public class IndexMatch {
+    private final CompressedBitmap slots;
+    private final boolean isExact;
+    /** The predicate the candidates must still pass, or null if it is the whole predicate. */
+    private final Predicate<Person> remainingPredicate;
+
+    private IndexMatch(CompressedBitmap slots, boolean isExact, Predicate<Person> remainingPredicate) {
+        this.slots = requireNonNull(slots);
+        this.isExact = isExact;
+        this.remainingPredicate = remainingPredicate;
+    }
+
+    private IndexMatch(CompressedBitmap slots, boolean isExact) {
+        this(slots, isExact, null);
+    }
+
+    /**
+     * Returns a match of exactly the persons in {@code slots}.
+     */
+    public static IndexMatch exact(CompressedBitmap slots) {
+        return new IndexMatch(slots, true);
+    }
+
+    /**
+     * Returns a match of the candidates in {@code slots}, which must still be tested.
+     */
+    public static IndexMatch candidates(CompressedBitmap slots) {
+        return new IndexMatch(slots, false);
+    }
+
+    public CompressedBitmap getSlots() {
+        return slots;
+    }
+
+    public boolean isExact() {
+        return isExact;
+    }
+
+    /**
+     * Returns the predicate that the candidates must still pass, given that {@code predicate} was resolved to
+     * this match. Only applies if the match is not exact.
+     */
+    public Predicate<Person> getRemainingPredicate(Predicate<Person> predicate) {
+        return remainingPredicate == null ? predicate : remainingPredicate;
+    }
+
+    /**
+     * Returns the persons matched by both this and {@code other}, which is exact only if both are.
+     */
+    public IndexMatch and(IndexMatch other) {
+        return new IndexMatch(slots.and(other.slots), isExact && other.isExact);
+    }
+
+    /**
+     * Returns the persons matched by either this or {@code other}, which is exact only if both are.
+     */
+    public IndexMatch or(IndexMatch other) {
+        return new IndexMatch(slots.or(other.slots), isExact && other.isExact);
+    }
+
+    /**
+     * Returns the same persons as candidates, e.g. because other conditions must also be tested on them.
+     */
+    public IndexMatch asCandidates() {
+        return new IndexMatch(slots, false);
+    }
+
+    /**
+     * Returns the same persons as candidates that need only pass {@code remainingPredicate}, e.g. because the
+     * other conditions were exactly resolved by the index.
+     */
+    public IndexMatch asCandidates(Predicate<Person> remainingPredicate) {
+        return new IndexMatch(slots, false, requireNonNull(remainingPredicate));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("slots", slots)
+                .add("isExact", isExact)
+                .add("remainingPredicate", remainingPredicate)
+                .toString();
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the words in the names of persons, which finds the words within {@value #MAX_DISTANCE} edit of a
+ * keyword without comparing the keyword with every word, in the style of SymSpell.<br>
+ * Every distinct word is stored under itself and under each string that can be made by deleting at most
+ * {@value #MAX_DISTANCE} of its characters. Two words are only within {@value #MAX_DISTANCE} edit of each other
+ * if they share one of these strings, so the words close to a keyword are among those stored under the keyword
+ * and its own deletions, and only those need to be compared with it.
+ */
+public class NameIndex extends WordIndex {
+
+    /** The largest edit distance between a keyword and the words found for it. */
+    public static final int MAX_DISTANCE = 1;
+
+    private final Map<String, Set<String>> wordsByDeletion = new HashMap<>();
+
+    @Override
+    List<String> getWords(Person person) {
+        return person.getName().getSearchWords();
+    }
+
+    @Override
+    void addWord(String word) {
+        for (String deletion : getDeletions(word)) {
+            wordsByDeletion.computeIfAbsent(deletion, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    @Override
+    void removeWord(String word) {
+        for (String deletion : getDeletions(word)) {
+            Set<String> deletionWords = wordsByDeletion.get(deletion);
+            deletionWords.remove(word);
+            if (deletionWords.isEmpty()) {
+                wordsByDeletion.remove(deletion);
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        wordsByDeletion.clear();
+    }
+
+    /**
+     * Returns the slots of the persons with a name word that is within {@value #MAX_DISTANCE} edit of
+     * {@code keyword} and passes {@code wordPredicate}.<br>
+     * Words further from {@code keyword} are never passed to {@code wordPredicate}, so it should only accept words
+     * that are within {@value #MAX_DISTANCE} edit of {@code keyword}.
+     */
+    public CompressedBitmap find(String keyword, Predicate<String> wordPredicate) {
+        requireNonNull(keyword);
+        requireNonNull(wordPredicate);
+        Set<String> candidates = new HashSet<>();
+        for (String deletion : getDeletions(keyword)) {
+            candidates.addAll(wordsByDeletion.getOrDefault(deletion, Set.of()));
+        }
+        return getSlots(candidates, wordPredicate);
+    }
+
+    /**
+     * Returns {@code word} and every string made by deleting at most {@value #MAX_DISTANCE} of its characters.
+     */
+    private static Set<String> getDeletions(String word) {
+        Set<String> deletions = new HashSet<>();
+        addDeletions(word, MAX_DISTANCE, deletions);
+        return deletions;
+    }
+
+    private static void addDeletions(String word, int remainingDeletions, Set<String> deletions) {
+        deletions.add(word);
+        if (remainingDeletions == 0) {
+            return;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            addDeletions(word.substring(0, i) + word.substring(i + 1), remainingDeletions - 1, deletions);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.predicate.IndexedPredicate;
+
+/**
+ * Indexes the persons of an address book, and keeps the indexes up to date as persons are added, edited, deleted
+ * or replaced (e.g. by {@code clear}, {@code undo} or {@code import}).<br>
+ * Each person is given a slot, a small number that stays the same for as long as the person is in the address
+ * book, and indexes store the slots of the persons they find in compressed bitmaps.
+ */
+public class PersonIndex {
+    private final ObservableList<Person> persons;
+    private final Map<Person, Integer> slotsByPerson = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private CompressedBitmap occupiedSlots = new CompressedBitmap();
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount = 0;
+    /** The version at which the person in each slot was indexed. */
+    private long[] slotVersions = new long[16];
+    private long version = 0;
+
+    private final Map<String, Person> personsByPhone = new HashMap<>();
+    private final Map<String, Person> personsByEmail = new HashMap<>();
+    private final PositionIndex positionIndex = new PositionIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private final AddressIndex addressIndex = new AddressIndex();
+    private final FilterCache filterCache = new FilterCache(FilterCache.DEFAULT_CAPACITY);
+
+    /**
+     * Creates an index of {@code persons} that follows the changes to it.
+     */
+    public PersonIndex(ObservableList<Person> persons) {
+        this.persons = requireNonNull(persons);
+        persons.addListener(this::handleChange);
+        rebuild();
+    }
+
+    /**
+     * Discards the indexes and builds them again from the persons in the address book.
+     */
+    public void rebuild() {
+        slotsByPerson.clear();
+        personsBySlot.clear();
+        occupiedSlots = new CompressedBitmap();
+        freeSlotCount = 0;
+        personsByPhone.clear();
+        personsByEmail.clear();
+        tagIndex.clear();
+        nameIndex.clear();
+        addressIndex.clear();
+        filterCache.clear();
+        positionIndex.invalidate();
+        persons.forEach(this::addPerson);
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            // Slots do not depend on the order of the persons, so permutations need no changes.
+            change.getRemoved().forEach(this::removePerson);
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(this::addPerson);
+            }
+            updatePositions(change);
+        }
+    }
+
+    /**
+     * Updates the positions of the persons in {@code change} if they were replaced in place, removed or appended, and
+     * marks the positions as stale otherwise.
+     */
+    private void updatePositions(ListChangeListener.Change<? extends Person> change) {
+        if (!positionIndex.isValid()) {
+            return;
+        }
+        if (change.wasPermutated()) {
+            positionIndex.invalidate();
+        } else if (change.getRemovedSize() == change.getAddedSize()) {
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                positionIndex.replace(change.getRemoved().get(i), persons.get(change.getFrom() + i));
+            }
+        } else if (change.getAddedSize() == 0) {
+            change.getRemoved().forEach(positionIndex::remove);
+        } else if (change.getRemovedSize() == 0 && change.getTo() == persons.size()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                positionIndex.append(persons.get(i));
+            }
+        } else {
+            positionIndex.invalidate();
+        }
+    }
+
+    private void addPerson(Person person) {
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : personsBySlot.size();
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        if (slot >= slotVersions.length) {
+            slotVersions = Arrays.copyOf(slotVersions, Math.max(slot + 1, slotVersions.length * 2));
+        }
+        slotVersions[slot] = ++version;
+        slotsByPerson.put(person, slot);
+        occupiedSlots.add(slot);
+        personsByPhone.put(person.getPhone().value, person);
+        personsByEmail.put(person.getEmail().value, person);
+        tagIndex.add(slot, person);
+        nameIndex.add(slot, person);
+        addressIndex.add(slot, person);
+    }
+
+    private void removePerson(Person person) {
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+        // Another person may already have taken the phone or email in a change that replaces this person.
+        personsByPhone.remove(person.getPhone().value, person);
+        personsByEmail.remove(person.getEmail().value, person);
+        tagIndex.remove(slot, person);
+        nameIndex.remove(slot, person);
+        addressIndex.remove(slot, person);
+        occupiedSlots.remove(slot);
+        personsBySlot.set(slot, null);
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+        version++;
+    }
+
+    /**
+     * Returns the slot of {@code person}, or -1 if this exact instance is not in the address book.
+     */
+    public int getSlot(Person person) {
+        Integer slot = slotsByPerson.get(person);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the person in {@code slot}, or null if the slot is free.
+     */
+    public Person getPerson(int slot) {
+        return slot < personsBySlot.size() ? personsBySlot.get(slot) : null;
+    }
+
+    /**
+     * Returns the person with the phone number {@code phone}, or null if there is none.
+     */
+    public Person findByPhone(String phone) {
+        requireNonNull(phone);
+        return personsByPhone.get(phone);
+    }
+
+    /**
+     * Returns the person with the email address {@code email}, or null if there is none.
+     */
+    public Person findByEmail(String email) {
+        requireNonNull(email);
+        return personsByEmail.get(email);
+    }
+
+    /**
+     * Returns the position of {@code person} in the address book, or -1 if this exact instance is not in it.<br>
+     * This takes logarithmic time, also after persons were removed, unless persons were inserted before the end or
+     * reordered since the last call, in which case the positions of all the persons are found again first.
+     */
+    public int findPosition(Person person) {
+        requireNonNull(person);
+        if (!positionIndex.isValid()) {
+            positionIndex.rebuild(persons);
+        }
+        return positionIndex.find(person);
+    }
+
+    /**
+     * Returns the slots of every person in the address book.
+     */
+    public CompressedBitmap getAllSlots() {
+        return occupiedSlots.or(new CompressedBitmap());
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    public AddressIndex getAddressIndex() {
+        return addressIndex;
+    }
+
+    public FilterCache getFilterCache() {
+        return filterCache;
+    }
+
+    /**
+     * Returns a predicate that passes the same persons as {@code predicate}, but looks them up in the indexes
+     * where it can instead of testing every person.<br>
+     * Persons added to or edited in the address book afterwards are tested with {@code predicate} itself.<br>
+     * The persons found by a predicate equal to {@code predicate} given to {@link #cacheResult} are used if they
+     * are still cached, in which case only the persons indexed since are tested.
+     */
+    public Predicate<Person> optimize(Predicate<Person> predicate) {
+        return plan(predicate).getPredicate();
+    }
+
+    /**
+     * Returns how the persons that pass {@code predicate} are to be found, with the predicate returned by
+     * {@link #optimize} and the strategy it uses.
+     */
+    public FilterPlan plan(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        FilterCache.Entry cached = filterCache.get(predicate);
+        if (cached != null) {
+            return new FilterPlan(new IndexedFilter(predicate, IndexMatch.exact(cached.slots), cached.version),
+                    FilterPlan.Strategy.CACHE_HIT, cached.slots.getCardinality(), true);
+        }
+        Optional<IndexMatch> match = predicate instanceof IndexedPredicate indexedPredicate
+                ? indexedPredicate.resolve(this)
+                : Optional.empty();
+        if (match.isEmpty()) {
+            return new FilterPlan(predicate, FilterPlan.Strategy.FULL_SCAN, persons.size(), false);
+        }
+        return new FilterPlan(new IndexedFilter(predicate, match.get(), version), FilterPlan.Strategy.INDEX,
+                match.get().getSlots().getCardinality(), match.get().isExact());
+    }
+
+    /**
+     * Caches {@code passing}, which must be the persons in the address book that pass {@code predicate}, as the
+     * result of {@code predicate}.
+     */
+    public void cacheResult(Predicate<Person> predicate, List<? extends Person> passing) {
+        requireNonNull(predicate);
+        CompressedBitmap slots = new CompressedBitmap();
+        for (int i = 0; i < passing.size(); i++) {
+            int slot = getSlot(passing.get(i));
+            if (slot < 0) {
+                // The person is not indexed yet, so the result cannot be stored as slots.
+                return;
+            }
+            slots.add(slot);
+        }
+        filterCache.put(predicate, slots, version);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", slotsByPerson.size())
+                .add("distinctTags", tagIndex.getDistinctTagCount())
+                .add("distinctNameWords", nameIndex.getDistinctWordCount())
+                .add("distinctAddressWords", addressIndex.getDistinctWordCount())
+                .add("filterCache", filterCache)
+                .toString();
+    }
+
+    /**
+     * Tests persons by looking up the slots found by an index, falling back to the predicate for persons that were
+     * indexed after the lookup. Candidates are only tested with the part of the predicate the index did not resolve.
+     */
+    private class IndexedFilter implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final IndexMatch match;
+        private final Predicate<Person> candidatePredicate;
+        private final long matchVersion;
+
+        IndexedFilter(Predicate<Person> predicate, IndexMatch match, long matchVersion) {
+            this.predicate = predicate;
+            this.match = match;
+            this.candidatePredicate = match.getRemainingPredicate(predicate);
+            this.matchVersion = matchVersion;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            int slot = getSlot(person);
+            if (slot < 0 || slotVersions[slot] > matchVersion) {
+                return predicate.test(person);
+            }
+            if (!match.getSlots().contains(slot)) {
+                return false;
+            }
+            return match.isExact() || candidatePredicate.test(person);
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
+        }
+    }
+}
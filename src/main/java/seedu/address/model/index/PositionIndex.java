@@ -0,0 +1,130 @@
+package seedu.address.model.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The position of each person in the address book, kept up to date as persons are appended, replaced or removed.<br>
+ * Each person is given a key when it is appended, and keys increase along the address book. The position of a
+ * person is thus the number of persons with smaller keys, which a Fenwick tree over the keys counts in logarithmic
+ * time, so removing a person does not move the keys of the persons after it. Persons inserted before the end or
+ * reordered make the keys stale, in which case they are given again when next needed.
+ */
+class PositionIndex {
+    private static final int MIN_CAPACITY = 16;
+
+    private final Map<Person, Integer> keysByPerson = new IdentityHashMap<>();
+    private final BitSet usedKeys = new BitSet();
+    /** The Fenwick tree, in which entry {@code i} counts the used keys from {@code i - (i & -i)} to {@code i - 1}. */
+    private int[] counts = new int[MIN_CAPACITY + 1];
+    private int nextKey = 0;
+    private boolean isValid = false;
+
+    boolean isValid() {
+        return isValid;
+    }
+
+    /**
+     * Marks the keys as stale, so that they are given again from the persons by the next {@link #rebuild}.
+     */
+    void invalidate() {
+        isValid = false;
+        keysByPerson.clear();
+        usedKeys.clear();
+    }
+
+    /**
+     * Gives keys to {@code persons} again, in order.
+     */
+    void rebuild(List<Person> persons) {
+        keysByPerson.clear();
+        usedKeys.clear();
+        for (nextKey = 0; nextKey < persons.size(); nextKey++) {
+            keysByPerson.put(persons.get(nextKey), nextKey);
+            usedKeys.set(nextKey);
+        }
+        counts = new int[Math.max(MIN_CAPACITY, persons.size() * 2) + 1];
+        buildCounts();
+        isValid = true;
+    }
+
+    /**
+     * Gives {@code person}, which was added at the end of the address book, the next key.
+     */
+    void append(Person person) {
+        if (nextKey == counts.length - 1) {
+            if (keysByPerson.size() < nextKey / 2) {
+                // Most keys were removed, so the keys are given again rather than the tree grown.
+                invalidate();
+                return;
+            }
+            counts = new int[nextKey * 2 + 1];
+            buildCounts();
+        }
+        int key = nextKey++;
+        keysByPerson.put(person, key);
+        usedKeys.set(key);
+        add(key, 1);
+    }
+
+    /**
+     * Gives {@code editedPerson} the key of {@code target}, which it replaced in place.
+     */
+    void replace(Person target, Person editedPerson) {
+        Integer key = keysByPerson.remove(target);
+        if (key == null) {
+            invalidate();
+            return;
+        }
+        keysByPerson.put(editedPerson, key);
+    }
+
+    void remove(Person person) {
+        Integer key = keysByPerson.remove(person);
+        if (key == null) {
+            invalidate();
+            return;
+        }
+        usedKeys.clear(key);
+        add(key, -1);
+    }
+
+    /**
+     * Returns the position of {@code person}, or -1 if this exact instance has no key.
+     */
+    int find(Person person) {
+        Integer key = keysByPerson.get(person);
+        if (key == null) {
+            return -1;
+        }
+        int position = 0;
+        for (int i = key; i > 0; i -= i & -i) {
+            position += counts[i];
+        }
+        return position;
+    }
+
+    private void add(int key, int delta) {
+        for (int i = key + 1; i < counts.length; i += i & -i) {
+            counts[i] += delta;
+        }
+    }
+
+    private void buildCounts() {
+        Arrays.fill(counts, 0);
+        for (int key = usedKeys.nextSetBit(0); key >= 0; key = usedKeys.nextSetBit(key + 1)) {
+            counts[key + 1] = 1;
+        }
+        for (int i = 1; i < counts.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < counts.length) {
+                counts[parent] += counts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from each distinct tag to the slots of the persons that have it.<br>
+ * A tag filter only has to match its keywords against the distinct tags, which are far fewer than the persons, and
+ * then combine the bitmaps of the tags that match.
+ */
+public class TagIndex {
+    private final Map<Tag, CompressedBitmap> slotsByTag = new HashMap<>();
+
+    void add(int slot, Person person) {
+        for (Tag tag : person.getTags()) {
+            slotsByTag.computeIfAbsent(tag, unused -> new CompressedBitmap()).add(slot);
+        }
+    }
+
+    void remove(int slot, Person person) {
+        for (Tag tag : person.getTags()) {
+            CompressedBitmap slots = slotsByTag.get(tag);
+            if (slots != null && slots.remove(slot) && slots.isEmpty()) {
+                slotsByTag.remove(tag);
+            }
+        }
+    }
+
+    void clear() {
+        slotsByTag.clear();
+    }
+
+    /**
+     * Returns the slots of the persons with at least one tag that passes {@code tagPredicate}.
+     */
+    public CompressedBitmap find(Predicate<Tag> tagPredicate) {
+        requireNonNull(tagPredicate);
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Tag, CompressedBitmap> entry : slotsByTag.entrySet()) {
+            if (tagPredicate.test(entry.getKey())) {
+                result = result.or(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct tags of the persons in the address book.
+     */
+    public int getDistinctTagCount() {
+        return slotsByTag.size();
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.person.Person;
+
+/**
+ * An index from each distinct search word of a field of persons to the slots of the persons whose field has it.
+ * Subclasses are told when a word is first added and last removed, to keep their own lookup structures over the
+ * distinct words.
+ */
+abstract class WordIndex {
+    private final Map<String, CompressedBitmap> slotsByWord = new HashMap<>();
+
+    /**
+     * Returns the search words of the indexed field of {@code person}.
+     */
+    abstract List<String> getWords(Person person);
+
+    /**
+     * Called when {@code word} is added to the index for the first person with it.
+     */
+    abstract void addWord(String word);
+
+    /**
+     * Called when {@code word} is removed from the index for the last person with it.
+     */
+    abstract void removeWord(String word);
+
+    void add(int slot, Person person) {
+        List<String> words = getWords(person);
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            CompressedBitmap slots = slotsByWord.get(word);
+            if (slots == null) {
+                slots = new CompressedBitmap();
+                slotsByWord.put(word, slots);
+                addWord(word);
+            }
+            slots.add(slot);
+        }
+    }
+
+    void remove(int slot, Person person) {
+        List<String> words = getWords(person);
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            CompressedBitmap slots = slotsByWord.get(word);
+            if (slots != null && slots.remove(slot) && slots.isEmpty()) {
+                slotsByWord.remove(word);
+                removeWord(word);
+            }
+        }
+    }
+
+    void clear() {
+        slotsByWord.clear();
+    }
+
+    /**
+     * Returns the distinct words in the index.
+     */
+    Collection<String> getDistinctWords() {
+        return slotsByWord.keySet();
+    }
+
+    /**
+     * Returns the slots of the persons with one of {@code words} that passes {@code wordPredicate}.
+     */
+    CompressedBitmap getSlots(Collection<String> words, Predicate<String> wordPredicate) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (String word : words) {
+            CompressedBitmap slots = slotsByWord.get(word);
+            if (slots != null && wordPredicate.test(word)) {
+                result = result.or(slots);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots of the persons with {@code word}.
+     */
+    public CompressedBitmap getSlots(String word) {
+        requireNonNull(word);
+        CompressedBitmap slots = slotsByWord.get(word);
+        return slots == null ? new CompressedBitmap() : slots.or(new CompressedBitmap());
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    public int getDistinctWordCount() {
+        return slotsByWord.size();
+    }
+}
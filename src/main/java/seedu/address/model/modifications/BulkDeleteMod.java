@@ -0,0 +1,57 @@
+package seedu.address.model.modifications;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Record of a deletion of several contacts from the address book at once.
+ */
+public class BulkDeleteMod extends Modification {
+    public static final String MOD_TYPE = "Delete %d persons";
+
+    private final List<Person> targetPersons;
+
+    /**
+     * Constructs a BulkDeleteMod.
+     * @param targetPersons The persons deleted.
+     */
+    public BulkDeleteMod(List<Person> targetPersons) {
+        super();
+        this.targetPersons = List.copyOf(targetPersons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetPersons", this.targetPersons.size())
+                .toString();
+    }
+
+    @Override
+    public String getUserDescription() {
+        return String.format(MOD_TYPE, this.targetPersons.size());
+    }
+
+    public List<Person> getTargetPersons() {
+        return this.targetPersons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkDeleteMod)) {
+            return false;
+        }
+
+        BulkDeleteMod otherBulkDeleteMod = (BulkDeleteMod) other;
+
+        return ((Modification) this).equals((Modification) otherBulkDeleteMod)
+                && this.targetPersons.equals(otherBulkDeleteMod.targetPersons);
+    }
+}
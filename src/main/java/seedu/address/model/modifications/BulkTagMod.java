@@ -0,0 +1,64 @@
+package seedu.address.model.modifications;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Record of adding tags to, or removing tags from, several contacts in the address book at once.
+ */
+public class BulkTagMod extends Modification {
+    public static final String MOD_TYPE_ADD = "Add tags %s to %d persons";
+    public static final String MOD_TYPE_REMOVE = "Remove tags %s from %d persons";
+
+    private final Set<Tag> tags;
+    private final boolean isAdding;
+    private final int personCount;
+
+    /**
+     * Constructs a BulkTagMod.
+     * @param tags The tags added or removed.
+     * @param isAdding Whether the tags were added rather than removed.
+     * @param personCount The number of persons whose tags changed.
+     */
+    public BulkTagMod(Set<Tag> tags, boolean isAdding, int personCount) {
+        super();
+        this.tags = Set.copyOf(tags);
+        this.isAdding = isAdding;
+        this.personCount = personCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", this.tags)
+                .add("isAdding", this.isAdding)
+                .add("personCount", this.personCount)
+                .toString();
+    }
+
+    @Override
+    public String getUserDescription() {
+        return String.format(this.isAdding ? MOD_TYPE_ADD : MOD_TYPE_REMOVE, this.tags, this.personCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkTagMod)) {
+            return false;
+        }
+
+        BulkTagMod otherBulkTagMod = (BulkTagMod) other;
+
+        return ((Modification) this).equals((Modification) otherBulkTagMod)
+                && this.tags.equals(otherBulkTagMod.tags)
+                && this.isAdding == otherBulkTagMod.isAdding
+                && this.personCount == otherBulkTagMod.personCount;
+    }
+}
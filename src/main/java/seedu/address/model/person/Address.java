@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -19,6 +23,7 @@ public class Address {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     public final String value;
+    private final List<String> searchWords;
 
     /**
      * Constructs an {@code Address}.
@@ -29,6 +34,7 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        searchWords = StringUtil.toSearchWords(address);
     }
 
     /**
@@ -38,6 +44,15 @@ public class Address {
         return test.matches(VALIDATION_REGEX) && test.length() <= 255;
     }
 
+    /**
+     * Returns the words of this address that keywords are matched against.
+     *
+     * @see StringUtil#toSearchWords(String)
+     */
+    public List<String> getSearchWords() {
+        return searchWords;
+    }
+
     @Override
     public String toString() {
         return value;
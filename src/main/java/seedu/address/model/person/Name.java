@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +23,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final List<String> searchWords;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +34,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        searchWords = StringUtil.toSearchWords(name);
     }
 
     /**
@@ -38,6 +44,15 @@ public class Name {
         return test.matches(VALIDATION_REGEX) && test.length() <= 100;
     }
 
+    /**
+     * Returns the words of this name that keywords are matched against.
+     *
+     * @see StringUtil#toSearchWords(String)
+     */
+    public List<String> getSearchWords() {
+        return searchWords;
+    }
+
 
     @Override
     public String toString() {
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's note in the address book.
  * Guarantees: immutable; is always valid
@@ -13,6 +17,7 @@ public class Note {
 
 
     public final String value;
+    private final List<String> searchWords;
 
     /**
      * Constructs a {@code Note}.
@@ -23,6 +28,7 @@ public class Note {
         requireNonNull(note);
         checkArgument(isValidNote(note), MESSAGE_CONSTRAINTS);
         this.value = note;
+        this.searchWords = StringUtil.toSearchWords(note);
     }
 
     /**
@@ -32,6 +38,15 @@ public class Note {
         return test.length() <= 255;
     }
 
+    /**
+     * Returns the words of this note that keywords are matched against.
+     *
+     * @see StringUtil#toSearchWords(String)
+     */
+    public List<String> getSearchWords() {
+        return searchWords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
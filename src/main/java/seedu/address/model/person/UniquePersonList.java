@@ -3,10 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -24,7 +30,7 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -95,6 +101,41 @@ public class UniquePersonList implements Iterable<Person> {
         }
     }
 
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list, in one change of the list.
+     * The persons must all exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> personsToRemove = new HashSet<>(toRemove);
+        if (internalList.stream().filter(personsToRemove::contains).count() != personsToRemove.size()) {
+            throw new PersonNotFoundException();
+        }
+        internalList.removeAll(personsToRemove);
+    }
+
+    /**
+     * Replaces each person in the list that is a key of {@code editedPersons} with its value, in one pass over the
+     * list and in one change of the list. Every key must exist in the list.
+     * The persons in the list after the replacement must all have different person identities.
+     */
+    public void replaceAll(Map<Person, Person> editedPersons) {
+        requireAllNonNull(editedPersons.keySet());
+        requireAllNonNull(editedPersons.values());
+        if (internalList.stream().filter(editedPersons::containsKey).count() != editedPersons.size()) {
+            throw new PersonNotFoundException();
+        }
+        // Only persons whose phone or email changed can clash with the others
+        boolean isIdentityChanged = editedPersons.entrySet().stream().anyMatch(entry ->
+                !entry.getKey().hasSamePhoneNumber(entry.getValue()) || !entry.getKey().hasSameEmail(entry.getValue()));
+        if (isIdentityChanged && !personsAreUnique(internalList.stream()
+                .map(person -> editedPersons.getOrDefault(person, person)).toList())) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.replaceAll(editedPersons);
+    }
+
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -150,15 +191,84 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * An observable list of persons that can replace many of its persons in one change, which is then handled once
+     * by each of its listeners.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+
+        /**
+         * Replaces each person that is a key of {@code editedPersons} with its value, in one change.
+         */
+        void replaceAll(Map<Person, Person> editedPersons) {
+            beginChange();
+            try {
+                for (int i = 0; i < persons.size(); i++) {
+                    Person editedPerson = editedPersons.get(persons.get(i));
+                    if (editedPerson != null) {
+                        nextSet(i, persons.set(i, editedPerson));
+                    }
+                }
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public void clear() {
+            // Removes all the persons at once, rather than one by one from the front of the list.
+            if (persons.isEmpty()) {
+                return;
+            }
+            beginChange();
+            try {
+                nextRemove(0, List.copyOf(persons));
+                persons.clear();
+                modCount++;
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            modCount++;
+            return persons.remove(index);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Two persons are the same if they share a phone or an email, see Person#isSamePerson(Person)
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        for (Person person : persons) {
+            if (!phones.add(person.getPhone()) || !emails.add(person.getEmail())) {
+                return false;
             }
         }
         return true;
@@ -1,36 +1,114 @@
 package seedu.address.model.predicate;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.FuzzyMatcher;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.AddressIndex;
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Address} <b>approximately</b> matches the address given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsPredicate implements CostedPredicate<Person>, IndexedPredicate, RefiningPredicate {
+    /** The edit distance that every part of the keyword must be less than from a word of the address. */
+    private static final int THRESHOLD = 3;
+
     private final String addressKeyword;
+    private final List<String> addressKeywordParts;
+    /** Parts that are numbers, such as block or unit numbers, which must match a word of the address exactly. */
+    private final List<String> numberAddressKeywordParts;
+    /** Parts of at most two characters, which must be at most one edit away from a word of the address. */
+    private final List<String> shortAddressKeywordParts;
 
+    /**
+     * Creates a predicate that matches persons whose address is close to {@code addressKeyword}.
+     */
     public AddressContainsKeywordsPredicate(String addressKeyword) {
         this.addressKeyword = addressKeyword;
+        this.addressKeywordParts = StringUtil.toSearchWords(addressKeyword);
+        this.numberAddressKeywordParts = addressKeywordParts.stream()
+                .filter(StringUtil::isNonZeroUnsignedInteger).toList();
+        this.shortAddressKeywordParts = addressKeywordParts.stream().filter(part -> part.length() < 3).toList();
     }
 
     @Override
     public boolean test(Person person) {
-        String address = person.getAddress().value;
-        String[] addressKeywordParts = addressKeyword.split("\\s+");
-        for (String addressKeywordPart: addressKeywordParts) {
-            if ((StringUtil.isNonZeroUnsignedInteger(addressKeywordPart)
-                        && !StringUtil.containsWordIgnoreCase(address, addressKeywordPart, false, null)
-                        && !StringUtil.containsWordIgnoreCase(address, addressKeywordPart + ",", false, null))
-                    || (addressKeywordPart.length() < 3
-                        && !StringUtil.containsWordIgnoreCase(address, addressKeywordPart, true,
-                    addressKeywordPart.length()))) {
+        List<String> addressWords = person.getAddress().getSearchWords();
+        for (String addressKeywordPart : numberAddressKeywordParts) {
+            if (!containsNumber(addressWords, addressKeywordPart)) {
+                return false;
+            }
+        }
+        for (String addressKeywordPart : shortAddressKeywordParts) {
+            if (!StringUtil.containsCloseWord(addressWords, addressKeywordPart, addressKeywordPart.length())) {
                 return false;
             }
         }
-        return StringUtil.computeCloseness(address, addressKeyword) < 3;
+        return FuzzyMatcher.getInstance().isClosenessLessThan(addressWords, addressKeywordParts, THRESHOLD);
+    }
+
+    /**
+     * Returns true if {@code addressWords} contains {@code number}, possibly followed by a comma.
+     */
+    private static boolean containsNumber(List<String> addressWords, String number) {
+        for (String addressWord : addressWords) {
+            if (addressWord.equals(number) || (addressWord.length() == number.length() + 1
+                    && addressWord.startsWith(number) && addressWord.endsWith(","))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the persons that pass each check of {@link #test(Person)} in the address index, and returns those
+     * that pass all of them. Each check needs one word of the address, but not necessarily the same word.
+     */
+    @Override
+    public Optional<IndexMatch> resolve(PersonIndex index) {
+        AddressIndex addressIndex = index.getAddressIndex();
+        CompressedBitmap result = index.getAllSlots();
+        for (String part : numberAddressKeywordParts) {
+            result = result.and(addressIndex.getSlots(part).or(addressIndex.getSlots(part + ",")));
+        }
+        for (String part : shortAddressKeywordParts) {
+            if (part.isEmpty()) {
+                return Optional.empty();
+            }
+            result = result.and(addressIndex.find(part, part.length(),
+                    word -> StringUtil.containsCloseWord(List.of(word), part, part.length())));
+        }
+        for (String part : addressKeywordParts) {
+            result = result.and(addressIndex.find(part, THRESHOLD));
+        }
+        return Optional.of(IndexMatch.exact(result));
+    }
+
+    /**
+     * Returns true if {@code other} is an address predicate whose keyword parts are all parts of this keyword.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof AddressContainsKeywordsPredicate otherPredicate
+                && addressKeywordParts.containsAll(otherPredicate.addressKeywordParts);
+    }
+
+    @Override
+    public double estimateCost() {
+        // An address has several words, each compared with every part of the keyword.
+        return 4 * UNIT_COST * addressKeywordParts.size();
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return 0.05;
     }
 
     @Override
@@ -48,6 +126,11 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
         return addressKeyword.equals(otherTagContainsKeywordsPredicate.addressKeyword);
     }
 
+    @Override
+    public int hashCode() {
+        return addressKeyword.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("address", addressKeyword).toString();
@@ -0,0 +1,161 @@
+package seedu.address.model.predicate;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} passes <b>all</b> of the given predicates.<br>
+ * The predicates are tested in increasing order of their cost divided by the fraction of persons they reject, so
+ * that cheap predicates that reject many persons are tested first, and testing stops at the first that fails.
+ */
+public class AndPredicate implements CostedPredicate<Person>, IndexedPredicate, RefiningPredicate {
+
+    public static final String MESSAGE_CONSTRAINTS = "At least one predicate must be combined";
+
+    private final List<Predicate<Person>> predicates;
+    private final double cost;
+    private final double selectivity;
+
+    /**
+     * Creates a predicate that is the conjunction of {@code predicates}.
+     * Predicates that are themselves {@code AndPredicate}s are merged into this one.
+     */
+    public AndPredicate(List<? extends Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        checkArgument(!predicates.isEmpty(), MESSAGE_CONSTRAINTS);
+
+        List<Predicate<Person>> merged = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof AndPredicate andPredicate) {
+                merged.addAll(andPredicate.predicates);
+            } else {
+                merged.add(requireNonNull(predicate));
+            }
+        }
+        merged.sort(Comparator.comparingDouble(AndPredicate::rank));
+        this.predicates = List.copyOf(merged);
+
+        double totalCost = 0;
+        double passing = 1;
+        for (Predicate<Person> predicate : this.predicates) {
+            totalCost += passing * CostedPredicate.costOf(predicate);
+            passing *= CostedPredicate.selectivityOf(predicate);
+        }
+        this.cost = totalCost;
+        this.selectivity = passing;
+    }
+
+    private static double rank(Predicate<Person> predicate) {
+        return CostedPredicate.costOf(predicate) / (1 - CostedPredicate.selectivityOf(predicate));
+    }
+
+    /**
+     * Returns the combined predicates in the order they are tested.
+     */
+    public List<Predicate<Person>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (int i = 0; i < predicates.size(); i++) {
+            if (!predicates.get(i).test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the persons found by the predicates that can be looked up, which is exact only if all of them can be.
+     * Otherwise the candidates need only be tested with the predicates that were not exactly looked up.
+     */
+    @Override
+    public Optional<IndexMatch> resolve(PersonIndex index) {
+        IndexMatch result = null;
+        List<Predicate<Person>> remainingPredicates = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            Optional<IndexMatch> match = IndexedPredicate.matchOf(predicate, index);
+            if (match.isEmpty()) {
+                remainingPredicates.add(predicate);
+                continue;
+            }
+            if (!match.get().isExact()) {
+                remainingPredicates.add(match.get().getRemainingPredicate(predicate));
+            }
+            result = result == null ? match.get() : result.and(match.get());
+        }
+        if (result == null) {
+            return Optional.empty();
+        }
+        if (remainingPredicates.isEmpty()) {
+            return Optional.of(result);
+        }
+        return Optional.of(result.asCandidates(remainingPredicates.size() == 1
+                ? remainingPredicates.get(0)
+                : new AndPredicate(remainingPredicates)));
+    }
+
+    /**
+     * Returns true if every predicate combined by {@code other}, or {@code other} itself if it is not an
+     * {@code AndPredicate}, is refined by one of the predicates combined by this one. Adding a condition to a
+     * conjunction, or narrowing one of its conditions, is thus a refinement.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        List<Predicate<Person>> otherPredicates = other instanceof AndPredicate otherAndPredicate
+                ? otherAndPredicate.predicates
+                : List.of(other);
+        for (Predicate<Person> otherPredicate : otherPredicates) {
+            if (predicates.stream().noneMatch(predicate -> RefiningPredicate.isRefinement(predicate, otherPredicate))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public double estimateCost() {
+        return cost;
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return selectivity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndPredicate otherAndPredicate)) {
+            return false;
+        }
+
+        return predicates.equals(otherAndPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
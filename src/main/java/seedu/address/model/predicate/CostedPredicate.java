@@ -0,0 +1,40 @@
+package seedu.address.model.predicate;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that can estimate how expensive it is to test, and how many of the values tested pass it.
+ * The estimates let {@link AndPredicate} and {@link OrPredicate} test the conditions most likely to decide the
+ * result cheaply first.
+ */
+public interface CostedPredicate<T> extends Predicate<T> {
+
+    /** The cost of a test that only compares a few short strings. */
+    double UNIT_COST = 1;
+
+    /**
+     * Returns the estimated cost of testing one value, relative to {@link #UNIT_COST}.
+     */
+    double estimateCost();
+
+    /**
+     * Returns the estimated fraction of values that pass this predicate, between 0 and 1.
+     */
+    double estimateSelectivity();
+
+    /**
+     * Returns the estimated cost of testing one value with {@code predicate}, which need not be a
+     * {@code CostedPredicate}.
+     */
+    static double costOf(Predicate<?> predicate) {
+        return predicate instanceof CostedPredicate<?> costed ? costed.estimateCost() : UNIT_COST;
+    }
+
+    /**
+     * Returns the estimated fraction of values that pass {@code predicate}, which need not be a
+     * {@code CostedPredicate}.
+     */
+    static double selectivityOf(Predicate<?> predicate) {
+        return predicate instanceof CostedPredicate<?> costed ? costed.estimateSelectivity() : 0.5;
+    }
+}
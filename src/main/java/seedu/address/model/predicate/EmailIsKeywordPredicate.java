@@ -1,25 +1,55 @@
 package seedu.address.model.predicate;
 
-import java.util.function.Predicate;
+import java.util.Optional;
 
+import seedu.address.commons.util.CompressedBitmap;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Email} <b>exactly</b> matches the email given.
  */
-public class EmailIsKeywordPredicate implements Predicate<Person> {
+public class EmailIsKeywordPredicate implements CostedPredicate<Person>, IndexedPredicate {
     private final String emailKeyword;
 
     public EmailIsKeywordPredicate(String emailKeyword) {
         this.emailKeyword = emailKeyword;
     }
 
+    public String getEmailKeyword() {
+        return emailKeyword;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getEmail().value.equals(emailKeyword);
     }
 
+    /**
+     * Looks up the only person with the email address, since no two persons share one.
+     */
+    @Override
+    public Optional<IndexMatch> resolve(PersonIndex index) {
+        Person person = index.findByEmail(emailKeyword);
+        CompressedBitmap slots = new CompressedBitmap();
+        if (person != null) {
+            slots.add(index.getSlot(person));
+        }
+        return Optional.of(IndexMatch.exact(slots));
+    }
+
+    @Override
+    public double estimateCost() {
+        return UNIT_COST;
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return 0.001;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -35,6 +65,11 @@ public class EmailIsKeywordPredicate implements Predicate<Person> {
         return this.emailKeyword.equals(otherEmailIsKeywordPredicate.emailKeyword);
     }
 
+    @Override
+    public int hashCode() {
+        return emailKeyword.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("email", emailKeyword).toString();
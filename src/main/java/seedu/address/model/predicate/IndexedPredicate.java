@@ -0,0 +1,29 @@
+package seedu.address.model.predicate;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} on persons that can look up the persons that pass it in the indexes of a {@link PersonIndex},
+ * instead of being tested on every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that pass this predicate, or an empty {@code Optional} if the indexes
+     * cannot narrow them down.
+     */
+    Optional<IndexMatch> resolve(PersonIndex index);
+
+    /**
+     * Returns the persons in {@code index} that pass {@code predicate}, which need not be an
+     * {@code IndexedPredicate}.
+     */
+    static Optional<IndexMatch> matchOf(Predicate<Person> predicate, PersonIndex index) {
+        return predicate instanceof IndexedPredicate indexed ? indexed.resolve(index) : Optional.empty();
+    }
+}
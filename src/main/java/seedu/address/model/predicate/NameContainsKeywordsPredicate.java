@@ -1,32 +1,87 @@
 package seedu.address.model.predicate;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.FuzzyMatcher;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.NameIndex;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Name} <b>approximately</b> matches the name given (case-insensitive).
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements CostedPredicate<Person>, IndexedPredicate, RefiningPredicate {
+    /** The edit distance that every part of the keyword must be less than from a word of the name. */
+    private static final int THRESHOLD = NameIndex.MAX_DISTANCE + 1;
+
     private final String nameKeyword;
+    private final List<String> nameKeywordParts;
+    /** Parts of a single character, which must match a word of the name exactly. */
+    private final List<String> shortNameKeywordParts;
 
+    /**
+     * Creates a predicate that matches persons whose name is close to {@code nameKeyword}.
+     */
     public NameContainsKeywordsPredicate(String nameKeyword) {
         this.nameKeyword = nameKeyword;
+        this.nameKeywordParts = StringUtil.toSearchWords(nameKeyword);
+        this.shortNameKeywordParts = nameKeywordParts.stream().filter(part -> part.length() < 2).toList();
     }
 
     @Override
     public boolean test(Person person) {
-        String name = person.getName().fullName;
-        String[] nameKeywordParts = nameKeyword.split("\\s+");
-        for (String nameKeywordPart : nameKeywordParts) {
-            if (nameKeywordPart.length() < 2
-                    && !StringUtil.containsWordIgnoreCase(name, nameKeywordPart, true, 2)) {
+        List<String> nameWords = person.getName().getSearchWords();
+        for (String nameKeywordPart : shortNameKeywordParts) {
+            if (!StringUtil.containsCloseWord(nameWords, nameKeywordPart, THRESHOLD)) {
                 return false;
             }
         }
-        return StringUtil.computeCloseness(name, nameKeyword) < 2;
+        return FuzzyMatcher.getInstance().isClosenessLessThan(nameWords, nameKeywordParts, THRESHOLD);
+    }
+
+    /**
+     * Looks up the persons with a name word close to each part of the keyword in the name index, and returns
+     * those found for every part.
+     */
+    @Override
+    public Optional<IndexMatch> resolve(PersonIndex index) {
+        NameIndex nameIndex = index.getNameIndex();
+        FuzzyMatcher matcher = FuzzyMatcher.getInstance();
+        CompressedBitmap result = null;
+        for (String part : nameKeywordParts) {
+            CompressedBitmap slots = nameIndex.find(part, part.length() < 2
+                    ? word -> StringUtil.containsCloseWord(List.of(word), part, THRESHOLD)
+                    : word -> matcher.isDistanceLessThan(word, part, THRESHOLD));
+            result = result == null ? slots : result.and(slots);
+        }
+        return Optional.of(IndexMatch.exact(result == null ? index.getAllSlots() : result));
+    }
+
+    /**
+     * Returns true if {@code other} is a name predicate whose keyword has only words of this keyword. Each word is
+     * matched on its own, so adding words can only exclude persons, but lengthening a word can match other names.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof NameContainsKeywordsPredicate otherPredicate
+                && nameKeywordParts.containsAll(otherPredicate.nameKeywordParts);
+    }
+
+    @Override
+    public double estimateCost() {
+        // A name has a few words, each compared with every part of the keyword.
+        return 2 * UNIT_COST * nameKeywordParts.size();
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return 0.05;
     }
 
     @Override
@@ -44,6 +99,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return nameKeyword.equals(otherNameContainsKeywordsPredicate.nameKeyword);
     }
 
+    @Override
+    public int hashCode() {
+        return nameKeyword.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("name", nameKeyword).toString();
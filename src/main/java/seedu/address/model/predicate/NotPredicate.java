@@ -0,0 +1,83 @@
+package seedu.address.model.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does <b>not</b> pass the given predicate.
+ */
+public class NotPredicate implements CostedPredicate<Person>, IndexedPredicate, RefiningPredicate {
+    private final Predicate<Person> predicate;
+
+    public NotPredicate(Predicate<Person> predicate) {
+        this.predicate = requireNonNull(predicate);
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !predicate.test(person);
+    }
+
+    @Override
+    public Optional<IndexMatch> resolve(PersonIndex index) {
+        // The persons that do not pass a predicate are only known if exactly those that pass it are.
+        return IndexedPredicate.matchOf(predicate, index)
+                .filter(IndexMatch::isExact)
+                .map(match -> IndexMatch.exact(index.getAllSlots().andNot(match.getSlots())));
+    }
+
+    /**
+     * Returns true if {@code other} negates a refinement of the predicate this one negates, since the persons
+     * that fail a predicate also fail its refinements.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof NotPredicate otherNotPredicate
+                && RefiningPredicate.isRefinement(otherNotPredicate.predicate, predicate);
+    }
+
+    @Override
+    public double estimateCost() {
+        return CostedPredicate.costOf(predicate);
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return 1 - CostedPredicate.selectivityOf(predicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate otherNotPredicate)) {
+            return false;
+        }
+
+        return predicate.equals(otherNotPredicate.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.predicate;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Note} contains every word of the keywords given (case-insensitive).
+ */
+public class NoteContainsKeywordsPredicate implements CostedPredicate<Person>, RefiningPredicate {
+    private final String noteKeywords;
+    private final List<String> noteKeywordParts;
+
+    /**
+     * Creates a predicate that matches persons whose note contains every word of {@code noteKeywords}.
+     */
+    public NoteContainsKeywordsPredicate(String noteKeywords) {
+        this.noteKeywords = noteKeywords;
+        this.noteKeywordParts = StringUtil.toSearchWords(noteKeywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> noteWords = person.getNote().getSearchWords();
+        for (String noteKeywordPart : noteKeywordParts) {
+            if (!StringUtil.containsWord(noteWords, noteKeywordPart)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code other} looks for some of the words of this keyword in the note.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof NoteContainsKeywordsPredicate otherPredicate
+                && noteKeywordParts.containsAll(otherPredicate.noteKeywordParts);
+    }
+
+    @Override
+    public double estimateCost() {
+        return UNIT_COST * noteKeywordParts.size();
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return 0.1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        NoteContainsKeywordsPredicate otherNoteContainsKeywordsPredicate = (NoteContainsKeywordsPredicate) other;
+        return noteKeywords.equals(otherNoteContainsKeywordsPredicate.noteKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return noteKeywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("note", noteKeywords).toString();
+    }
+}
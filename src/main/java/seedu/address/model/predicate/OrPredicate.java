@@ -0,0 +1,147 @@
+package seedu.address.model.predicate;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} passes <b>any</b> of the given predicates.<br>
+ * The predicates are tested in increasing order of their cost divided by the fraction of persons they accept, so
+ * that cheap predicates that accept many persons are tested first, and testing stops at the first that passes.
+ */
+public class OrPredicate implements CostedPredicate<Person>, IndexedPredicate, RefiningPredicate {
+
+    public static final String MESSAGE_CONSTRAINTS = "At least one predicate must be combined";
+
+    private final List<Predicate<Person>> predicates;
+    private final double cost;
+    private final double selectivity;
+
+    /**
+     * Creates a predicate that is the disjunction of {@code predicates}.
+     * Predicates that are themselves {@code OrPredicate}s are merged into this one.
+     */
+    public OrPredicate(List<? extends Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        checkArgument(!predicates.isEmpty(), MESSAGE_CONSTRAINTS);
+
+        List<Predicate<Person>> merged = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof OrPredicate orPredicate) {
+                merged.addAll(orPredicate.predicates);
+            } else {
+                merged.add(requireNonNull(predicate));
+            }
+        }
+        merged.sort(Comparator.comparingDouble(OrPredicate::rank));
+        this.predicates = List.copyOf(merged);
+
+        double totalCost = 0;
+        double failing = 1;
+        for (Predicate<Person> predicate : this.predicates) {
+            totalCost += failing * CostedPredicate.costOf(predicate);
+            failing *= 1 - CostedPredicate.selectivityOf(predicate);
+        }
+        this.cost = totalCost;
+        this.selectivity = 1 - failing;
+    }
+
+    private static double rank(Predicate<Person> predicate) {
+        return CostedPredicate.costOf(predicate) / CostedPredicate.selectivityOf(predicate);
+    }
+
+    /**
+     * Returns the combined predicates in the order they are tested.
+     */
+    public List<Predicate<Person>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (int i = 0; i < predicates.size(); i++) {
+            if (predicates.get(i).test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the persons found by the predicates, if all of them can be looked up.
+     */
+    @Override
+    public Optional<IndexMatch> resolve(PersonIndex index) {
+        IndexMatch result = null;
+        for (Predicate<Person> predicate : predicates) {
+            Optional<IndexMatch> match = IndexedPredicate.matchOf(predicate, index);
+            if (match.isEmpty()) {
+                return Optional.empty();
+            }
+            result = result == null ? match.get() : result.or(match.get());
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Returns true if each predicate combined by this one refines {@code other}, or one of the predicates combined
+     * by {@code other} if it is an {@code OrPredicate}.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        List<Predicate<Person>> otherPredicates = other instanceof OrPredicate otherOrPredicate
+                ? otherOrPredicate.predicates
+                : List.of(other);
+        for (Predicate<Person> predicate : predicates) {
+            if (otherPredicates.stream()
+                    .noneMatch(otherPredicate -> RefiningPredicate.isRefinement(predicate, otherPredicate))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public double estimateCost() {
+        return cost;
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return selectivity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrPredicate otherOrPredicate)) {
+            return false;
+        }
+
+        return predicates.equals(otherOrPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
@@ -1,25 +1,55 @@
 package seedu.address.model.predicate;
 
-import java.util.function.Predicate;
+import java.util.Optional;
 
+import seedu.address.commons.util.CompressedBitmap;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} <b>exactly</b> matches the phone given.
  */
-public class PhoneIsKeywordPredicate implements Predicate<Person> {
+public class PhoneIsKeywordPredicate implements CostedPredicate<Person>, IndexedPredicate {
     private final String phoneKeyword;
 
     public PhoneIsKeywordPredicate(String phoneKeyword) {
         this.phoneKeyword = phoneKeyword;
     }
 
+    public String getPhoneKeyword() {
+        return phoneKeyword;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getPhone().value.equals(phoneKeyword);
     }
 
+    /**
+     * Looks up the only person with the phone number, since no two persons share one.
+     */
+    @Override
+    public Optional<IndexMatch> resolve(PersonIndex index) {
+        Person person = index.findByPhone(phoneKeyword);
+        CompressedBitmap slots = new CompressedBitmap();
+        if (person != null) {
+            slots.add(index.getSlot(person));
+        }
+        return Optional.of(IndexMatch.exact(slots));
+    }
+
+    @Override
+    public double estimateCost() {
+        return UNIT_COST;
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return 0.001;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -34,6 +64,11 @@ public class PhoneIsKeywordPredicate implements Predicate<Person> {
         return this.phoneKeyword.equals(otherPhoneIsKeywordPredicate.phoneKeyword);
     }
 
+    @Override
+    public int hashCode() {
+        return phoneKeyword.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("phone", phoneKeyword).toString();
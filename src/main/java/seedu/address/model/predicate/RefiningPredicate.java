@@ -0,0 +1,28 @@
+package seedu.address.model.predicate;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} on persons that can tell when it is a refinement of another, i.e. when every person that
+ * passes it is sure to pass the other as well.<br>
+ * A refinement only has to be tested on the persons that passed the predicate it refines.
+ */
+public interface RefiningPredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every person that passes this predicate passes {@code other}.
+     * Returning false is always safe, and only means that it could not be proven.
+     */
+    boolean refines(Predicate<Person> other);
+
+    /**
+     * Returns true if {@code predicate}, which need not be a {@code RefiningPredicate}, is proven to be a
+     * refinement of {@code other}. Every predicate is a refinement of a predicate equal to it.
+     */
+    static boolean isRefinement(Predicate<Person> predicate, Predicate<Person> other) {
+        return predicate.equals(other)
+                || predicate instanceof RefiningPredicate refining && refining.refines(other);
+    }
+}
@@ -1,38 +1,81 @@
 package seedu.address.model.predicate;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.FuzzyMatcher;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexMatch;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that at least one of the {@code Person}'s {@code Tag} <b>approximately</b> matches any of the tags given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements CostedPredicate<Person>, IndexedPredicate, RefiningPredicate {
     private final String tagKeywords;
+    private final List<String> tagKeywordParts;
+    /** Parts of at most two characters, which must be at most one edit away from a word of the tag. */
+    private final List<String> shortTagKeywordParts;
 
+    /**
+     * Creates a predicate that matches persons with a tag close to {@code tagKeywords}.
+     */
     public TagContainsKeywordsPredicate(String tagKeywords) {
         this.tagKeywords = tagKeywords;
+        this.tagKeywordParts = StringUtil.toSearchWords(tagKeywords);
+        this.shortTagKeywordParts = tagKeywordParts.stream().filter(part -> part.length() < 3).toList();
     }
 
     @Override
     public boolean test(Person person) {
         Set<Tag> tags = person.getTags();
-        return tags.stream().anyMatch(tag -> {
-            String tagName = tag.tagName;
-            String[] tagKeywordParts = tagKeywords.split("\\s+");
-            for (String tagKeywordPart : tagKeywordParts) {
-                if (tagKeywordPart.length() < 3
-                        && !StringUtil.containsWordIgnoreCase(tagName, tagKeywordPart, true,
-                        tagKeywordPart.length())) {
-                    return false;
-                }
+        for (Tag tag : tags) {
+            if (matches(tag.getSearchWords())) {
+                return true;
             }
-            return StringUtil.computeCloseness(tagName, tagKeywords) < 3;
-        });
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<IndexMatch> resolve(PersonIndex index) {
+        // Each distinct tag is matched once, however many persons have it.
+        return Optional.of(IndexMatch.exact(index.getTagIndex().find(tag -> matches(tag.getSearchWords()))));
+    }
+
+    private boolean matches(List<String> tagWords) {
+        for (String tagKeywordPart : shortTagKeywordParts) {
+            if (!StringUtil.containsCloseWord(tagWords, tagKeywordPart, tagKeywordPart.length())) {
+                return false;
+            }
+        }
+        return FuzzyMatcher.getInstance().isClosenessLessThan(tagWords, tagKeywordParts, 3);
+    }
+
+    /**
+     * Returns true if {@code other} is a tag predicate whose keyword parts are all parts of this keyword, as a tag
+     * that matches every part of this keyword matches every part of {@code other}.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof TagContainsKeywordsPredicate otherPredicate
+                && tagKeywordParts.containsAll(otherPredicate.tagKeywordParts);
+    }
+
+    @Override
+    public double estimateCost() {
+        // Tags are short, but a person may have several.
+        return 2 * UNIT_COST * tagKeywordParts.size();
+    }
+
+    @Override
+    public double estimateSelectivity() {
+        return 0.2;
     }
 
     @Override
@@ -50,6 +93,11 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         return tagKeywords.equals(otherTagContainsKeywordsPredicate.tagKeywords);
     }
 
+    @Override
+    public int hashCode() {
+        return tagKeywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("tags", tagKeywords).toString();
@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,6 +18,7 @@ public class Tag {
     public static final String VALIDATION_REGEX = "[\\p{Alnum} ]+";
 
     public final String tagName;
+    private final List<String> searchWords;
 
     /**
      * Constructs a {@code Tag}.
@@ -24,6 +29,7 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.searchWords = StringUtil.toSearchWords(tagName);
     }
 
     /**
@@ -33,6 +39,15 @@ public class Tag {
         return test.matches(VALIDATION_REGEX) && test.length() <= 50;
     }
 
+    /**
+     * Returns the words of this tag name that keywords are matched against.
+     *
+     * @see StringUtil#toSearchWords(String)
+     */
+    public List<String> getSearchWords() {
+        return searchWords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
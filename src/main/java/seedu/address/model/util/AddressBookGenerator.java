@@ -0,0 +1,296 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates synthetic persons for load tests and benchmarks, in the shape of a real address book:
+ * <ul>
+ *     <li>Surnames, streets, email domains and tags follow Zipfian distributions, so a few are very common.</li>
+ *     <li>Many addresses share the same streets, and many emails share the same domains.</li>
+ *     <li>Some notes are long, up to the maximum length of a note.</li>
+ *     <li>A fraction of persons (see {@link #withDuplicateRate(double)}) reuse the phone or the email of a recent
+ *     person, as when a contact is entered twice.</li>
+ * </ul>
+ * Persons are generated one at a time, so any number of them can be streamed to storage without holding them all in
+ * memory. The same seed and settings always generate the same persons.
+ */
+public class AddressBookGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+    public static final double DEFAULT_DUPLICATE_RATE = 0.01;
+    public static final int DEFAULT_TAG_COUNT = 40;
+    public static final String MESSAGE_INVALID_DUPLICATE_RATE = "Duplicate rate must be at least 0 and less than 1";
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Mei Ling", "Wei Jie", "Siti", "Kumar", "Hui Min",
+        "Jun Hao", "Aisyah", "Rajesh", "Xin Yi", "Daniel", "Nur", "Ethan", "Priya", "Marcus", "Grace", "Benjamin",
+        "Farah", "Ravi", "Jia Hui", "Ryan", "Amanda", "Hafiz", "Shu Fen", "Joshua", "Nicole", "Arjun"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho",
+        "Low", "Toh", "Sim", "Chong", "Chia", "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Rahman",
+        "Pillai", "Chen", "Kaur", "Abdullah", "Fernandez"
+    };
+    private static final String[] STREETS = {
+        "Serangoon Gardens", "Ang Mo Kio", "Tampines", "Bedok North", "Jurong West", "Geylang", "Toa Payoh",
+        "Clementi", "Yishun", "Woodlands", "Hougang", "Bukit Batok", "Pasir Ris", "Aljunied", "Sengkang East",
+        "Punggol Field", "Choa Chu Kang", "Bukit Merah", "Queenstown", "Kallang Bahru", "Marine Parade",
+        "Lorong 3 Serangoon", "Simei", "Telok Blangah"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+        "gmail.com", "yahoo.com", "hotmail.com", "outlook.com", "example.com", "craftmail.sg", "singnet.com.sg",
+        "icloud.com", "u.nus.edu", "handmade.co"
+    };
+    private static final String[] TAG_WORDS = {
+        "supplier", "customer", "friends", "colleagues", "wholesale", "retail", "yarn", "fabric", "beads", "paper",
+        "wood", "ceramics", "leather", "vip", "overdue", "family", "neighbours", "classmates", "bulk", "local"
+    };
+    private static final String[] NOTE_WORDS = {
+        "prefers", "delivery", "on", "weekends", "orders", "yarn", "in", "bulk", "every", "month", "call", "before",
+        "visiting", "pays", "by", "cash", "usually", "asks", "for", "discount", "likes", "handmade", "ceramics",
+        "and", "wooden", "toys", "restock", "next", "week", "reliable", "supplier", "of", "fabric", "beads", "the",
+        "workshop", "is", "closed", "mondays"
+    };
+
+    /** See {@link Note#isValidNote(String)}. */
+    private static final int NOTE_MAX_LENGTH = 255;
+    /** Number of recent persons whose phones and emails can be reused by a duplicate. */
+    private static final int RECENT_WINDOW = 256;
+    /** Phones come from a permutation of this many numbers, so that consecutive persons have unrelated phones. */
+    private static final int PHONE_RANGE = 1 << 24;
+
+    private final long seed;
+    private double duplicateRate = DEFAULT_DUPLICATE_RATE;
+    private int tagCount = DEFAULT_TAG_COUNT;
+
+    /**
+     * Creates a generator with the given {@code seed} and the default settings.
+     */
+    public AddressBookGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the fraction of persons that reuse the phone or the email of a recent person. Such persons are the
+     * same person as far as {@link Person#isSamePerson(Person)} is concerned.
+     * The rate must be less than 1, so that persons with a phone and an email of their own are still generated.
+     */
+    public AddressBookGenerator withDuplicateRate(double duplicateRate) {
+        checkArgument(duplicateRate >= 0 && duplicateRate < 1, MESSAGE_INVALID_DUPLICATE_RATE);
+        this.duplicateRate = duplicateRate;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags to draw from.
+     */
+    public AddressBookGenerator withTagCount(int tagCount) {
+        checkArgument(tagCount > 0, "Tag count must be positive");
+        this.tagCount = tagCount;
+        return this;
+    }
+
+    /**
+     * Returns a stream of {@code count} generated persons, which may contain duplicates.
+     */
+    public Stream<Person> stream(int count) {
+        checkArgument(count >= 0, "Count must not be negative");
+        Spliterator<Person> spliterator = Spliterators.spliterator(new PersonIterator(count), count,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Returns a list of {@code count} generated persons with no duplicates. Generated persons that are the same as
+     * an earlier person are skipped, as when importing with duplicates suppressed.
+     */
+    public List<Person> generateUniquePersons(int count) {
+        checkArgument(count >= 0, "Count must not be negative");
+        List<Person> persons = new ArrayList<>(count);
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        Iterator<Person> iterator = new PersonIterator(Integer.MAX_VALUE);
+        while (persons.size() < count) {
+            Person person = iterator.next();
+            if (phones.contains(person.getPhone()) || emails.contains(person.getEmail())) {
+                continue;
+            }
+            phones.add(person.getPhone());
+            emails.add(person.getEmail());
+            persons.add(person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} generated persons with no duplicates.
+     *
+     * @see #generateUniquePersons(int)
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generateUniquePersons(count));
+        return addressBook;
+    }
+
+    /**
+     * Generates persons one at a time from a single random sequence.
+     */
+    private class PersonIterator implements Iterator<Person> {
+        private final int count;
+        private final SplittableRandom random = new SplittableRandom(seed);
+        private final ZipfDistribution lastNames = new ZipfDistribution(LAST_NAMES.length, 1.0);
+        private final ZipfDistribution streets = new ZipfDistribution(STREETS.length, 0.9);
+        private final ZipfDistribution emailDomains = new ZipfDistribution(EMAIL_DOMAINS.length, 1.2);
+        private final ZipfDistribution tags = new ZipfDistribution(tagCount, 1.1);
+        private final Phone[] recentPhones = new Phone[RECENT_WINDOW];
+        private final Email[] recentEmails = new Email[RECENT_WINDOW];
+        private int generated = 0;
+
+        PersonIterator(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return generated < count;
+        }
+
+        @Override
+        public Person next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[lastNames.sample(random)];
+            Phone phone = new Phone(generatePhone(generated));
+            Email email = new Email(generateEmail(firstName, lastName, generated));
+            if (generated > 0 && random.nextDouble() < duplicateRate) {
+                int recent = random.nextInt(Math.min(generated, RECENT_WINDOW));
+                if (random.nextBoolean()) {
+                    phone = recentPhones[recent];
+                } else {
+                    email = recentEmails[recent];
+                }
+            }
+
+            Person person = new Person(new Name(firstName + " " + lastName), phone, email,
+                    new Address(generateAddress()), generateTags(), new Note(generateNote()));
+            recentPhones[generated % RECENT_WINDOW] = phone;
+            recentEmails[generated % RECENT_WINDOW] = email;
+            generated++;
+            return person;
+        }
+
+        /**
+         * Returns a phone that no other position has, starting with 8 or 9 like a local mobile number.
+         */
+        private String generatePhone(int position) {
+            if (position >= PHONE_RANGE) {
+                return String.valueOf(6_000_000_000L + position);
+            }
+            // Multiplying by an odd number is a permutation of [0, PHONE_RANGE)
+            long permuted = (position * 0x9E3779B1L + seed) & (PHONE_RANGE - 1);
+            return String.valueOf(80_000_000L + permuted);
+        }
+
+        private String generateEmail(String firstName, String lastName, int position) {
+            String localPart = (firstName.replace(" ", "") + "." + lastName).toLowerCase() + position;
+            return localPart + "@" + EMAIL_DOMAINS[emailDomains.sample(random)];
+        }
+
+        private String generateAddress() {
+            return "Blk " + (1 + random.nextInt(999)) + " " + STREETS[streets.sample(random)]
+                    + " Street " + (1 + random.nextInt(99))
+                    + String.format(", #%02d-%02d", 1 + random.nextInt(30), 1 + random.nextInt(150));
+        }
+
+        private Set<Tag> generateTags() {
+            double roll = random.nextDouble();
+            int count = roll < 0.2 ? 0 : roll < 0.6 ? 1 : roll < 0.9 ? 2 : 3;
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                personTags.add(new Tag(getTagName(tags.sample(random))));
+            }
+            return personTags;
+        }
+
+        /**
+         * Returns an empty note for half of the persons, a short note for most of the rest,
+         * and a note close to the maximum length otherwise.
+         */
+        private String generateNote() {
+            double roll = random.nextDouble();
+            if (roll < 0.5) {
+                return "";
+            }
+            int maxLength = roll < 0.85 ? 20 + random.nextInt(60) : NOTE_MAX_LENGTH - random.nextInt(20);
+            StringBuilder note = new StringBuilder();
+            while (true) {
+                String word = NOTE_WORDS[random.nextInt(NOTE_WORDS.length)];
+                if (note.length() + word.length() + 1 > maxLength) {
+                    return note.toString();
+                }
+                note.append(note.length() == 0 ? "" : " ").append(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the tag of the given rank, where rank 0 is the most common tag.
+     */
+    private static String getTagName(int rank) {
+        String word = TAG_WORDS[rank % TAG_WORDS.length];
+        int round = rank / TAG_WORDS.length;
+        return round == 0 ? word : word + round;
+    }
+
+    /**
+     * A Zipfian distribution over the ranks {@code [0, size)}, where rank {@code k} is drawn with probability
+     * proportional to {@code 1 / (k + 1)^exponent}.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeProbabilities;
+
+        ZipfDistribution(int size, double exponent) {
+            cumulativeProbabilities = new double[size];
+            double total = 0;
+            for (int k = 0; k < size; k++) {
+                total += 1 / Math.pow(k + 1, exponent);
+                cumulativeProbabilities[k] = total;
+            }
+            for (int k = 0; k < size; k++) {
+                cumulativeProbabilities[k] /= total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+            int rank = index >= 0 ? index : -index - 1;
+            return Math.min(rank, cumulativeProbabilities.length - 1);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons to an address book JSON file one at a time, so that address books too large to hold in memory
+ * (e.g. generated ones) can be saved. The file can be read by {@link JsonAddressBookStorage}.
+ * The file is only complete once this writer is closed.
+ */
+public class JsonAddressBookWriter implements AutoCloseable {
+
+    private final JsonGenerator generator;
+
+    /**
+     * Creates a writer that overwrites the file at {@code filePath}, creating it if it does not exist.
+     */
+    public JsonAddressBookWriter(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        generator = JsonUtil.createJsonFileGenerator(filePath);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+    }
+
+    /**
+     * Appends {@code person} to the file.
+     */
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        generator.writeObject(new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Appends all the persons from {@code persons} to the file, in order.
+     */
+    public void writeAll(Iterator<Person> persons) throws IOException {
+        requireNonNull(persons);
+        while (persons.hasNext()) {
+            write(persons.next());
+        }
+    }
+
+    /**
+     * Finishes writing the file.
+     */
+    @Override
+    public void close() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.close();
+    }
+}
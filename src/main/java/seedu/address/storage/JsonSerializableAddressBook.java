@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,7 +13,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -46,14 +50,18 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>();
+        UniqueIdentifiers identifiers = new UniqueIdentifiers();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            if (!identifiers.add(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            modelPersons.add(person);
         }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
@@ -65,14 +73,40 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelTypeIgnoreDuplicates() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>();
+        UniqueIdentifiers identifiers = new UniqueIdentifiers();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            if (!identifiers.add(person)) {
                 continue;
             }
-            addressBook.addPerson(person);
+            modelPersons.add(person);
         }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
+
+    /**
+     * The phone numbers and emails of the persons converted so far, so that duplicates can be found
+     * without comparing every pair of persons.
+     */
+    private static class UniqueIdentifiers {
+        private final Set<Phone> phones = new HashSet<>();
+        private final Set<Email> emails = new HashSet<>();
+
+        /**
+         * Records the identifiers of {@code person} and returns true,
+         * or returns false without recording anything if {@code person} is the same as a recorded person.
+         */
+        boolean add(Person person) {
+            if (phones.contains(person.getPhone()) || emails.contains(person.getEmail())) {
+                return false;
+            }
+            phones.add(person.getPhone());
+            emails.add(person.getEmail());
+            return true;
+        }
+    }
 }
@@ -1,12 +1,15 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.jfr.ReadEvent;
+import seedu.address.commons.jfr.SaveEvent;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -60,14 +63,30 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        ReadEvent event = new ReadEvent(filePath.toString(), false);
+        event.begin();
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        commitReadEvent(event, filePath, addressBook);
+        return addressBook;
     }
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBookIgnoreDuplicates(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data (ignore duplicates) from file: " + filePath);
-        return addressBookStorage.readAddressBookIgnoreDuplicates(filePath);
+        logger.fine(() -> "Attempting to read data (ignore duplicates) from file: " + filePath);
+        ReadEvent event = new ReadEvent(filePath.toString(), true);
+        event.begin();
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBookIgnoreDuplicates(filePath);
+        commitReadEvent(event, filePath, addressBook);
+        return addressBook;
+    }
+
+    private static void commitReadEvent(ReadEvent event, Path filePath, Optional<ReadOnlyAddressBook> addressBook) {
+        if (event.shouldCommit()) {
+            event.setPersonCount(addressBook.map(book -> book.getPersonList().size()).orElse(0));
+            event.setBytesRead(getFileSize(filePath));
+            event.commit();
+        }
     }
 
     @Override
@@ -77,8 +96,26 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        SaveEvent event = new SaveEvent(filePath.toString());
+        event.begin();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (event.shouldCommit()) {
+            event.setPersonCount(addressBook.getPersonList().size());
+            event.setBytesWritten(getFileSize(filePath));
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath}, or 0 if it cannot be read.
+     */
+    private static long getFileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return 0;
+        }
     }
 
 }
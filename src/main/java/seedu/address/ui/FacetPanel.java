@@ -0,0 +1,64 @@
+package seedu.address.ui;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.logic.commands.FacetsCommand;
+import seedu.address.model.FacetCounts;
+
+/**
+ * Panel showing the most common tags and email domains, with how many of the persons listed and of all the persons
+ * have each of them.
+ */
+public class FacetPanel extends UiPart<Region> {
+
+    /** The number of tags, and of email domains, shown at most. */
+    public static final int MAX_FACETS_SHOWN = 8;
+
+    private static final String FXML = "FacetPanel.fxml";
+
+    private final FacetCounts facetCounts;
+    private final FacetCounts shownFacetCounts;
+    private boolean isRefreshPending = false;
+
+    @FXML
+    private Label tagFacets;
+
+    @FXML
+    private Label emailDomainFacets;
+
+    /**
+     * Creates a {@code FacetPanel} with the counts of all the persons and of the persons listed.
+     */
+    public FacetPanel(FacetCounts facetCounts, FacetCounts shownFacetCounts) {
+        super(FXML);
+        this.facetCounts = facetCounts;
+        this.shownFacetCounts = shownFacetCounts;
+        facetCounts.addListener(unused -> scheduleRefresh());
+        shownFacetCounts.addListener(unused -> scheduleRefresh());
+        refresh();
+    }
+
+    /**
+     * Refreshes the panel once the current event has been handled, so that a command that changes many persons
+     * only refreshes it once.
+     */
+    private void scheduleRefresh() {
+        if (isRefreshPending) {
+            return;
+        }
+        isRefreshPending = true;
+        Platform.runLater(() -> {
+            isRefreshPending = false;
+            refresh();
+        });
+    }
+
+    private void refresh() {
+        tagFacets.setText(String.format(FacetsCommand.MESSAGE_TAGS, FacetsCommand.formatFacets(
+                facetCounts.getTagCounts(), shownFacetCounts.getTagCounts(), MAX_FACETS_SHOWN)));
+        emailDomainFacets.setText(String.format(FacetsCommand.MESSAGE_EMAIL_DOMAINS, FacetsCommand.formatFacets(
+                facetCounts.getEmailDomainCounts(), shownFacetCounts.getEmailDomainCounts(), MAX_FACETS_SHOWN)));
+    }
+}
@@ -2,16 +2,20 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LivePreview;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -31,8 +35,13 @@ public class MainWindow extends UiPart<Stage> {
     private Logic logic;
 
     // Independent Ui parts residing in this Ui container
+    // The facet panel, result display, status bar and help window are only created when first needed, after the
+    // first frame.
     private PersonListPanel personListPanel;
+    private FacetPanel facetPanel;
+    private LivePreview livePreview;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -41,6 +50,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private MenuItem helpMenuItem;
 
+    @FXML
+    private StackPane facetPanelPlaceholder;
+
     @FXML
     private StackPane personListPanelPlaceholder;
 
@@ -65,8 +77,6 @@ public class MainWindow extends UiPart<Stage> {
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -114,14 +124,60 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        resultDisplay = new ResultDisplay();
-        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        livePreview = new LivePreview(logic.getAddressBook().getPersonList(), logic::parseFilter, Platform::runLater,
+                personListPanel);
+        CommandBox commandBox = new CommandBox(this::executeCommand, livePreview::update);
+        commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+    }
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+    /**
+     * Fills up the placeholders that were left empty by {@link #fillInnerParts()}.
+     * Meant to be called once the first frame has been shown, so that their FXML does not delay it.
+     */
+    void fillDeferredParts() {
+        if (facetPanel == null) {
+            facetPanel = new FacetPanel(logic.getFacetCounts(), logic.getShownFacetCounts());
+            facetPanelPlaceholder.getChildren().add(facetPanel.getRoot());
+        }
+        getResultDisplay();
+        getStatusBarFooter();
+    }
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
-        commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+    /**
+     * Runs {@code action} on the JavaFX application thread once the next frame of this window has been laid out.
+     */
+    void runAfterNextFrame(Runnable action) {
+        Scene scene = primaryStage.getScene();
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                Platform.runLater(action);
+            }
+        });
+    }
+
+    private ResultDisplay getResultDisplay() {
+        if (resultDisplay == null) {
+            resultDisplay = new ResultDisplay();
+            resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        }
+        return resultDisplay;
+    }
+
+    private StatusBarFooter getStatusBarFooter() {
+        if (statusBarFooter == null) {
+            statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+            statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        }
+        return statusBarFooter;
+    }
+
+    private HelpWindow getHelpWindow() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
+        return helpWindow;
     }
 
     /**
@@ -141,6 +197,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        HelpWindow helpWindow = getHelpWindow();
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -160,7 +217,9 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -168,16 +227,30 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Executes a command that did not come from the command box, e.g. from a startup script.
+     * The result is shown to the user in the same way as a command entered in the command box.
+     */
+    void executeScriptedCommand(String commandText) {
+        try {
+            executeCommand(commandText);
+        } catch (CommandException | ParseException e) {
+            // already shown to the user by executeCommand
+        }
+    }
+
     /**
      * Executes the command and returns the result.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        livePreview.cancel();
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
+            getResultDisplay().setFeedbackToUser(commandResult.getFeedbackToUser());
+            updateCommandMetricsStatus();
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -189,9 +262,16 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
+            logger.info(() -> "An error occurred while executing command: " + commandText);
+            getResultDisplay().setFeedbackToUser(e.getMessage());
+            updateCommandMetricsStatus();
             throw e;
         }
     }
+
+    private void updateCommandMetricsStatus() {
+        getStatusBarFooter().setCommandMetricsStatus(CommandMetrics.getLastCommandSummary()
+                + " | " + logic.getAddressBook().getPersonList().size() + " contacts"
+                + " | " + CommandMetrics.getHeapSummary());
+    }
 }
@@ -1,22 +1,27 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LivePreview;
 import seedu.address.model.person.Person;
 
 /**
- * Panel containing the list of persons.
+ * Panel containing the list of persons, which can show a preview of other persons in their place.
  */
-public class PersonListPanel extends UiPart<Region> {
+public class PersonListPanel extends UiPart<Region> implements LivePreview.Listener {
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
+    private final ObservableList<Person> personList;
+
     @FXML
     private ListView<Person> personListView;
 
@@ -25,10 +30,23 @@ public class PersonListPanel extends UiPart<Region> {
      */
     public PersonListPanel(ObservableList<Person> personList) {
         super(FXML);
+        this.personList = personList;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
+    @Override
+    public void showPreview(List<Person> persons) {
+        personListView.setItems(FXCollections.unmodifiableObservableList(FXCollections.observableList(persons)));
+    }
+
+    @Override
+    public void hidePreview() {
+        if (personListView.getItems() != personList) {
+            personListView.setItems(personList);
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
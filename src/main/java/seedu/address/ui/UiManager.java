@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -9,6 +11,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimeline;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -24,12 +27,23 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private final List<String> scriptedCommands;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, new ArrayList<>());
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic} that runs {@code scriptedCommands} once the main
+     * window is shown and then exits. Used to train and benchmark the launch of the application.
+     * The application is used normally if {@code scriptedCommands} is empty.
+     */
+    public UiManager(Logic logic, List<String> scriptedCommands) {
         this.logic = logic;
+        this.scriptedCommands = new ArrayList<>(scriptedCommands);
     }
 
     @Override
@@ -43,6 +57,7 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            mainWindow.runAfterNextFrame(this::handleFirstFrame);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +65,30 @@ public class UiManager implements Ui {
         }
     }
 
+    /**
+     * Completes the parts of the UI that were deferred until the first frame, then writes the startup timeline.
+     */
+    private void handleFirstFrame() {
+        StartupTimeline.mark("first render");
+        try (StartupTimeline.Phase phase = StartupTimeline.begin("deferred ui")) {
+            mainWindow.fillDeferredParts();
+        }
+
+        if (scriptedCommands.isEmpty()) {
+            StartupTimeline.finish();
+            return;
+        }
+
+        mainWindow.executeScriptedCommand(scriptedCommands.get(0));
+        StartupTimeline.mark("first command");
+        try (StartupTimeline.Phase phase = StartupTimeline.begin("remaining scripted commands")) {
+            scriptedCommands.stream().skip(1).forEach(mainWindow::executeScriptedCommand);
+        }
+        StartupTimeline.finish();
+        logger.info("Finished running " + scriptedCommands.size() + " scripted commands, exiting.");
+        Platform.exit();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -7,6 +7,8 @@ import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
+import seedu.address.commons.core.StartupTimeline;
+import seedu.address.commons.core.StartupTimeline.Phase;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
@@ -68,7 +70,7 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
+        try (Phase phase = StartupTimeline.begin("fxml " + getFileName(location))) {
             fxmlLoader.load();
         } catch (IOException e) {
             throw new AssertionError(e);
@@ -85,4 +87,9 @@ public abstract class UiPart<T> {
         return requireNonNull(fxmlFileUrl);
     }
 
+    private static String getFileName(URL location) {
+        String path = location.getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
 }
@@ -0,0 +1,143 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncHandler.OverflowPolicy;
+
+public class AsyncHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AsyncHandler(0, OverflowPolicy.DROP, List.of()));
+    }
+
+    @Test
+    public void flush_publishedRecords_writtenInOrder() {
+        RecordingHandler target = new RecordingHandler(null);
+        AsyncHandler handler = new AsyncHandler(16, OverflowPolicy.BLOCK, List.of(target));
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages().size());
+        assertEquals("message 0", target.messages().get(0));
+        assertEquals("message 99", target.messages().get(99));
+        assertEquals(0, handler.getDroppedCount());
+        assertTrue(target.flushCount > 0);
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_dropsAndReports() throws InterruptedException {
+        CountDownLatch blocker = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(blocker);
+        AsyncHandler handler = new AsyncHandler(1, OverflowPolicy.DROP, List.of(target));
+
+        // the first record blocks the writer, the second fills the queue and the rest are dropped
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        target.awaitFirstRecord();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "extra " + i));
+        }
+        assertEquals(4, handler.getDroppedCount());
+
+        blocker.countDown();
+        handler.flush();
+        List<String> messages = target.messages();
+        assertEquals("first", messages.get(0));
+        assertTrue(messages.get(1).startsWith("4 log records were dropped"));
+        assertEquals("extra 0", messages.get(2));
+        handler.close();
+    }
+
+    @Test
+    public void close_queuedRecords_writtenAndTargetsClosed() {
+        RecordingHandler target = new RecordingHandler(null);
+        AsyncHandler handler = new AsyncHandler(16, OverflowPolicy.BLOCK, List.of(target));
+        handler.publish(new LogRecord(Level.INFO, "last words"));
+
+        handler.close();
+
+        assertEquals(List.of("last words"), target.messages());
+        assertTrue(target.isClosed);
+
+        // records published after closing are ignored
+        handler.publish(new LogRecord(Level.INFO, "too late"));
+        handler.flush();
+        assertEquals(1, target.messages().size());
+    }
+
+    @Test
+    public void publish_recordBelowLevel_ignored() {
+        RecordingHandler target = new RecordingHandler(null);
+        AsyncHandler handler = new AsyncHandler(16, OverflowPolicy.DROP, List.of(target));
+        handler.setLevel(Level.WARNING);
+
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.flush();
+
+        assertTrue(target.messages().isEmpty());
+        handler.close();
+    }
+
+    /**
+     * A handler that keeps the records it is given, and optionally blocks on the first one.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocker;
+        private final CountDownLatch firstRecord = new CountDownLatch(1);
+        private volatile int flushCount = 0;
+        private volatile boolean isClosed = false;
+
+        RecordingHandler(CountDownLatch blocker) {
+            this.blocker = blocker;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            firstRecord.countDown();
+            if (blocker != null) {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        void awaitFirstRecord() throws InterruptedException {
+            firstRecord.await();
+        }
+
+        List<String> messages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+    }
+}
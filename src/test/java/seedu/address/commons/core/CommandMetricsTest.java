@@ -0,0 +1,96 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.CommandMetrics.Measurement;
+import seedu.address.commons.core.CommandMetrics.Phase;
+import seedu.address.commons.util.FileUtil;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @BeforeEach
+    public void setUp() {
+        CommandMetrics.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CommandMetrics.reset();
+    }
+
+    @Test
+    public void getSummary_noCommands_showsNothingRecorded() {
+        assertFalse(CommandMetrics.getSummary().contains("execute"));
+        assertEquals("", CommandMetrics.getLastCommandSummary());
+    }
+
+    @Test
+    public void finishCommand_measuredPhases_recordedUnderCommandWord() {
+        runCommand("add");
+        runCommand("add");
+
+        String summary = CommandMetrics.getSummary();
+        assertTrue(summary.contains("add (x2)"));
+        assertTrue(summary.contains(Phase.PARSE.toString()));
+        assertTrue(summary.contains(Phase.UNDO_SNAPSHOT.toString()));
+        assertTrue(summary.contains(Phase.SAVE.toString()));
+        assertTrue(CommandMetrics.getLastCommandSummary().startsWith("add: "));
+    }
+
+    @Test
+    public void measure_outsideCommand_ignored() {
+        try (Measurement measurement = CommandMetrics.measure(Phase.EXECUTE)) {
+            // nothing to do
+        }
+        CommandMetrics.finishCommand("list");
+        assertEquals("", CommandMetrics.getLastCommandSummary());
+    }
+
+    @Test
+    public void saveHistograms_recordedCommands_writesJson() throws IOException {
+        runCommand("delete");
+        Path file = testFolder.resolve("stats").resolve("stats.json");
+
+        CommandMetrics.saveHistograms(file);
+
+        String json = FileUtil.readFromFile(file);
+        assertTrue(json.contains("\"delete\""));
+        assertTrue(json.contains("\"undo snapshot\""));
+        assertTrue(json.contains("\"p99\""));
+        assertTrue(json.contains("\"buckets\""));
+    }
+
+    @Test
+    public void getHeapSummary_always_showsUsedAndMaximum() {
+        assertTrue(CommandMetrics.getHeapSummary().matches("heap \\d+ / \\d+ MB"));
+    }
+
+    private static void runCommand(String commandWord) {
+        CommandMetrics.startCommand();
+        try (Measurement measurement = CommandMetrics.measure(Phase.PARSE)) {
+            // nothing to do
+        }
+        try (Measurement measurement = CommandMetrics.measure(Phase.EXECUTE)) {
+            try (Measurement snapshot = CommandMetrics.measure(Phase.UNDO_SNAPSHOT)) {
+                // nothing to do
+            }
+        }
+        try (Measurement measurement = CommandMetrics.measure(Phase.SAVE)) {
+            // nothing to do
+        }
+        CommandMetrics.finishCommand(commandWord);
+    }
+}
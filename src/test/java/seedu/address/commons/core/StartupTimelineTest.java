@@ -0,0 +1,75 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StartupTimeline.Phase;
+import seedu.address.commons.util.FileUtil;
+
+public class StartupTimelineTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path reportFile;
+
+    @BeforeEach
+    public void setUp() {
+        StartupTimeline.reset();
+        reportFile = testFolder.resolve("timeline.json");
+        StartupTimeline.setReportFile(reportFile);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        StartupTimeline.reset();
+    }
+
+    @Test
+    public void finish_recordedPhases_writesReport() throws IOException {
+        try (Phase phase = StartupTimeline.begin("config")) {
+            // nothing to do
+        }
+        StartupTimeline.mark("first render");
+        StartupTimeline.finish();
+
+        assertTrue(StartupTimeline.isFinished());
+        String report = FileUtil.readFromFile(reportFile);
+        assertTrue(report.contains("\"config\""));
+        assertTrue(report.contains("\"first render\""));
+        assertTrue(report.contains("launchOffsetMillis"));
+    }
+
+    @Test
+    public void finish_phasesWithSameName_aggregated() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            try (Phase phase = StartupTimeline.begin("fxml PersonListCard.fxml")) {
+                // nothing to do
+            }
+        }
+        StartupTimeline.finish();
+
+        String report = FileUtil.readFromFile(reportFile);
+        assertTrue(report.contains("\"count\" : 3"));
+    }
+
+    @Test
+    public void begin_afterFinish_ignored() throws IOException {
+        StartupTimeline.finish();
+        try (Phase phase = StartupTimeline.begin("late phase")) {
+            // nothing to do
+        }
+        StartupTimeline.mark("late mark");
+
+        String report = FileUtil.readFromFile(reportFile);
+        assertFalse(report.contains("late"));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.commons.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.Measurement;
+import seedu.address.commons.core.CommandMetrics.Phase;
+
+public class ProfilerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        if (Profiler.isRecording()) {
+            Profiler.stop();
+        }
+        CommandMetrics.reset();
+    }
+
+    @Test
+    public void stop_notRecording_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, Profiler::stop);
+    }
+
+    @Test
+    public void start_alreadyRecording_throwsIllegalStateException() throws IOException {
+        Profiler.start(testFolder.resolve("first.jfr"));
+        assertThrows(IllegalStateException.class, () -> Profiler.start(testFolder.resolve("second.jfr")));
+    }
+
+    @Test
+    public void stop_afterEvents_recordingContainsEvents() throws IOException {
+        Path file = testFolder.resolve("recording.jfr");
+        Profiler.start(file);
+        assertTrue(Profiler.isRecording());
+
+        CommandMetrics.startCommand();
+        CommandMetrics.setCurrentCommandWord("list");
+        try (Measurement measurement = CommandMetrics.measure(Phase.EXECUTE)) {
+            FilterEvent filterEvent = new FilterEvent("TestPredicate");
+            filterEvent.setShownCount(3);
+            filterEvent.commit();
+        }
+        CommandMetrics.finishCommand("list");
+
+        assertEquals(file, Profiler.stop());
+        assertFalse(Profiler.isRecording());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("seedu.address."))
+                .collect(Collectors.toList());
+        RecordedEvent phaseEvent = events.stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.CommandPhase"))
+                .findFirst().orElseThrow();
+        assertEquals("execute", phaseEvent.getString("phase"));
+        assertEquals("list", phaseEvent.getString("commandWord"));
+
+        RecordedEvent filterEvent = events.stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.Filter"))
+                .findFirst().orElseThrow();
+        assertEquals("TestPredicate", filterEvent.getString("predicateType"));
+        assertEquals(3, filterEvent.getInt("shownCount"));
+        assertEquals("list", filterEvent.getString("commandWord"));
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void addAndRemove_singleValue_updatesBitmap() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        assertTrue(bitmap.isEmpty());
+        assertTrue(bitmap.add(70000));
+        assertFalse(bitmap.add(70000));
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(4464));
+        assertEquals(1, bitmap.getCardinality());
+
+        assertTrue(bitmap.remove(70000));
+        assertFalse(bitmap.remove(70000));
+        assertFalse(bitmap.remove(-1));
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void operations_randomSparseValues_sameAsBitSet() {
+        assertSameAsBitSet(new Random(37), 200_000, 500);
+    }
+
+    @Test
+    public void operations_randomDenseValues_sameAsBitSet() {
+        // enough values in each chunk for it to be stored as a bitmap
+        assertSameAsBitSet(new Random(38), 70_000, 30_000);
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = bitmapOf(1, 2, 100_000);
+
+        assertTrue(bitmap.equals(bitmap));
+        assertTrue(bitmap.equals(bitmapOf(100_000, 2, 1)));
+        assertEquals(bitmap.hashCode(), bitmapOf(100_000, 2, 1).hashCode());
+        assertFalse(bitmap.equals(null));
+        assertFalse(bitmap.equals(1));
+        assertFalse(bitmap.equals(bitmapOf(1, 2)));
+    }
+
+    /**
+     * Adds and removes {@code count} random values below {@code bound} to two bitmaps and two {@code BitSet}s, and
+     * checks that the bitmaps and their unions, intersections and differences hold the same values as the sets.
+     */
+    private static void assertSameAsBitSet(Random random, int bound, int count) {
+        CompressedBitmap first = new CompressedBitmap();
+        CompressedBitmap second = new CompressedBitmap();
+        BitSet firstExpected = new BitSet();
+        BitSet secondExpected = new BitSet();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(bound);
+            assertEquals(!firstExpected.get(value), first.add(value));
+            firstExpected.set(value);
+            second.add(value / 2);
+            secondExpected.set(value / 2);
+        }
+        for (int i = 0; i < count / 3; i++) {
+            int value = random.nextInt(bound);
+            assertEquals(firstExpected.get(value), first.remove(value));
+            firstExpected.clear(value);
+        }
+
+        assertSame(firstExpected, first);
+        assertSame(secondExpected, second);
+
+        BitSet union = (BitSet) firstExpected.clone();
+        union.or(secondExpected);
+        assertSame(union, first.or(second));
+
+        BitSet intersection = (BitSet) firstExpected.clone();
+        intersection.and(secondExpected);
+        assertSame(intersection, first.and(second));
+
+        BitSet difference = (BitSet) firstExpected.clone();
+        difference.andNot(secondExpected);
+        assertSame(difference, first.andNot(second));
+    }
+
+    private static void assertSame(BitSet expected, CompressedBitmap actual) {
+        assertEquals(expected.cardinality(), actual.getCardinality());
+        BitSet values = new BitSet();
+        actual.forEach(values::set);
+        assertEquals(expected, values);
+        for (int value = expected.nextSetBit(0); value >= 0; value = expected.nextSetBit(value + 1)) {
+            assertTrue(actual.contains(value));
+        }
+    }
+
+    private static CompressedBitmap bitmapOf(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+}
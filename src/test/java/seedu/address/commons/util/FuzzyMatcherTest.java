@@ -0,0 +1,132 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyMatcherTest {
+
+    private final FuzzyMatcher matcher = new FuzzyMatcher();
+
+    @Test
+    public void getInstance_sameThread_returnsSameMatcher() {
+        assertSame(FuzzyMatcher.getInstance(), FuzzyMatcher.getInstance());
+    }
+
+    @Test
+    public void computeDistance_knownWords_returnsDistance() {
+        assertEquals(0, matcher.computeDistance("", ""));
+        assertEquals(5, matcher.computeDistance("hello", ""));
+        assertEquals(5, matcher.computeDistance("", "hello"));
+        assertEquals(0, matcher.computeDistance("hello", "hello"));
+        assertEquals(3, matcher.computeDistance("kitten", "sitting"));
+        assertEquals(2, matcher.computeDistance("flaw", "lawn"));
+        assertEquals(1, matcher.computeDistance("charlotte", "charlote"));
+    }
+
+    @Test
+    public void computeDistance_longAndNonAsciiKeywords_returnsDistance() {
+        String longWord = "a".repeat(100) + "b";
+        assertEquals(1, matcher.computeDistance(longWord, "a".repeat(100)));
+        assertEquals(100, matcher.computeDistance("b", longWord));
+        assertEquals(1, matcher.computeDistance("caf\u00e9", "cafe"));
+        assertEquals(1, matcher.computeDistance("cafe", "caf\u00e9"));
+    }
+
+    @Test
+    public void computeDistance_randomWords_sameAsFullTable() {
+        Random random = new Random(34);
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random, random.nextInt(12));
+            // keywords longer than 64 characters and with non-ASCII characters take the banded path
+            String keyword = i % 10 == 0 ? randomWord(random, 60 + random.nextInt(10))
+                    : i % 10 == 1 ? randomWord(random, random.nextInt(12)) + "\u00e9"
+                    : randomWord(random, random.nextInt(12));
+            int expected = computeFullTableDistance(word, keyword);
+
+            assertEquals(expected, matcher.computeDistance(word, keyword));
+            for (int threshold = 1; threshold <= 4; threshold++) {
+                assertEquals(expected < threshold, matcher.isDistanceLessThan(word, keyword, threshold));
+            }
+        }
+    }
+
+    @Test
+    public void isDistanceLessThan_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> matcher.isDistanceLessThan("a", "b", 0));
+    }
+
+    @Test
+    public void isClosenessLessThan_everyKeywordMustBeClose() {
+        List<String> words = List.of("alex", "yeoh");
+        assertTrue(matcher.isClosenessLessThan(words, List.of("alx"), 2));
+        assertTrue(matcher.isClosenessLessThan(words, List.of("alx", "yeo"), 2));
+        assertFalse(matcher.isClosenessLessThan(words, List.of("alx", "bernice"), 2));
+        assertFalse(matcher.isClosenessLessThan(words, List.of("al"), 2));
+    }
+
+    @Test
+    public void computeCloseness_randomSentences_sameAsFullTable() {
+        Random random = new Random(35);
+        for (int i = 0; i < 500; i++) {
+            List<String> words = randomWords(random);
+            List<String> keywords = randomWords(random);
+
+            int expected = 0;
+            for (String keyword : keywords) {
+                int smallest = Integer.MAX_VALUE;
+                for (String word : words) {
+                    smallest = Math.min(smallest, computeFullTableDistance(word, keyword));
+                }
+                expected = Math.max(expected, smallest);
+            }
+
+            assertEquals(expected, matcher.computeCloseness(words, keywords));
+            for (int threshold = 1; threshold <= 4; threshold++) {
+                assertEquals(expected < threshold, matcher.isClosenessLessThan(words, keywords, threshold));
+            }
+        }
+    }
+
+    private static List<String> randomWords(Random random) {
+        List<String> words = new ArrayList<>();
+        for (int i = random.nextInt(3); i >= 0; i--) {
+            words.add(randomWord(random, 1 + random.nextInt(8)));
+        }
+        return words;
+    }
+
+    /**
+     * Returns a word over a small alphabet, so that random words are often close to each other.
+     */
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    private static int computeFullTableDistance(String w1, String w2) {
+        int[][] dp = new int[w1.length() + 1][w2.length() + 1];
+        for (int i = 0; i <= w1.length(); i++) {
+            for (int j = 0; j <= w2.length(); j++) {
+                if (i == 0 || j == 0) {
+                    dp[i][j] = i + j;
+                } else {
+                    int replace = dp[i - 1][j - 1] + (w1.charAt(i - 1) == w2.charAt(j - 1) ? 0 : 1);
+                    dp[i][j] = Math.min(replace, Math.min(dp[i - 1][j], dp[i][j - 1]) + 1);
+                }
+            }
+        }
+        return dp[w1.length()][w2.length()];
+    }
+}
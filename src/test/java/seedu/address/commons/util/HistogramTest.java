@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().record(-1));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getValueAtPercentile(100.1));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getValueAtPercentile(-0.1));
+    }
+
+    @Test
+    public void getValueAtPercentile_empty_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+        assertEquals(25, histogram.getValueAtPercentile(50));
+        assertEquals(50, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(25.5, histogram.getMean());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinRelativeError() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000);
+        }
+        assertWithinRelativeError(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinRelativeError(99_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(1_000, histogram.getMin());
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void indexOf_bucketBoundaries_consistent() {
+        long[] values = {0, 63, 64, 65, 127, 128, 1_000_000, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = Histogram.indexOf(value);
+            assertTrue(Histogram.lowestValueOf(index) <= value);
+            assertTrue(Histogram.highestValueOf(index) >= value);
+        }
+        assertEquals(Histogram.indexOf(64) + 1, Histogram.indexOf(66));
+        assertEquals(Long.MAX_VALUE, Histogram.highestValueOf(Histogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void getBuckets_recordedValues_countedOnce() {
+        Histogram histogram = new Histogram();
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(1_000_000);
+
+        List<Histogram.Bucket> buckets = histogram.getBuckets();
+        assertEquals(2, buckets.size());
+        assertEquals(3, buckets.get(0).getLowestValue());
+        assertEquals(2, buckets.get(0).getCount());
+        assertEquals(1, buckets.get(1).getCount());
+        assertEquals(3, histogram.getCount());
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32, "expected ~" + expected + " but was " + actual);
+    }
+}
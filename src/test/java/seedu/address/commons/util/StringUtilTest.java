@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -252,6 +253,44 @@ public class StringUtilTest {
         assertTrue(wrongOneCharCloseness < alsoNotRelatedCloseness);
     }
 
+    @Test
+    public void isClosenessLessThan_sameAsComputeCloseness() {
+        String original = "booth rental CraftFes";
+        for (String keyword : new String[] {"booth", "Booth Rentl", "rental CraftFestival", "completely unrelated"}) {
+            double closeness = StringUtil.computeCloseness(original, keyword);
+            for (int threshold = 1; threshold <= 4; threshold++) {
+                assertEquals(closeness < threshold, StringUtil.isClosenessLessThan(original, keyword, threshold));
+            }
+        }
+    }
+
+    //---------------- Tests for search words --------------------------------------
+
+    @Test
+    public void toSearchWords_validInputs_correctResult() {
+        assertEquals(List.of("hello", "world"), StringUtil.toSearchWords("Hello   WORLD"));
+        assertEquals(List.of("\u00e9cole"), StringUtil.toSearchWords("E\u0301cole"));
+    }
+
+    @Test
+    public void containsWord_validInputs_correctResult() {
+        List<String> words = List.of("aaa", "bbb");
+        assertTrue(StringUtil.containsWord(words, "bbb"));
+        assertFalse(StringUtil.containsWord(words, "bb"));
+    }
+
+    @Test
+    public void containsCloseWord_validInputs_correctResult() {
+        List<String> words = List.of("aaa", "b", "cc");
+        assertTrue(StringUtil.containsCloseWord(words, "aab", 2));
+        assertFalse(StringUtil.containsCloseWord(words, "abb", 2));
+
+        // words of a single character must match exactly
+        assertTrue(StringUtil.containsCloseWord(words, "b", 2));
+        assertFalse(StringUtil.containsCloseWord(words, "d", 2));
+        assertTrue(StringUtil.containsCloseWord(words, "c", 2));
+    }
+
     @Test
     public void wrapText() {
         String lessThan100 = "hello world";
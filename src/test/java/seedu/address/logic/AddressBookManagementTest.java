@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.modifications.ClearMod;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AddressBookManagementTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private LogicManager logic;
+    private AddressBookManagement management;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        management = new AddressBookManagement(logic, model, Runnable::run);
+    }
+
+    @Test
+    public void getContactCount_typicalAddressBook_countsAllPersons() {
+        int personCount = getTypicalAddressBook().getPersonList().size();
+        assertEquals(personCount, management.getContactCount());
+        assertEquals(personCount, management.getShownContactCount());
+    }
+
+    @Test
+    public void flushNow_success_recordsSave() throws IOException {
+        management.flushNow();
+        assertTrue(management.getLastSaveBytes() > 0);
+        assertTrue(management.getLastSaveMillis() > 0);
+        assertEquals(0, management.getPendingUnsavedChanges());
+    }
+
+    @Test
+    public void flushNow_storageFails_throwsIoExceptionWithoutCountingUnsaved() {
+        StorageManager failingStorage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw new AccessDeniedException("denied");
+                    }
+                },
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookManagement failingManagement = new AddressBookManagement(
+                new LogicManager(model, failingStorage), model, Runnable::run);
+
+        assertThrows(IOException.class, failingManagement::flushNow);
+        assertThrows(IOException.class, failingManagement::flushNow);
+        // a flush is not a command, so it leaves no new changes unsaved
+        assertEquals(0, failingManagement.getPendingUnsavedChanges());
+    }
+
+    @Test
+    public void trimHistory_withHistory_discardsHistory() {
+        model.commitAddressBook(new ClearMod());
+        model.commitAddressBook(new ClearMod());
+        assertEquals(2, management.getUndoDepth());
+        assertTrue(management.getHistoryEstimatedBytes() > 0);
+
+        assertEquals(2, management.trimHistory());
+        assertEquals(0, management.getUndoDepth());
+        assertEquals(0, management.getRedoDepth());
+    }
+
+    @Test
+    public void getFilterCacheHitRate_repeatedFilter_countsHit() {
+        assertEquals(0, management.getFilterCacheHitRate());
+        model.updateFilteredPersonList(new TagContainsKeywordsPredicate("owesMoney"));
+        model.updateFilteredPersonList(new TagContainsKeywordsPredicate("owesMoney"));
+        assertEquals(1, management.getFilterCacheHitCount());
+        assertEquals(1, management.getFilterCacheMissCount());
+        assertEquals(0.5, management.getFilterCacheHitRate());
+    }
+
+    @Test
+    public void rebuildIndexes_filterApplied_keepsFilter() {
+        model.updateFilteredPersonList(new TagContainsKeywordsPredicate("owesMoney"));
+        management.rebuildIndexes();
+        assertEquals(1, management.getShownContactCount());
+    }
+
+    @Test
+    public void register_platformServer_attributesReadable() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(AddressBookManagement.OBJECT_NAME);
+        management.register();
+        try {
+            assertEquals(management.getContactCount(), server.getAttribute(name, "ContactCount"));
+        } finally {
+            AddressBookManagement.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+
+public class LivePreviewTest {
+    private static final long WAIT_MILLIS = 10 * LivePreview.DEBOUNCE_MILLIS;
+    private static final List<Person> HIDDEN = List.of();
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+    /** The previews shown, with {@link #HIDDEN} for each time the preview was hidden. */
+    private final BlockingQueue<List<Person>> previews = new LinkedBlockingQueue<>();
+    private LivePreview livePreview;
+
+    @BeforeEach
+    public void setUp() {
+        livePreview = new LivePreview(persons, LivePreviewTest::parseTagFilter, Runnable::run,
+                new LivePreview.Listener() {
+                    @Override
+                    public void showPreview(List<Person> shown) {
+                        previews.add(shown);
+                    }
+
+                    @Override
+                    public void hidePreview() {
+                        previews.add(HIDDEN);
+                    }
+                });
+    }
+
+    @Test
+    public void update_validFilter_showsPassingPersons() throws Exception {
+        livePreview.update("filter friends");
+        assertEquals(List.of(ALICE, BENSON), previews.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void update_invalidFilterOrBlankText_hidesPreview() throws Exception {
+        livePreview.update("filter invalid!");
+        assertEquals(HIDDEN, previews.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+
+        livePreview.update(" ");
+        assertEquals(HIDDEN, previews.poll());
+    }
+
+    @Test
+    public void update_otherCommand_hidesPreviewAtOnce() {
+        livePreview.update("add n/friends");
+        assertEquals(HIDDEN, previews.poll());
+    }
+
+    @Test
+    public void update_textChangedQuickly_showsOnlyLatestText() throws Exception {
+        livePreview.update("filter friends");
+        livePreview.update("filter owesMoney");
+        assertEquals(List.of(BENSON), previews.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertNull(previews.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void update_personsChanged_testsChangedPersons() throws Exception {
+        livePreview.update("filter friends");
+        assertEquals(List.of(ALICE, BENSON), previews.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+
+        persons.remove(ALICE);
+        livePreview.update("filter friends");
+        assertEquals(List.of(BENSON), previews.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void cancel_pendingPreview_hidesWithoutShowing() throws Exception {
+        livePreview.update("filter friends");
+        livePreview.cancel();
+        assertEquals(HIDDEN, previews.poll());
+        assertNull(previews.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Parses {@code commandText} as {@code filter} followed by a single tag, which is invalid if it has characters
+     * other than letters.
+     */
+    private static Optional<Predicate<Person>> parseTagFilter(String commandText) {
+        String tag = commandText.replaceFirst("^filter ", "");
+        return tag.matches("\\p{Alpha}+")
+                ? Optional.of(new TagContainsKeywordsPredicate(tag))
+                : Optional.empty();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,25 +11,32 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FileBasedCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -70,6 +79,97 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void parseFilter() {
+        assertEquals(new TagContainsKeywordsPredicate("friends"), logic.parseFilter("filter t/friends").orElseThrow());
+        assertTrue(logic.parseFilter("find p/91234567").isPresent());
+
+        // invalid or other commands -> returns empty
+        assertFalse(logic.parseFilter("filter").isPresent());
+        assertFalse(logic.parseFilter(ListCommand.COMMAND_WORD).isPresent());
+        assertFalse(logic.parseFilter("uicfhmowqewca").isPresent());
+    }
+
+    @Test
+    public void execute_validCommand_recordsMetrics() throws Exception {
+        CommandMetrics.reset();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(CommandMetrics.getLastCommandSummary().startsWith(ListCommand.COMMAND_WORD + ": "));
+
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertTrue(CommandMetrics.getLastCommandSummary().startsWith(CommandMetrics.INVALID_COMMAND_WORD));
+        CommandMetrics.reset();
+    }
+
+    @Test
+    public void execute_commandWithoutChanges_savesOnlyOnce() throws Exception {
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookFile));
+
+        Files.delete(addressBookFile);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookFile));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(Files.exists(addressBookFile));
+    }
+
+    @Test
+    public void execute_commandChangesPersonsThenFails_savesWithNextCommand() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        Path importFile = temporaryFolder.resolve("import.json");
+        AddressBook importedAddressBook = new AddressBook();
+        importedAddressBook.addPerson(BOB);
+        importedAddressBook.addPerson(AMY);
+        new JsonAddressBookStorage(importFile).saveAddressBook(importedAddressBook);
+        FileBasedCommand.bindStorage(new StorageManager(new JsonAddressBookStorage(importFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        // BOB is added before AMY is found to be a duplicate
+        assertThrows(CommandException.class, () -> logic.execute(ImportCommand.COMMAND_WORD + " " + importFile));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, ((LogicManager) logic).getUnsavedCommandCount());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, ((LogicManager) logic).getUnsavedCommandCount());
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().orElseThrow());
+    }
+
+    @Test
+    public void execute_storageFails_countsOnlyCommandsWithChanges() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        LogicManager failingLogic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        // the data file was never saved, so even a command without changes tries to save it
+        assertThrows(CommandException.class, () -> failingLogic.execute(ListCommand.COMMAND_WORD));
+        assertEquals(0, failingLogic.getUnsavedCommandCount());
+
+        assertThrows(CommandException.class, () -> failingLogic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY));
+        assertThrows(CommandException.class, () -> failingLogic.execute(ListCommand.COMMAND_WORD));
+        assertEquals(1, failingLogic.getUnsavedCommandCount());
+    }
+
+    @Test
+    public void execute_viewSaved_savesUserPrefs() throws Exception {
+        Path userPrefsFile = temporaryFolder.resolve("userPrefs.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(userPrefsFile));
+
+        logic.execute("view save friends filter t/friends");
+        UserPrefs savedPrefs = new JsonUserPrefsStorage(userPrefsFile).readUserPrefs().orElseThrow();
+        assertEquals("filter t/friends", savedPrefs.getSavedViews().get("friends"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
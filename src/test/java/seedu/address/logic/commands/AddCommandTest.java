@@ -11,6 +11,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,11 +22,18 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.FacetCounts;
+import seedu.address.model.FilterExplanation;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.event.ModelChangeListener;
 import seedu.address.model.modifications.Modification;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.predicate.EmailIsKeywordPredicate;
+import seedu.address.model.predicate.PhoneIsKeywordPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -196,6 +205,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getUndoableCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getRedoableCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long estimateHistoryBytes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int trimHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rebuildIndexes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getFilterCacheHitCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getFilterCacheMissCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean publishChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -211,6 +270,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Person findPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person findPersonByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person findPersonWithSameEmail(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -221,11 +290,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(Map<Person, Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -235,6 +314,46 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public FilterExplanation explainFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FilterExplanation showPersonByPhone(PhoneIsKeywordPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FilterExplanation showPersonByEmail(EmailIsKeywordPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FacetCounts getFacetCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FacetCounts getShownFacetCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveView(String name, String commandText, Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> getSavedViewCommand(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean showSavedView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
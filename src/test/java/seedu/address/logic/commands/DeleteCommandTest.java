@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -16,6 +17,8 @@ import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -179,6 +182,14 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, expectedMessage);
     }
 
+    @Test
+    public void execute_invalidPhoneFilteredList_keepsFilter() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        DeleteCommand deleteCommand = new DeleteCommand(BOB.getPhone());
+
+        assertCommandFailure(deleteCommand, model, DeleteCommand.MESSAGE_NO_PERSON_WITH_MATCHING_PHONE);
+    }
+
     // phone is in filtered list
     @Test
     public void execute_validPhoneFilteredList_success() {
@@ -219,6 +230,53 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    // integration test by range and of all shown persons
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(List.of(ALICE, BENSON));
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeEndOutOfBounds_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON, outOfBoundIndex);
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_deletesShownPersonsAndUndoesAtOnce() throws Exception {
+        model.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(CARL));
+        DeleteCommand deleteCommand = new DeleteCommand();
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(List.of(ALICE, CARL));
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertFalse(model.getAddressBook().getPersonList().contains(ALICE));
+        assertTrue(model.getAddressBook().getPersonList().contains(BENSON));
+
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_allShownEmptyList_throwsCommandException() {
+        showNoPerson(model);
+
+        assertCommandFailure(new DeleteCommand(), model, DeleteCommand.MESSAGE_NO_PERSONS_SHOWN);
+    }
+
     // other methods
     @Test
     public void equals() {
@@ -252,23 +310,34 @@ public class DeleteCommandTest {
         // different person -> returns false
         assertNotEquals(deleteFirstCommand, deleteSecondCommand);
         assertNotEquals(deleteEmailCommand, deletePhoneCommand);
+
+        // different range or deletion type -> returns false
+        DeleteCommand deleteRangeCommand = new DeleteCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        assertEquals(deleteRangeCommand, new DeleteCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+        assertNotEquals(deleteRangeCommand, new DeleteCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON));
+        assertNotEquals(deleteRangeCommand, deleteFirstCommand);
+        assertEquals(new DeleteCommand(), new DeleteCommand());
+        assertNotEquals(new DeleteCommand(), deleteFirstCommand);
     }
 
     @Test
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteIndexCommand = new DeleteCommand(targetIndex);
-        String expectedForIndex = DeleteCommand.class.getCanonicalName() + "{target=" + targetIndex + "}";
+        String expectedForIndex = DeleteCommand.class.getCanonicalName() + "{target=" + targetIndex
+                + ", rangeEnd=null}";
         assertEquals(expectedForIndex, deleteIndexCommand.toString());
 
         Phone targetPhone = new Phone("98765432");
         DeleteCommand deletePhoneCommand = new DeleteCommand(targetPhone);
-        String expectedForPhone = DeleteCommand.class.getCanonicalName() + "{target=" + targetPhone + "}";
+        String expectedForPhone = DeleteCommand.class.getCanonicalName() + "{target=" + targetPhone
+                + ", rangeEnd=null}";
         assertEquals(expectedForPhone, deletePhoneCommand.toString());
 
         Email targetEmail = new Email("ilovecraftconnect@example.com");
         DeleteCommand deleteEmailCommand = new DeleteCommand(targetEmail);
-        String expectedForEmail = DeleteCommand.class.getCanonicalName() + "{target=" + targetEmail + "}";
+        String expectedForEmail = DeleteCommand.class.getCanonicalName() + "{target=" + targetEmail
+                + ", rangeEnd=null}";
         assertEquals(expectedForEmail, deleteEmailCommand.toString());
     }
 
@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+
+public class FacetsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_showsListedAndAllCounts() {
+        model.updateFilteredPersonList(new TagContainsKeywordsPredicate("owesMoney"));
+        expectedModel.updateFilteredPersonList(new TagContainsKeywordsPredicate("owesMoney"));
+        String expectedMessage = String.format(FacetsCommand.MESSAGE_TAGS, "friends 1/3, owesMoney 1/1") + "\n"
+                + String.format(FacetsCommand.MESSAGE_EMAIL_DOMAINS, "example.com 1/7");
+        assertCommandSuccess(new FacetsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void formatFacets_moreThanLimit_mostCommonFirst() {
+        Map<String, Integer> counts = Map.of("b", 2, "a", 2, "c", 5, "d", 1);
+        assertEquals("c 0/5, a 1/2" + String.format(FacetsCommand.MESSAGE_MORE_FACETS, 2),
+                FacetsCommand.formatFacets(counts, Map.of("a", 1), 2));
+        assertEquals(FacetsCommand.MESSAGE_NO_FACETS, FacetsCommand.formatFacets(Map.of(), Map.of(), 2));
+    }
+}
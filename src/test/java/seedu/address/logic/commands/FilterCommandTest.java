@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -64,6 +65,15 @@ public class FilterCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_explain_showsExplanation() throws Exception {
+        CommandResult result = new FilterCommand(alwaysTruePersonPredicateStub, true).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 7)));
+        assertTrue(result.getFeedbackToUser().contains("Strategy: full scan"));
+        assertTrue(result.getFeedbackToUser().contains("Matches: 7"));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_alwaysTruePredicate_everyoneFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 7);
@@ -78,20 +88,23 @@ public class FilterCommandTest {
     public void toStringMethod() {
         // unit test
         FilterCommand filterCommand1 = new FilterCommand(alwaysTruePersonPredicateStub);
-        String expected1 = FilterCommand.class.getCanonicalName() + "{predicate=" + alwaysTruePersonPredicateStub + "}";
+        String expected1 = FilterCommand.class.getCanonicalName() + "{predicate=" + alwaysTruePersonPredicateStub
+                + ", isExplaining=false}";
         assertEquals(expected1, filterCommand1.toString());
 
         // integration test - name
         NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate("alex");
         FilterCommand filterCommand2 = new FilterCommand(namePredicate);
-        String expected2 = FilterCommand.class.getCanonicalName() + "{predicate=" + namePredicate + "}";
+        String expected2 = FilterCommand.class.getCanonicalName() + "{predicate=" + namePredicate
+                + ", isExplaining=false}";
         assertEquals(expected2, filterCommand2.toString());
 
         // integration test - address
         AddressContainsKeywordsPredicate addressPredicate =
                 new AddressContainsKeywordsPredicate("Blk 123, dummy ave");
         FilterCommand filterCommand3 = new FilterCommand(addressPredicate);
-        String expected3 = FilterCommand.class.getCanonicalName() + "{predicate=" + addressPredicate + "}";
+        String expected3 = FilterCommand.class.getCanonicalName() + "{predicate=" + addressPredicate
+                + ", isExplaining=false}";
         assertEquals(expected3, filterCommand3.toString());
     }
 }
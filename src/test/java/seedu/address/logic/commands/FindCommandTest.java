@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -22,9 +23,11 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.index.FilterPlan;
 import seedu.address.model.person.Person;
 import seedu.address.model.predicate.EmailIsKeywordPredicate;
 import seedu.address.model.predicate.PhoneIsKeywordPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -127,23 +130,41 @@ public class FindCommandTest {
         assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_explainPhone_looksUpPersonByKey() {
+        PhoneIsKeywordPredicate predicate = new PhoneIsKeywordPredicate(BENSON.getPhone().value);
+        FindCommand command = new FindCommand(predicate, true);
+
+        String feedback = command.execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains("Strategy: " + FilterPlan.Strategy.KEY_LOOKUP));
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+
+        // the person is kept up to date like any other filter
+        Person editedBenson = new PersonBuilder(BENSON).withTags().build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(Collections.singletonList(editedBenson), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         // unit test
         FindCommand findCommand1 = new FindCommand(alwaysTruePersonPredicateStub);
-        String expected1 = FindCommand.class.getCanonicalName() + "{predicate=" + alwaysTruePersonPredicateStub + "}";
+        String expected1 = FindCommand.class.getCanonicalName() + "{predicate=" + alwaysTruePersonPredicateStub
+                + ", isExplaining=false}";
         assertEquals(expected1, findCommand1.toString());
 
         // integration test - email
         EmailIsKeywordPredicate emailPredicate = new EmailIsKeywordPredicate("ilovecraftconnect@gmail.com");
         FindCommand findCommand2 = new FindCommand(emailPredicate);
-        String expected2 = FindCommand.class.getCanonicalName() + "{predicate=" + emailPredicate + "}";
+        String expected2 = FindCommand.class.getCanonicalName() + "{predicate=" + emailPredicate
+                + ", isExplaining=false}";
         assertEquals(expected2, findCommand2.toString());
 
         // integration test - phone
         PhoneIsKeywordPredicate phonePredicate = new PhoneIsKeywordPredicate("12340987");
         FindCommand findCommand3 = new FindCommand(phonePredicate);
-        String expected3 = FindCommand.class.getCanonicalName() + "{predicate=" + phonePredicate + "}";
+        String expected3 = FindCommand.class.getCanonicalName() + "{predicate=" + phonePredicate
+                + ", isExplaining=false}";
         assertEquals(expected3, findCommand3.toString());
     }
 }
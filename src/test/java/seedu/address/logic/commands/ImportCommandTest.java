@@ -10,6 +10,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.AfterAll;
@@ -23,12 +25,19 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
+import seedu.address.model.FacetCounts;
+import seedu.address.model.FilterExplanation;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.ModelChangeListener;
 import seedu.address.model.modifications.Modification;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.predicate.EmailIsKeywordPredicate;
+import seedu.address.model.predicate.PhoneIsKeywordPredicate;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -574,6 +583,16 @@ public class ImportCommandTest {
             return this.addressBook.findPersonWithSamePhoneNumber(person);
         }
 
+        @Override
+        public Person findPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person findPersonByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person findPersonWithSameEmail(Person person) {
             return this.addressBook.findPersonWithSameEmail(person);
@@ -584,6 +603,11 @@ public class ImportCommandTest {
             this.addressBook.removePerson(target);
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            this.addressBook.removePersons(targets);
+        }
+
         @Override
         public void addPerson(Person person) {
             this.addressBook.addPerson(person);
@@ -594,6 +618,11 @@ public class ImportCommandTest {
             this.addressBook.setPerson(target, editedPerson);
         }
 
+        @Override
+        public void setPersons(Map<Person, Person> editedPersons) {
+            this.addressBook.replacePersons(editedPersons);
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             return this.filteredPersons;
@@ -604,6 +633,46 @@ public class ImportCommandTest {
             this.filteredPersons.setPredicate(predicate);
         }
 
+        @Override
+        public FilterExplanation explainFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FilterExplanation showPersonByPhone(PhoneIsKeywordPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FilterExplanation showPersonByEmail(EmailIsKeywordPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FacetCounts getFacetCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FacetCounts getShownFacetCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveView(String name, String commandText, Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> getSavedViewCommand(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean showSavedView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void commitAddressBook(Modification command) {
 
@@ -629,6 +698,56 @@ public class ImportCommandTest {
             return null;
         }
 
+        @Override
+        public int getUndoableCount() {
+            return 0;
+        }
+
+        @Override
+        public int getRedoableCount() {
+            return 0;
+        }
+
+        @Override
+        public long estimateHistoryBytes() {
+            return 0;
+        }
+
+        @Override
+        public int trimHistory() {
+            return 0;
+        }
+
+        @Override
+        public void rebuildIndexes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getFilterCacheHitCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getFilterCacheMissCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean publishChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean equals(Object other) {
             if (other == this) {
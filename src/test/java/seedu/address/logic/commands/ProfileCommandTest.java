@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.jfr.Profiler;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class ProfileCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @AfterEach
+    public void tearDown() {
+        if (Profiler.isRecording()) {
+            Profiler.stop();
+        }
+    }
+
+    @Test
+    public void execute_startThenStop_writesRecording() {
+        Path file = testFolder.resolve("recording.jfr");
+
+        assertCommandSuccess(new ProfileCommand(file), model,
+                String.format(ProfileCommand.MESSAGE_STARTED, file), expectedModel);
+        assertTrue(Profiler.isRecording());
+
+        assertCommandSuccess(new ProfileCommand(), model,
+                String.format(ProfileCommand.MESSAGE_STOPPED, file), expectedModel);
+        assertFalse(Profiler.isRecording());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void execute_startWhileRecording_throwsCommandException() throws Exception {
+        new ProfileCommand(testFolder.resolve("first.jfr")).execute(model);
+        assertCommandFailure(new ProfileCommand(testFolder.resolve("second.jfr")), model,
+                ProfileCommand.MESSAGE_ALREADY_RECORDING);
+    }
+
+    @Test
+    public void execute_stopWithoutRecording_throwsCommandException() {
+        assertCommandFailure(new ProfileCommand(), model, ProfileCommand.MESSAGE_NOT_RECORDING);
+    }
+
+    @Test
+    public void equals() {
+        ProfileCommand startCommand = new ProfileCommand(Path.of("recording.jfr"));
+        ProfileCommand stopCommand = new ProfileCommand();
+
+        assertTrue(startCommand.equals(startCommand));
+        assertTrue(startCommand.equals(new ProfileCommand(Path.of("recording.jfr"))));
+        assertTrue(stopCommand.equals(new ProfileCommand()));
+
+        assertFalse(startCommand.equals(null));
+        assertFalse(startCommand.equals(1));
+        assertFalse(startCommand.equals(stopCommand));
+        assertFalse(startCommand.equals(new ProfileCommand(Path.of("other.jfr"))));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        CommandMetrics.reset();
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CommandMetrics.reset();
+    }
+
+    @Test
+    public void execute_noFile_showsContactsAndHeap() {
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(model.getAddressBook().getPersonList().size() + " contacts"));
+        assertTrue(feedback.contains("heap"));
+    }
+
+    @Test
+    public void execute_withFile_writesStatistics() {
+        Path file = testFolder.resolve("stats.json");
+        String feedback = new StatsCommand(file).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(String.format(StatsCommand.MESSAGE_SAVED, file)));
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void execute_unwritableFile_showsError() {
+        // a folder cannot be written to as a file
+        String feedback = new StatsCommand(testFolder).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains("Could not write statistics"));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand showCommand = new StatsCommand();
+        StatsCommand dumpCommand = new StatsCommand(Path.of("stats.json"));
+
+        assertTrue(showCommand.equals(showCommand));
+        assertTrue(showCommand.equals(new StatsCommand()));
+        assertTrue(dumpCommand.equals(new StatsCommand(Path.of("stats.json"))));
+
+        assertFalse(showCommand.equals(null));
+        assertFalse(showCommand.equals(1));
+        assertFalse(showCommand.equals(dumpCommand));
+        assertFalse(dumpCommand.equals(new StatsCommand(Path.of("other.json"))));
+    }
+}
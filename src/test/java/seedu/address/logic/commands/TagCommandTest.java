@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code TagCommand}.
+ */
+public class TagCommandTest {
+    private static final Set<Tag> OWES_MONEY = Set.of(new Tag("owesMoney"));
+    private static final Set<Tag> FRIENDS = Set.of(new Tag("friends"));
+    private static final Predicate<Person> ALICE_OR_BENSON = person -> person.isSamePerson(ALICE)
+            || person.isSamePerson(BENSON);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_addTags_editsShownPersonsWithoutTags() {
+        model.updateFilteredPersonList(ALICE_OR_BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("friends", "owesMoney").build();
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_ADD_TAGS_SUCCESS, OWES_MONEY, 1);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPersons(Map.of(ALICE, editedAlice));
+        expectedModel.updateFilteredPersonList(ALICE_OR_BENSON);
+
+        assertCommandSuccess(new TagCommand(OWES_MONEY, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_removeTags_editsShownPersonsAndUndoesAtOnce() throws Exception {
+        model.updateFilteredPersonList(ALICE_OR_BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withTags().build();
+        Person editedBenson = new PersonBuilder(BENSON).withTags("owesMoney").build();
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_REMOVE_TAGS_SUCCESS, FRIENDS, 2);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPersons(Map.of(ALICE, editedAlice, BENSON, editedBenson));
+        expectedModel.updateFilteredPersonList(ALICE_OR_BENSON);
+
+        assertCommandSuccess(new TagCommand(FRIENDS, false), model, expectedMessage, expectedModel);
+
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_noShownPersonChanged_doesNotCommit() {
+        model.updateFilteredPersonList(person -> person.equals(CARL));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL));
+
+        assertCommandSuccess(new TagCommand(OWES_MONEY, false), model, TagCommand.MESSAGE_NOTHING_CHANGED,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        TagCommand addCommand = new TagCommand(FRIENDS, true);
+
+        // same values -> returns true
+        assertEquals(addCommand, new TagCommand(FRIENDS, true));
+
+        // same object -> returns true
+        assertEquals(addCommand, addCommand);
+
+        // null -> returns false
+        assertNotEquals(null, addCommand);
+
+        // different tags -> returns false
+        assertNotEquals(addCommand, new TagCommand(OWES_MONEY, true));
+
+        // removing instead of adding -> returns false
+        assertNotEquals(addCommand, new TagCommand(FRIENDS, false));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagCommand tagCommand = new TagCommand(FRIENDS, true);
+        String expected = TagCommand.class.getCanonicalName() + "{tags=" + FRIENDS + ", isAdding=true}";
+        assertEquals(expected, tagCommand.toString());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class ViewCommandTest {
+    private final TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate("friends");
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ViewCommand showCommand = new ViewCommand("friends");
+        ViewCommand saveCommand = new ViewCommand("friends", "filter t/friends", friends);
+
+        // same object -> returns true
+        assertEquals(showCommand, showCommand);
+
+        // same values -> returns true
+        assertEquals(saveCommand, new ViewCommand("friends", "filter t/friends", friends));
+
+        // different types -> returns false
+        assertFalse(showCommand.equals(1));
+
+        // show and save -> returns false
+        assertFalse(showCommand.equals(saveCommand));
+
+        // different name -> returns false
+        assertFalse(showCommand.equals(new ViewCommand("suppliers")));
+    }
+
+    @Test
+    public void execute_save_savesAndShowsPassingPersons() {
+        String expectedMessage = String.format(ViewCommand.MESSAGE_SAVED, "friends") + "\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        expectedModel.saveView("friends", "filter t/friends", friends);
+        expectedModel.updateFilteredPersonList(friends);
+        assertCommandSuccess(new ViewCommand("friends", "filter t/friends", friends), model, expectedMessage,
+                expectedModel);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals("filter t/friends", model.getUserPrefs().getSavedViews().get("friends"));
+    }
+
+    @Test
+    public void execute_personAddedAfterSave_showsAddedPerson() throws Exception {
+        new ViewCommand("friends", "filter t/friends", friends).execute(model);
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        Person friend = new PersonBuilder().withTags("friends").build();
+        model.addPerson(friend);
+
+        new ViewCommand("friends").execute(model);
+        assertEquals(List.of(ALICE, BENSON, DANIEL, friend), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_viewSavedInEarlierSession_showsPassingPersons() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSavedView("friends", "filter t/friends");
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        expectedModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+        expectedModel.updateFilteredPersonList(friends);
+
+        assertCommandSuccess(new ViewCommand("friends"), model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3),
+                expectedModel);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_invalidSavedCommand_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSavedView("everyone", "list");
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        assertCommandFailure(new ViewCommand("everyone"), model,
+                String.format(ViewCommand.MESSAGE_INVALID_SAVED_VIEW, "everyone",
+                        String.format(ViewCommand.MESSAGE_NOT_A_FILTER, ViewCommand.MESSAGE_USAGE)));
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() {
+        assertCommandFailure(new ViewCommand("friends"), model,
+                String.format(ViewCommand.MESSAGE_UNKNOWN_VIEW, "friends"));
+    }
+}
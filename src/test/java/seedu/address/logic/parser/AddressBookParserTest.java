@@ -10,6 +10,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Path;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
@@ -19,16 +22,22 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FacetsCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Person;
 import seedu.address.model.predicate.EmailIsKeywordPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -90,6 +99,11 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new EmailIsKeywordPredicate(email)), command);
     }
 
+    @Test
+    public void parseCommand_facets() throws Exception {
+        assertTrue(parser.parseCommand(FacetsCommand.COMMAND_WORD) instanceof FacetsCommand);
+    }
+
     @Test
     public void parseCommand_filter() throws Exception {
         String name = "Alex";
@@ -128,6 +142,31 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_profile() throws Exception {
+        assertEquals(new ProfileCommand(Path.of("recording.jfr")),
+                parser.parseCommand(ProfileCommand.COMMAND_WORD + " start recording.jfr"));
+        assertEquals(new ProfileCommand(), parser.parseCommand(ProfileCommand.COMMAND_WORD + " stop"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(Path.of("stats.json")),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " stats.json"));
+    }
+
+    @Test
+    public void parseCommand_tag() throws Exception {
+        assertEquals(new TagCommand(Set.of(new Tag("supplier")), true),
+                parser.parseCommand(TagCommand.COMMAND_WORD + " " + TagCommand.ADD_WORD + " t/supplier"));
+    }
+
+    @Test
+    public void parseCommand_view() throws Exception {
+        assertEquals(new ViewCommand("suppliers"), parser.parseCommand(ViewCommand.COMMAND_WORD + " suppliers"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import org.junit.jupiter.api.Test;
 
@@ -45,6 +46,30 @@ public class DeleteCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
 
+    // deletion by range and of all shown persons
+    @Test
+    public void parse_validRange_returnsDeleteCommand() {
+        DeleteCommand expectedCommand = new DeleteCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        assertParseSuccess(parser, " 1-2", expectedCommand);
+        assertParseSuccess(parser, " 1 - 2 ", expectedCommand);
+        assertParseSuccess(parser, " 1-1", new DeleteCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON));
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, " 2-1", DeleteCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " 0-2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 1-a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_all_returnsDeleteCommand() {
+        assertParseSuccess(parser, " all ", new DeleteCommand());
+        assertParseSuccess(parser, " ALL", new DeleteCommand());
+    }
+
     @Test
     public void parse_twoAttributes_throwsParseException() {
         assertParseFailure(parser,
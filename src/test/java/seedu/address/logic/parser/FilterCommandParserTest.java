@@ -9,16 +9,28 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.predicate.AndPredicate;
 import seedu.address.model.predicate.NameContainsKeywordsPredicate;
 import seedu.address.model.predicate.TagContainsKeywordsPredicate;
 
 public class FilterCommandParserTest {
     private FilterCommandParser parser = new FilterCommandParser();
 
+    @Test
+    public void parse_explainFlag_returnsExplainingFilterCommand() {
+        assertParseSuccess(parser, " --explain t/friends",
+                new FilterCommand(new TagContainsKeywordsPredicate("friends"), true));
+        assertParseSuccess(parser, " t/friends AND n/Alex --explain", new FilterCommand(
+                new AndPredicate(List.of(new TagContainsKeywordsPredicate("friends"),
+                        new NameContainsKeywordsPredicate("Alex"))), true));
+    }
+
     @Test
     public void parse_emptyArg_throwsParseException() {
         assertParseFailure(parser, "     ",
@@ -68,4 +80,11 @@ public class FilterCommandParserTest {
         assertParseSuccess(parser, FilterCommand.COMMAND_WORD + " " + PREFIX_TAG + "friends",
                 new FilterCommand(new TagContainsKeywordsPredicate("friends")));
     }
+
+    @Test
+    public void parse_query_returnsFilterCommand() {
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Alex AND " + PREFIX_TAG + "friends",
+                new FilterCommand(new AndPredicate(List.of(new NameContainsKeywordsPredicate("Alex"),
+                        new TagContainsKeywordsPredicate("friends")))));
+    }
 }
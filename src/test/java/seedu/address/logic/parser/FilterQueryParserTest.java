@@ -0,0 +1,95 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.model.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.predicate.AndPredicate;
+import seedu.address.model.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.predicate.NotPredicate;
+import seedu.address.model.predicate.NoteContainsKeywordsPredicate;
+import seedu.address.model.predicate.OrPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+
+public class FilterQueryParserTest {
+    private final NameContainsKeywordsPredicate alex = new NameContainsKeywordsPredicate("Alex Yeoh");
+    private final NameContainsKeywordsPredicate bernice = new NameContainsKeywordsPredicate("Bernice");
+    private final TagContainsKeywordsPredicate supplier = new TagContainsKeywordsPredicate("supplier");
+
+    @Test
+    public void isQuery() {
+        assertTrue(FilterQueryParser.isQuery("n/Alex AND t/friends"));
+        assertTrue(FilterQueryParser.isQuery(" NOT t/friends"));
+        assertTrue(FilterQueryParser.isQuery("(n/Alex)"));
+
+        assertFalse(FilterQueryParser.isQuery("n/Alex"));
+        assertFalse(FilterQueryParser.isQuery("a/Blk 1 Anderson Road"));
+        assertFalse(FilterQueryParser.isQuery("n/Alex and Bernice"));
+        assertFalse(FilterQueryParser.isQuery("a/Blk 5 NOT Street"));
+        assertFalse(FilterQueryParser.isQuery("n/Ben AND Jerry"));
+    }
+
+    @Test
+    public void parse_operatorWordsInValue_keepsWordsInCondition() throws Exception {
+        assertEquals(new AndPredicate(List.of(new AddressContainsKeywordsPredicate("Blk 5 NOT Street"), supplier)),
+                FilterQueryParser.parse("a/Blk 5 NOT Street AND t/supplier"));
+        assertEquals(new OrPredicate(List.of(new NameContainsKeywordsPredicate("Ben AND Jerry"), bernice)),
+                FilterQueryParser.parse("n/Ben AND Jerry OR n/Bernice"));
+        assertEquals(new NotPredicate(new NotPredicate(supplier)), FilterQueryParser.parse("NOT NOT t/supplier"));
+    }
+
+    @Test
+    public void parse_operators_respectsPrecedence() throws Exception {
+        assertEquals(new OrPredicate(List.of(alex, new AndPredicate(List.of(bernice, new NotPredicate(supplier))))),
+                FilterQueryParser.parse("n/Alex Yeoh OR n/Bernice AND NOT t/supplier"));
+    }
+
+    @Test
+    public void parse_parentheses_groupsConditions() throws Exception {
+        assertEquals(new AndPredicate(List.of(new OrPredicate(List.of(alex, bernice)), new NotPredicate(supplier))),
+                FilterQueryParser.parse("(n/Alex Yeoh OR n/Bernice) AND NOT t/supplier"));
+        assertEquals(new AndPredicate(List.of(new OrPredicate(List.of(alex, bernice)), supplier)),
+                FilterQueryParser.parse("( ( n/Alex Yeoh OR n/Bernice ) ) AND t/supplier"));
+
+        // parentheses that do not close a group are part of the condition
+        AndPredicate rearAddressSupplier =
+                new AndPredicate(List.of(new AddressContainsKeywordsPredicate("Blk 12 (rear)"), supplier));
+        assertEquals(rearAddressSupplier, FilterQueryParser.parse("a/Blk 12 (rear) AND t/supplier"));
+        assertEquals(rearAddressSupplier, FilterQueryParser.parse("(a/Blk 12 (rear)) AND t/supplier"));
+    }
+
+    @Test
+    public void parse_allConditions_returnsPredicates() throws Exception {
+        assertEquals(new AndPredicate(List.of(new AddressContainsKeywordsPredicate("Blk 30 Geylang"),
+                        new NoteContainsKeywordsPredicate("bulk order"), supplier)),
+                FilterQueryParser.parse("a/Blk 30 Geylang AND nt/bulk order AND t/supplier"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, String.format(FilterQueryParser.MESSAGE_MISSING_OPERATOR, "t/supplier"), ()
+                -> FilterQueryParser.parse("n/Alex AND n/Bernice t/supplier"));
+        assertThrows(ParseException.class, String.format(FilterQueryParser.MESSAGE_MISSING_CONDITION,
+                FilterQueryParser.END_OF_QUERY), () -> FilterQueryParser.parse("n/Alex AND ("));
+        // a NOT that is not followed by a condition is not an operator
+        assertThrows(ParseException.class, String.format(FilterQueryParser.MESSAGE_MISSING_CONDITION, "NOT"), ()
+                -> FilterQueryParser.parse("NOT Alex"));
+        assertThrows(ParseException.class, FilterQueryParser.MESSAGE_UNCLOSED_GROUP, ()
+                -> FilterQueryParser.parse("(n/Alex OR n/Bernice"));
+        assertThrows(ParseException.class, FilterQueryParser.MESSAGE_EMPTY_NOTE, ()
+                -> FilterQueryParser.parse("n/Alex AND nt/"));
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS, ()
+                -> FilterQueryParser.parse("n/Alex! OR t/supplier"));
+        assertThrows(ParseException.class, String.format(FilterCommand.UNIQUE_ATTRIBUTE_DETECTED,
+                FilterCommand.MESSAGE_USAGE), () -> FilterQueryParser.parse("n/Alex OR p/91234567"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +39,20 @@ public class ParserUtilTest {
 
     private static final String WHITESPACE = " \t\r\n";
 
+    @Test
+    public void isFlagPresent() {
+        assertTrue(ParserUtil.isFlagPresent("--explain t/friends", "--explain"));
+        assertTrue(ParserUtil.isFlagPresent(" t/friends\t--explain", "--explain"));
+        assertFalse(ParserUtil.isFlagPresent("t/friends--explain", "--explain"));
+        assertFalse(ParserUtil.isFlagPresent("t/friends --explained", "--explain"));
+    }
+
+    @Test
+    public void removeFlag() {
+        assertEquals("   t/friends", ParserUtil.removeFlag(" --explain t/friends", "--explain"));
+        assertEquals("t/friends--explain  ", ParserUtil.removeFlag("t/friends--explain --explain", "--explain"));
+    }
+
     @Test
     public void parseIndex_invalidInput_throwsParseException() {
         assertThrows(ParseException.class, () -> ParserUtil.parseIndex("10 a"));
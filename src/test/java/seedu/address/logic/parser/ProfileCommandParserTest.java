@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ProfileCommand;
+
+public class ProfileCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProfileCommand.MESSAGE_USAGE);
+
+    private ProfileCommandParser parser = new ProfileCommandParser();
+
+    @Test
+    public void parse_start_success() {
+        assertParseSuccess(parser, " start recordings/slow add.jfr ",
+                new ProfileCommand(Path.of("recordings/slow add.jfr")));
+    }
+
+    @Test
+    public void parse_stop_success() {
+        assertParseSuccess(parser, " stop ", new ProfileCommand());
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "start", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "stop recording.jfr", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "pause recording.jfr", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "start recording\0.jfr", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_noArguments_success() {
+        assertParseSuccess(parser, "", new StatsCommand());
+        assertParseSuccess(parser, "   ", new StatsCommand());
+    }
+
+    @Test
+    public void parse_file_success() {
+        assertParseSuccess(parser, " stats/latest.json ", new StatsCommand(Path.of("stats/latest.json")));
+    }
+
+    @Test
+    public void parse_invalidPath_failure() {
+        assertParseFailure(parser, "stats\0.json",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
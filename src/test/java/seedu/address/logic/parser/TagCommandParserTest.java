@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.model.tag.Tag;
+
+public class TagCommandParserTest {
+
+    private TagCommandParser parser = new TagCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsTagCommand() {
+        assertParseSuccess(parser, " add t/supplier t/late",
+                new TagCommand(Set.of(new Tag("supplier"), new Tag("late")), true));
+        assertParseSuccess(parser, " remove t/late", new TagCommand(Set.of(new Tag("late")), false));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE);
+
+        // missing or unknown action
+        assertParseFailure(parser, " t/supplier", expectedMessage);
+        assertParseFailure(parser, " replace t/supplier", expectedMessage);
+
+        // no tags
+        assertParseFailure(parser, " add", expectedMessage);
+
+        // invalid tag
+        assertParseFailure(parser, " add t/late*", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
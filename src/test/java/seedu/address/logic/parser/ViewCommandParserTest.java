@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.model.predicate.PhoneIsKeywordPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+
+public class ViewCommandParserTest {
+    private ViewCommandParser parser = new ViewCommandParser();
+
+    @Test
+    public void parse_name_success() {
+        assertParseSuccess(parser, " suppliers ", new ViewCommand("suppliers"));
+    }
+
+    @Test
+    public void parse_saveFilter_success() {
+        assertParseSuccess(parser, "save suppliers filter t/supplier", new ViewCommand("suppliers",
+                "filter t/supplier", new TagContainsKeywordsPredicate("supplier")));
+        assertParseSuccess(parser, " save alice  find p/94351253", new ViewCommand("alice",
+                "find p/94351253", new PhoneIsKeywordPredicate("94351253")));
+    }
+
+    @Test
+    public void parse_missingArguments_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "save", expectedMessage);
+        assertParseFailure(parser, "save suppliers", expectedMessage);
+        assertParseFailure(parser, "suppliers filter t/supplier", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidName_failure() {
+        assertParseFailure(parser, "save save filter t/supplier", ViewCommand.MESSAGE_NAME_CONSTRAINTS);
+        assertParseFailure(parser, "save sup!pliers filter t/supplier", ViewCommand.MESSAGE_NAME_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_notFindOrFilter_failure() {
+        assertParseFailure(parser, "save everyone list",
+                String.format(ViewCommand.MESSAGE_NOT_A_FILTER, ViewCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FacetCountsTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+    private final FacetCounts facetCounts = new FacetCounts(persons);
+
+    @Test
+    public void constructor_persons_countsTagsAndEmailDomains() {
+        assertEquals(Map.of("friends", 2, "owesMoney", 1), facetCounts.getTagCounts());
+        assertEquals(Map.of("example.com", 3), facetCounts.getEmailDomainCounts());
+    }
+
+    @Test
+    public void getEmailDomain_mixedCase_lowerCaseDomain() {
+        assertEquals("craft.sg", FacetCounts.getEmailDomain(new Email("Supplier@Craft.SG")));
+    }
+
+    @Test
+    public void onChanged_personsChanged_countsChangedPersons() {
+        List<Integer> notifications = new ArrayList<>();
+        facetCounts.addListener(unused -> notifications.add(persons.size()));
+
+        persons.add(new PersonBuilder().withEmail("supplier@craft.sg").withTags("supplier").build());
+        persons.remove(ALICE);
+        persons.set(0, new PersonBuilder(BENSON).withTags().build());
+        assertEquals(Map.of("supplier", 1), facetCounts.getTagCounts());
+        assertEquals(Map.of("example.com", 2, "craft.sg", 1), facetCounts.getEmailDomainCounts());
+        assertEquals(List.of(4, 3, 3), notifications);
+    }
+
+    @Test
+    public void onChanged_randomChanges_sameAsCountingAgain() {
+        Random random = new Random(48);
+        List<Person> candidates = List.of(ALICE, BENSON, CARL,
+                new PersonBuilder().withEmail("a@craft.sg").withTags("supplier", "friends").build(),
+                new PersonBuilder().withEmail("b@CRAFT.sg").withTags("supplier").build());
+        for (int i = 0; i < 200; i++) {
+            int choice = random.nextInt(3);
+            if (choice == 0 || persons.isEmpty()) {
+                persons.add(random.nextInt(persons.size() + 1), candidates.get(random.nextInt(candidates.size())));
+            } else if (choice == 1) {
+                persons.remove(random.nextInt(persons.size()));
+            } else {
+                persons.set(random.nextInt(persons.size()), candidates.get(random.nextInt(candidates.size())));
+            }
+            FacetCounts counted = new FacetCounts(FXCollections.observableArrayList(persons));
+            assertEquals(counted.getTagCounts(), facetCounts.getTagCounts());
+            assertEquals(counted.getEmailDomainCounts(), facetCounts.getEmailDomainCounts());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private final Predicate<Person> friends = new TagContainsKeywordsPredicate("friends");
+
+    private ObservableList<Person> source;
+    private FilteredPersonList filteredPersons;
+    /** A copy of the view that is only updated through the changes it fires. */
+    private List<Person> mirror;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+        filteredPersons = new FilteredPersonList(source, friends);
+        mirror = new ArrayList<>(filteredPersons);
+        filteredPersons.addListener(this::applyChange);
+    }
+
+    @Test
+    public void constructor_predicate_showsPassingPersons() {
+        assertShown(List.of(ALICE, BENSON, DANIEL));
+        assertEquals(1, filteredPersons.getSourceIndex(1));
+        assertEquals(-1, filteredPersons.getViewIndex(2));
+    }
+
+    @Test
+    public void setPredicate_newPredicate_showsPassingPersons() {
+        filteredPersons.setPredicate(person -> person.getTags().isEmpty());
+        assertShown(List.of(CARL));
+    }
+
+    @Test
+    public void sourceChanged_editedPerson_keepsPredicate() {
+        Person carlFriend = new PersonBuilder(CARL).withTags("friends").build();
+        source.set(2, carlFriend);
+        assertShown(List.of(ALICE, BENSON, carlFriend, DANIEL));
+
+        Person aliceWithoutTags = new PersonBuilder(ALICE).withTags().build();
+        source.set(0, aliceWithoutTags);
+        assertShown(List.of(BENSON, carlFriend, DANIEL));
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsFiltering() {
+        Random random = new Random(41);
+        List<Person> persons = List.of(ALICE, BENSON, CARL, DANIEL);
+        for (int i = 0; i < 500; i++) {
+            int operation = random.nextInt(5);
+            Person person = persons.get(random.nextInt(persons.size()));
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), person);
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), person);
+            } else if (operation == 3) {
+                int from = random.nextInt(source.size());
+                source.remove(from, from + random.nextInt(source.size() - from + 1));
+            } else {
+                int position = random.nextInt(3);
+                source.sort(Comparator.comparing(p -> p.getName().fullName.charAt(position)));
+            }
+            assertShown(source.stream().filter(friends).toList());
+        }
+        source.setAll(CARL, ALICE);
+        assertShown(List.of(ALICE));
+    }
+
+    @Test
+    public void refinePredicate_narrowerPredicate_testsOnlyShownPersons() {
+        List<Person> tested = new ArrayList<>();
+        filteredPersons.refinePredicate(person -> {
+            tested.add(person);
+            return person.getTags().size() > 1;
+        });
+        assertEquals(List.of(ALICE, BENSON, DANIEL), tested);
+        assertShown(List.of(BENSON));
+
+        source.add(new PersonBuilder().withTags("friends").build());
+        assertShown(List.of(BENSON));
+    }
+
+    @Test
+    public void showSameAs_otherView_showsItsPersonsWithoutTesting() {
+        List<Person> tested = new ArrayList<>();
+        FilteredPersonList untagged = new FilteredPersonList(source, person -> {
+            tested.add(person);
+            return person.getTags().isEmpty();
+        });
+        tested.clear();
+
+        filteredPersons.showSameAs(untagged);
+        assertEquals(List.of(), tested);
+        assertShown(List.of(CARL));
+
+        // both views are kept up to date with the same predicate from now on
+        Person untaggedPerson = new PersonBuilder().withTags().build();
+        source.add(untaggedPerson);
+        assertShown(List.of(CARL, untaggedPerson));
+        assertEquals(List.of(CARL, untaggedPerson), untagged);
+    }
+
+    @Test
+    public void showOnly_sourceIndex_showsPersonWithoutTesting() {
+        Predicate<Person> isCarl = person -> {
+            throw new AssertionError("The predicate should not be tested.");
+        };
+        filteredPersons.showOnly(isCarl, 2);
+        assertShown(List.of(CARL));
+
+        filteredPersons.showOnly(isCarl, -1);
+        assertShown(List.of());
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredPersons.showOnly(isCarl, 4));
+    }
+
+    @Test
+    public void showSameAs_viewOfOtherSource_throwsIllegalArgumentException() {
+        FilteredPersonList otherView = new FilteredPersonList(FXCollections.observableArrayList(ALICE), friends);
+        assertThrows(IllegalArgumentException.class, () -> filteredPersons.showSameAs(otherView));
+    }
+
+    @Test
+    public void setParallelThreshold_nonPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> filteredPersons.setParallelThreshold(0));
+    }
+
+    @Test
+    public void setPredicate_aboveParallelThreshold_sameAsFiltering() {
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            persons.add(random.nextInt(3) == 0
+                    ? new PersonBuilder().withTags("friends").build()
+                    : new PersonBuilder().withTags().build());
+        }
+        source.setAll(persons);
+        filteredPersons.setParallelThreshold(1);
+
+        filteredPersons.setPredicate(person -> person.getTags().isEmpty());
+        assertShown(source.stream().filter(person -> person.getTags().isEmpty()).toList());
+        filteredPersons.setPredicate(friends);
+        assertShown(source.stream().filter(friends).toList());
+    }
+
+    private void assertShown(List<Person> expected) {
+        assertEquals(expected, filteredPersons);
+        assertEquals(expected, mirror);
+        for (int i = 0; i < filteredPersons.size(); i++) {
+            assertEquals(i, filteredPersons.getViewIndex(filteredPersons.getSourceIndex(i)));
+        }
+    }
+
+    private void applyChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Person> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror.clear();
+                mirror.addAll(permuted);
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                mirror.remove(change.getFrom());
+            }
+            if (change.wasAdded()) {
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -2,20 +2,41 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.event.BulkReset;
+import seedu.address.model.event.ModelChange;
+import seedu.address.model.event.ModelChangeListener;
+import seedu.address.model.event.PersonAdded;
+import seedu.address.model.event.PersonRemoved;
+import seedu.address.model.event.PersonReplaced;
+import seedu.address.model.index.FilterPlan;
+import seedu.address.model.modifications.AddMod;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.CannotUndoException;
+import seedu.address.model.predicate.AndPredicate;
 import seedu.address.model.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.predicate.NoteContainsKeywordsPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -71,6 +92,199 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void findPersonByPhoneAndEmail_personsChanged_followsChanges() {
+        modelManager.addPerson(ALICE);
+        assertEquals(ALICE, modelManager.findPersonByPhone(ALICE.getPhone()));
+        assertEquals(ALICE, modelManager.findPersonByEmail(ALICE.getEmail()));
+        assertNull(modelManager.findPersonByPhone(BENSON.getPhone()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BENSON.getPhone().value).build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertNull(modelManager.findPersonByPhone(ALICE.getPhone()));
+        assertEquals(editedAlice, modelManager.findPersonByPhone(BENSON.getPhone()));
+
+        modelManager.deletePerson(editedAlice);
+        assertNull(modelManager.findPersonByEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void updateFilteredPersonList_tagFilterThenEdit_showsEditedPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new TagContainsKeywordsPredicate("owesMoney"));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person aliceOwingMoney = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, aliceOwingMoney);
+        assertEquals(List.of(aliceOwingMoney, BENSON), modelManager.getFilteredPersonList());
+
+        Person bensonWithoutTags = new PersonBuilder(BENSON).withTags().build();
+        modelManager.setPerson(BENSON, bensonWithoutTags);
+        assertEquals(List.of(aliceOwingMoney), modelManager.getFilteredPersonList());
+
+        modelManager.rebuildIndexes();
+        assertEquals(List.of(aliceOwingMoney), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinedThenBroadened_sameAsFullFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate("friends");
+        modelManager.updateFilteredPersonList(friends);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(
+                new AndPredicate(List.of(friends, new TagContainsKeywordsPredicate("owesMoney"))));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate("Carl"));
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedFilter_servedFromCache() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new TagContainsKeywordsPredicate("owesMoney"));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        Person aliceOwingMoney = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, aliceOwingMoney);
+
+        modelManager.updateFilteredPersonList(new TagContainsKeywordsPredicate("owesMoney"));
+        assertEquals(List.of(aliceOwingMoney, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.getFilterCacheHitCount());
+        assertEquals(1, modelManager.getFilterCacheMissCount());
+    }
+
+    @Test
+    public void explainFilteredPersonList_eachStrategy_explainsHowPersonsWereFound() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate("friends");
+
+        FilterExplanation index = modelManager.explainFilteredPersonList(friends);
+        assertEquals(FilterPlan.Strategy.INDEX, index.getStrategy());
+        assertFalse(index.isRefinement());
+        assertEquals(3, index.getExaminedCount());
+        assertEquals(2, index.getMatchCount());
+        assertTrue(index.getSummary().contains("Strategy: index"));
+
+        FilterExplanation refinement = modelManager.explainFilteredPersonList(
+                new AndPredicate(List.of(friends, new TagContainsKeywordsPredicate("owesMoney"))));
+        assertTrue(refinement.isRefinement());
+        assertEquals(2, refinement.getExaminedCount());
+        assertEquals(1, refinement.getMatchCount());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        FilterExplanation cacheHit = modelManager.explainFilteredPersonList(friends);
+        assertEquals(FilterPlan.Strategy.CACHE_HIT, cacheHit.getStrategy());
+        assertEquals(2, cacheHit.getMatchCount());
+
+        FilterExplanation fullScan = modelManager.explainFilteredPersonList(new NoteContainsKeywordsPredicate("x"));
+        assertEquals(FilterPlan.Strategy.FULL_SCAN, fullScan.getStrategy());
+        assertEquals(3, fullScan.getExaminedCount());
+    }
+
+    @Test
+    public void publishChanges_personsChanged_publishesBatchOfTypedChanges() throws Exception {
+        List<List<ModelChange>> batches = new ArrayList<>();
+        ModelChangeListener listener = batches::add;
+        modelManager.addChangeListener(listener);
+        assertFalse(modelManager.publishChanges());
+
+        Person aliceWithoutTags = new PersonBuilder(ALICE).withTags().build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.setPerson(ALICE, aliceWithoutTags);
+        modelManager.deletePerson(BENSON);
+        modelManager.commitAddressBook(new AddMod(ALICE));
+        assertTrue(modelManager.publishChanges());
+        assertEquals(List.of(List.of(new PersonAdded(1, ALICE), new PersonAdded(2, BENSON),
+                new PersonReplaced(3, ALICE, aliceWithoutTags), new PersonRemoved(4, BENSON))), batches);
+
+        modelManager.undoAddressBook();
+        modelManager.publishChanges();
+        assertEquals(new BulkReset(5, 0), batches.get(1).get(0));
+
+        modelManager.removeChangeListener(listener);
+        modelManager.addPerson(CARL);
+        assertTrue(modelManager.publishChanges());
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    public void publishChanges_bulkChanges_publishesChangePerPerson() {
+        List<List<ModelChange>> batches = new ArrayList<>();
+        modelManager.addChangeListener(batches::add);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+
+        Person aliceWithoutTags = new PersonBuilder(ALICE).withTags().build();
+        Person bensonWithoutTags = new PersonBuilder(BENSON).withTags().build();
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        editedPersons.put(ALICE, aliceWithoutTags);
+        editedPersons.put(BENSON, bensonWithoutTags);
+        modelManager.setPersons(editedPersons);
+        modelManager.deletePersons(List.of(aliceWithoutTags, CARL));
+        modelManager.publishChanges();
+
+        assertEquals(List.of(bensonWithoutTags), modelManager.getFilteredPersonList());
+        assertEquals(List.of(new PersonReplaced(4, ALICE, aliceWithoutTags),
+                new PersonReplaced(5, BENSON, bensonWithoutTags), new PersonRemoved(6, aliceWithoutTags),
+                new PersonRemoved(7, CARL)), batches.get(0).subList(3, 7));
+    }
+
+    @Test
+    public void showSavedView_afterUndo_findsPersonsOnlyWhenShown() throws Exception {
+        List<Person> tested = new ArrayList<>();
+        Predicate<Person> untagged = person -> {
+            tested.add(person);
+            return person.getTags().isEmpty();
+        };
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook(new AddMod(ALICE));
+        modelManager.saveView("untagged", "filter NOT t/friends", untagged);
+        modelManager.showSavedView("untagged");
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        // the view follows single changes, but not the undo that replaces every person
+        tested.clear();
+        modelManager.addPerson(CARL);
+        modelManager.commitAddressBook(new AddMod(CARL));
+        assertEquals(List.of(CARL), tested);
+        modelManager.undoAddressBook();
+        assertEquals(List.of(CARL), tested);
+
+        tested.clear();
+        assertTrue(modelManager.showSavedView("untagged"));
+        assertEquals(List.of(ALICE), tested);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void trimHistory_afterUndo_discardsUndoAndRedo() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook(new AddMod(ALICE));
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook(new AddMod(BENSON));
+        modelManager.undoAddressBook();
+        assertEquals(1, modelManager.getUndoableCount());
+        assertEquals(1, modelManager.getRedoableCount());
+        assertTrue(modelManager.estimateHistoryBytes() > 0);
+
+        assertEquals(2, modelManager.trimHistory());
+        assertEquals(0, modelManager.getUndoableCount());
+        assertEquals(0, modelManager.getRedoableCount());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertThrows(CannotUndoException.class, () -> modelManager.undoAddressBook());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
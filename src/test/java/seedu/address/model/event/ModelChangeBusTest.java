@@ -0,0 +1,56 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelChangeBusTest {
+
+    private final ModelChangeBus bus = new ModelChangeBus(() -> 7);
+
+    @Test
+    public void publish_noListener_dropsChangesButReportsThem() {
+        bus.post(version -> new PersonAdded(version, ALICE));
+        List<List<ModelChange>> batches = new ArrayList<>();
+        bus.addListener(batches::add);
+
+        assertTrue(bus.publish());
+        assertFalse(bus.publish());
+        assertEquals(List.of(), batches);
+        assertEquals(1, bus.getVersion());
+    }
+
+    @Test
+    public void publish_tooManyChanges_publishesBulkReset() {
+        List<List<ModelChange>> batches = new ArrayList<>();
+        bus.addListener(batches::add);
+        for (int i = 0; i <= ModelChangeBus.MAX_PENDING_CHANGES; i++) {
+            bus.post(version -> new PersonAdded(version, ALICE));
+        }
+        bus.post(version -> new PersonRemoved(version, ALICE));
+
+        assertTrue(bus.publish());
+        long lastVersion = ModelChangeBus.MAX_PENDING_CHANGES + 2;
+        assertEquals(List.of(List.of(new BulkReset(lastVersion - 1, 7), new PersonRemoved(lastVersion, ALICE))),
+                batches);
+    }
+
+    @Test
+    public void removeListener_lastListener_dropsPendingChanges() {
+        List<List<ModelChange>> batches = new ArrayList<>();
+        ModelChangeListener listener = batches::add;
+        bus.addListener(listener);
+        bus.post(version -> new PersonAdded(version, ALICE));
+        bus.removeListener(listener);
+        bus.addListener(listener);
+
+        assertTrue(bus.publish());
+        assertEquals(List.of(), batches);
+    }
+}
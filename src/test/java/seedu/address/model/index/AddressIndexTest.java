@@ -0,0 +1,102 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonIndex personIndex = new PersonIndex(persons);
+
+    @Test
+    public void find_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> personIndex.getAddressIndex().find("street", 0));
+    }
+
+    @Test
+    public void find_typoInKeyword_findsCloseWords() {
+        Person geylang = new PersonBuilder().withAddress("Blk 30 Geylang Street 29, #06-40").build();
+        Person serangoon = new PersonBuilder().withAddress("Blk 436 Serangoon Gardens Street 26, #16-43").build();
+        persons.addAll(geylang, serangoon);
+
+        AddressIndex addressIndex = personIndex.getAddressIndex();
+        assertEquals(2, addressIndex.find("stret", 3).getCardinality());
+        assertEquals(1, addressIndex.find("serangon", 3).getCardinality());
+        assertTrue(addressIndex.find("jurong", 3).isEmpty());
+
+        assertFound(List.of(geylang), "blk 30 street");
+        assertFound(List.of(serangoon), "436 gardns");
+        assertFound(List.of(), "blk 3");
+
+        persons.remove(serangoon);
+        assertFound(List.of(), "436 gardns");
+    }
+
+    @Test
+    public void resolve_randomAddressesAndKeywords_sameAsPredicate() {
+        Random random = new Random(39);
+        for (int i = 0; i < 300; i++) {
+            persons.add(new PersonBuilder().withAddress(randomAddress(random)).build());
+        }
+        // replaces and removes persons, so that the index must follow the changes
+        for (int i = 0; i < 100; i++) {
+            persons.set(random.nextInt(persons.size()), new PersonBuilder().withAddress(randomAddress(random)).build());
+            persons.remove(random.nextInt(persons.size()));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(randomAddress(random));
+            List<Person> expected = persons.stream().filter(predicate).toList();
+            assertFound(expected, predicate);
+        }
+    }
+
+    private void assertFound(List<Person> expected, String keyword) {
+        assertFound(expected, new AddressContainsKeywordsPredicate(keyword));
+    }
+
+    private void assertFound(List<Person> expected, AddressContainsKeywordsPredicate predicate) {
+        IndexMatch match = predicate.resolve(personIndex).orElseThrow();
+        List<Person> found = new ArrayList<>();
+        persons.forEach(person -> {
+            if (match.getSlots().contains(personIndex.getSlot(person))) {
+                found.add(person);
+            }
+        });
+        assertEquals(expected, found);
+        assertEquals(expected, persons.stream().filter(personIndex.optimize(predicate)).toList());
+    }
+
+    /**
+     * Returns an address of one to four words, which are numbers that may end with a comma or words of various
+     * lengths over a small alphabet, so that random words are often close.
+     */
+    private static String randomAddress(Random random) {
+        List<String> words = new ArrayList<>();
+        for (int i = random.nextInt(4); i >= 0; i--) {
+            if (random.nextInt(4) == 0) {
+                words.add((1 + random.nextInt(30)) + (random.nextBoolean() ? "," : ""));
+                continue;
+            }
+            StringBuilder word = new StringBuilder();
+            for (int j = 1 + random.nextInt(8); j > 0; j--) {
+                word.append((char) ('a' + random.nextInt(3)));
+            }
+            words.add(word.toString());
+        }
+        return String.join(" ", words);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.predicate.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonIndex personIndex = new PersonIndex(persons);
+
+    @Test
+    public void find_typoInKeyword_findsCloseWords() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person alex = new PersonBuilder().withName("Alex Yeoh").build();
+        persons.addAll(alice, alex);
+
+        assertFound(List.of(alice), "alce paulin");
+        assertFound(List.of(alex), "alx");
+        assertFound(List.of(), "a");
+        assertFound(List.of(alex), "ale");
+
+        persons.remove(alex);
+        assertFound(List.of(), "ale");
+        assertEquals(2, personIndex.getNameIndex().getDistinctWordCount());
+    }
+
+    @Test
+    public void resolve_randomNamesAndKeywords_sameAsPredicate() {
+        Random random = new Random(38);
+        for (int i = 0; i < 300; i++) {
+            persons.add(new PersonBuilder().withName(randomName(random)).build());
+        }
+        // replaces and removes persons, so that the index must follow the changes
+        for (int i = 0; i < 100; i++) {
+            persons.set(random.nextInt(persons.size()), new PersonBuilder().withName(randomName(random)).build());
+            persons.remove(random.nextInt(persons.size()));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(randomName(random));
+            List<Person> expected = persons.stream().filter(predicate).toList();
+            assertFound(expected, predicate);
+        }
+    }
+
+    private void assertFound(List<Person> expected, String keyword) {
+        assertFound(expected, new NameContainsKeywordsPredicate(keyword));
+    }
+
+    private void assertFound(List<Person> expected, NameContainsKeywordsPredicate predicate) {
+        IndexMatch match = predicate.resolve(personIndex).orElseThrow();
+        List<Person> found = new ArrayList<>();
+        persons.forEach(person -> {
+            if (match.getSlots().contains(personIndex.getSlot(person))) {
+                found.add(person);
+            }
+        });
+        assertEquals(expected, found);
+        assertTrue(match.isExact());
+
+        Predicate<Person> optimized = personIndex.optimize(predicate);
+        assertEquals(expected, persons.stream().filter(optimized).toList());
+    }
+
+    /**
+     * Returns a name of one to three words over a small alphabet, so that random words are often close.
+     */
+    private static String randomName(Random random) {
+        List<String> words = new ArrayList<>();
+        for (int i = random.nextInt(3); i >= 0; i--) {
+            StringBuilder word = new StringBuilder();
+            for (int j = 1 + random.nextInt(4); j > 0; j--) {
+                word.append((char) ('a' + random.nextInt(3)));
+            }
+            words.add(random.nextBoolean() ? word.toString().toUpperCase() : word.toString());
+        }
+        return String.join(" ", words);
+    }
+}
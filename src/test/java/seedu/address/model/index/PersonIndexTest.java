@@ -0,0 +1,218 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.predicate.AndPredicate;
+import seedu.address.model.predicate.EmailIsKeywordPredicate;
+import seedu.address.model.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.predicate.NotPredicate;
+import seedu.address.model.predicate.NoteContainsKeywordsPredicate;
+import seedu.address.model.predicate.OrPredicate;
+import seedu.address.model.predicate.PhoneIsKeywordPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private AddressBook addressBook;
+    private PersonIndex personIndex;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        personIndex = new PersonIndex(addressBook.getPersonList());
+    }
+
+    @Test
+    public void getSlot_personsAddedAndRemoved_reusesSlots() {
+        int aliceSlot = personIndex.getSlot(ALICE);
+        assertSame(ALICE, personIndex.getPerson(aliceSlot));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(-1, personIndex.getSlot(ALICE));
+        assertNull(personIndex.getPerson(aliceSlot));
+
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        assertEquals(aliceSlot, personIndex.getSlot(amy));
+        assertEquals(addressBook.getPersonList().size(), personIndex.getAllSlots().getCardinality());
+    }
+
+    @Test
+    public void findPosition_personsChanged_followsPositions() {
+        assertEquals(1, personIndex.findPosition(BENSON));
+
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        assertEquals(addressBook.getPersonList().size() - 1, personIndex.findPosition(amy));
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags().build();
+        addressBook.setPerson(BENSON, editedBenson);
+        assertEquals(-1, personIndex.findPosition(BENSON));
+        assertEquals(1, personIndex.findPosition(editedBenson));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(0, personIndex.findPosition(editedBenson));
+        assertEquals(addressBook.getPersonList().size() - 1, personIndex.findPosition(amy));
+    }
+
+    @Test
+    public void findPosition_manyPersonsAddedAndDeleted_followsPositions() {
+        personIndex.findPosition(ALICE);
+        for (int i = 0; i < 100; i++) {
+            Person person = new PersonBuilder().withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").build();
+            addressBook.addPerson(person);
+            if (i % 3 == 0) {
+                addressBook.removePerson(addressBook.getPersonList().get(i % addressBook.getPersonList().size()));
+            }
+        }
+        addressBook.removePersons(List.of(addressBook.getPersonList().get(1), addressBook.getPersonList().get(7)));
+
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i, personIndex.findPosition(persons.get(i)));
+        }
+    }
+
+    @Test
+    public void getTagIndex_personsEditedAndReset_followsChanges() {
+        TagContainsKeywordsPredicate owesMoney = new TagContainsKeywordsPredicate("owesMoney");
+        assertFound(List.of(BENSON), owesMoney);
+
+        Person carlOwingMoney = new PersonBuilder(CARL).withTags("owesMoney").build();
+        addressBook.setPerson(CARL, carlOwingMoney);
+        assertFound(List.of(BENSON, carlOwingMoney), owesMoney);
+
+        addressBook.removePerson(BENSON);
+        assertFound(List.of(carlOwingMoney), owesMoney);
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertFound(List.of(BENSON), owesMoney);
+        assertEquals(2, personIndex.getTagIndex().getDistinctTagCount());
+    }
+
+    @Test
+    public void optimize_combinedPredicates_samePersonsAsPredicate() {
+        Predicate<Person> friends = new TagContainsKeywordsPredicate("friends");
+        Predicate<Person> owesMoney = new TagContainsKeywordsPredicate("owesMoney");
+        Predicate<Person> meier = new NameContainsKeywordsPredicate("Meier");
+
+        assertSameAsPredicate(new NotPredicate(friends));
+        assertSameAsPredicate(new AndPredicate(List.of(friends, new NotPredicate(owesMoney))));
+        assertSameAsPredicate(new AndPredicate(List.of(friends, meier)));
+        assertSameAsPredicate(new OrPredicate(List.of(owesMoney, meier)));
+        assertSameAsPredicate(new NotPredicate(new AndPredicate(List.of(friends, meier))));
+    }
+
+    @Test
+    public void resolve_someNotIndexed_testsCandidatesWithRemainingPredicates() {
+        Predicate<Person> friends = new TagContainsKeywordsPredicate("friends");
+        Predicate<Person> meier = new NameContainsKeywordsPredicate("Meier");
+        Predicate<Person> street = new NoteContainsKeywordsPredicate("street");
+        AndPredicate predicate = new AndPredicate(List.of(friends, meier, street));
+
+        IndexMatch match = predicate.resolve(personIndex).orElseThrow();
+        assertFalse(match.isExact());
+        assertSame(street, match.getRemainingPredicate(predicate));
+        assertSameAsPredicate(predicate);
+
+        // a condition that cannot be looked up is tested whole
+        Predicate<Person> nested = new OrPredicate(List.of(meier, street));
+        AndPredicate withNested = new AndPredicate(List.of(friends, nested));
+        assertSame(nested, withNested.resolve(personIndex).orElseThrow().getRemainingPredicate(withNested));
+        assertSameAsPredicate(withNested);
+    }
+
+    @Test
+    public void optimize_phoneAndEmail_looksUpPerson() {
+        assertSameAsPredicate(new PhoneIsKeywordPredicate(BENSON.getPhone().value));
+        assertSameAsPredicate(new EmailIsKeywordPredicate(CARL.getEmail().value));
+        assertSameAsPredicate(new PhoneIsKeywordPredicate("000"));
+        assertEquals(1, new EmailIsKeywordPredicate(CARL.getEmail().value).resolve(personIndex)
+                .orElseThrow().getSlots().getCardinality());
+    }
+
+    @Test
+    public void optimize_notIndexed_returnsPredicate() {
+        Predicate<Person> street = new NoteContainsKeywordsPredicate("street");
+        assertSame(street, personIndex.optimize(street));
+        assertNotSame(street, personIndex.optimize(new TagContainsKeywordsPredicate("friends")));
+    }
+
+    @Test
+    public void optimize_personEditedAfterLookup_testsEditedPerson() {
+        Predicate<Person> optimized = personIndex.optimize(new TagContainsKeywordsPredicate("owesMoney"));
+        Person carlOwingMoney = new PersonBuilder(CARL).withTags("owesMoney").build();
+        Person aliceWithoutTags = new PersonBuilder(ALICE).withTags().build();
+        addressBook.setPerson(CARL, carlOwingMoney);
+        addressBook.setPerson(ALICE, aliceWithoutTags);
+
+        assertTrue(optimized.test(carlOwingMoney));
+        assertTrue(optimized.test(BENSON));
+        assertFalse(optimized.test(aliceWithoutTags));
+        assertFalse(optimized.test(ALICE));
+    }
+
+    @Test
+    public void optimize_cachedResult_testsOnlyChangedPersons() {
+        NoteContainsKeywordsPredicate prefersEmail = new NoteContainsKeywordsPredicate("prefers email");
+        // a result that no scan would give shows that the cached slots are used for unchanged persons
+        personIndex.cacheResult(prefersEmail, List.of(BENSON));
+        Person aliceWithNote = new PersonBuilder(ALICE).withNote("prefers email").build();
+        addressBook.setPerson(ALICE, aliceWithNote);
+
+        Predicate<Person> optimized = personIndex.optimize(new NoteContainsKeywordsPredicate("prefers email"));
+        assertEquals(List.of(aliceWithNote, BENSON), addressBook.getPersonList().stream().filter(optimized).toList());
+        assertEquals(1, personIndex.getFilterCache().getHitCount());
+
+        personIndex.rebuild();
+        assertSame(prefersEmail, personIndex.optimize(prefersEmail));
+        assertEquals(1, personIndex.getFilterCache().getMissCount());
+    }
+
+    @Test
+    public void cacheResult_overCapacity_evictsLeastRecentlyUsed() {
+        for (int i = 0; i <= FilterCache.DEFAULT_CAPACITY; i++) {
+            personIndex.cacheResult(new NoteContainsKeywordsPredicate("note" + i), List.of());
+            // keeps the first result in use
+            personIndex.optimize(new NoteContainsKeywordsPredicate("note0"));
+        }
+        assertEquals(FilterCache.DEFAULT_CAPACITY, personIndex.getFilterCache().size());
+        Predicate<Person> evicted = new NoteContainsKeywordsPredicate("note1");
+        assertSame(evicted, personIndex.optimize(evicted));
+        assertNotSame(evicted, personIndex.optimize(new NoteContainsKeywordsPredicate("note0")));
+    }
+
+    private void assertFound(List<Person> expected, TagContainsKeywordsPredicate predicate) {
+        List<Person> found = addressBook.getPersonList().stream()
+                .filter(person -> predicate.resolve(personIndex).orElseThrow().getSlots()
+                        .contains(personIndex.getSlot(person)))
+                .toList();
+        assertEquals(expected, found);
+    }
+
+    private void assertSameAsPredicate(Predicate<Person> predicate) {
+        Predicate<Person> optimized = personIndex.optimize(predicate);
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(predicate.test(person), optimized.test(person));
+        }
+    }
+}
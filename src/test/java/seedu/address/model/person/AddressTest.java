@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class AddressTest {
@@ -53,4 +56,12 @@ public class AddressTest {
         // different values -> returns false
         assertFalse(address.equals(new Address("Other Valid Address")));
     }
+
+    @Test
+    public void getSearchWords_mixedCase_returnsLowerCaseWords() {
+        assertEquals(List.of("blk", "30,", "geylang"), new Address("Blk 30, Geylang").getSearchWords());
+
+        // accented characters typed as a letter and a combining accent are composed
+        assertEquals(List.of("caf\u00e9"), new Address("Cafe\u0301").getSearchWords());
+    }
 }
@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.predicate.AndPredicate;
+import seedu.address.model.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class AndPredicateTest {
+    private final NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate("Alex");
+    private final TagContainsKeywordsPredicate tagPredicate = new TagContainsKeywordsPredicate("friends");
+    private final AddressContainsKeywordsPredicate addressPredicate =
+            new AddressContainsKeywordsPredicate("Serangoon Gardens Street");
+
+    @Test
+    public void constructor_noPredicates_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AndPredicate(List.of()));
+    }
+
+    @Test
+    public void constructor_nestedAndPredicate_mergesPredicates() {
+        AndPredicate nested = new AndPredicate(List.of(namePredicate, new AndPredicate(List.of(tagPredicate))));
+        assertEquals(new AndPredicate(List.of(namePredicate, tagPredicate)), nested);
+        assertEquals(2, nested.getPredicates().size());
+    }
+
+    @Test
+    public void getPredicates_cheapestFirst() {
+        AndPredicate predicate = new AndPredicate(List.of(addressPredicate, namePredicate));
+        assertEquals(List.of(namePredicate, addressPredicate), predicate.getPredicates());
+        assertTrue(predicate.estimateCost() < namePredicate.estimateCost() + addressPredicate.estimateCost());
+    }
+
+    @Test
+    public void test() {
+        AndPredicate predicate = new AndPredicate(List.of(namePredicate, tagPredicate));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alex Yeoh").withTags("friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alex Yeoh").withTags("supplier").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bernice Yu").withTags("friends").build()));
+    }
+
+    @Test
+    public void refines() {
+        AndPredicate predicate = new AndPredicate(List.of(namePredicate, tagPredicate));
+
+        // added condition -> returns true
+        assertTrue(predicate.refines(namePredicate));
+        assertTrue(predicate.refines(new AndPredicate(List.of(tagPredicate))));
+
+        // narrowed condition -> returns true
+        assertTrue(new AndPredicate(List.of(namePredicate, new TagContainsKeywordsPredicate("friends colleagues")))
+                .refines(predicate));
+
+        // missing condition -> returns false
+        assertFalse(predicate.refines(new AndPredicate(List.of(namePredicate, addressPredicate))));
+        assertFalse(predicate.refines(addressPredicate));
+    }
+
+    @Test
+    public void equals() {
+        AndPredicate predicate = new AndPredicate(List.of(namePredicate, tagPredicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new AndPredicate(List.of(namePredicate, tagPredicate))));
+        assertEquals(predicate.hashCode(), new AndPredicate(List.of(tagPredicate,
+                new NameContainsKeywordsPredicate("Alex"))).hashCode());
+
+        // different types -> returns false
+        assertFalse(predicate.equals(namePredicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(predicate.equals(new AndPredicate(List.of(namePredicate))));
+    }
+}
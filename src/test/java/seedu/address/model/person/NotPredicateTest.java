@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.predicate.NotPredicate;
+import seedu.address.model.predicate.RefiningPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+    private final TagContainsKeywordsPredicate tagPredicate = new TagContainsKeywordsPredicate("friends");
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(tagPredicate);
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags("supplier").build()));
+    }
+
+    @Test
+    public void refines() {
+        NotPredicate notFriends = new NotPredicate(tagPredicate);
+        NotPredicate notCloseFriends = new NotPredicate(new TagContainsKeywordsPredicate("close friends"));
+
+        // excluding more persons -> returns true
+        assertTrue(notFriends.refines(notCloseFriends));
+        assertTrue(RefiningPredicate.isRefinement(notFriends, new NotPredicate(tagPredicate)));
+
+        // excluding fewer persons -> returns false
+        assertFalse(notCloseFriends.refines(notFriends));
+        assertFalse(notFriends.refines(tagPredicate));
+    }
+
+    @Test
+    public void estimateSelectivity_complementOfPredicate() {
+        NotPredicate predicate = new NotPredicate(tagPredicate);
+        assertEquals(1 - tagPredicate.estimateSelectivity(), predicate.estimateSelectivity());
+        assertEquals(tagPredicate.estimateCost(), predicate.estimateCost());
+    }
+
+    @Test
+    public void equals() {
+        NotPredicate predicate = new NotPredicate(tagPredicate);
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new NotPredicate(new TagContainsKeywordsPredicate("friends"))));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(tagPredicate));
+
+        // different predicates -> returns false
+        assertFalse(predicate.equals(new NotPredicate(new TagContainsKeywordsPredicate("supplier"))));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.predicate.NoteContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class NoteContainsKeywordsPredicateTest {
+
+    @Test
+    public void test_noteContainsKeywords_returnsTrue() {
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate("Bulk order");
+        assertTrue(predicate.test(new PersonBuilder().withNote("Gives discounts for a bulk ORDER").build()));
+        assertTrue(predicate.test(new PersonBuilder().withNote("order in bulk").build()));
+    }
+
+    @Test
+    public void test_noteDoesNotContainKeywords_returnsFalse() {
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate("bulk order");
+        assertFalse(predicate.test(new PersonBuilder().withNote("bulk discounts").build()));
+        assertFalse(predicate.test(new PersonBuilder().withNote("").build()));
+    }
+
+    @Test
+    public void refines() {
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate("prefers email");
+
+        // added word -> returns true
+        assertTrue(new NoteContainsKeywordsPredicate("prefers email mornings").refines(predicate));
+        assertTrue(predicate.refines(new NoteContainsKeywordsPredicate("email")));
+
+        // longer word -> returns false, as words are matched whole
+        assertFalse(new NoteContainsKeywordsPredicate("prefers emails").refines(predicate));
+        assertFalse(predicate.refines(new NoteContainsKeywordsPredicate("prefers email mornings")));
+    }
+
+    @Test
+    public void equals() {
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate("bulk");
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new NoteContainsKeywordsPredicate("bulk")));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(predicate.equals(new NoteContainsKeywordsPredicate("order")));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.predicate.OrPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class OrPredicateTest {
+    private final NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate("Alex");
+    private final TagContainsKeywordsPredicate tagPredicate = new TagContainsKeywordsPredicate("friends");
+
+    @Test
+    public void refines() {
+        OrPredicate predicate = new OrPredicate(List.of(namePredicate, tagPredicate));
+
+        // fewer alternatives -> returns true
+        assertTrue(new OrPredicate(List.of(tagPredicate)).refines(predicate));
+        assertTrue(new OrPredicate(List.of(namePredicate, new TagContainsKeywordsPredicate("friends colleagues")))
+                .refines(predicate));
+
+        // more alternatives -> returns false
+        assertFalse(predicate.refines(namePredicate));
+        assertFalse(predicate.refines(new OrPredicate(List.of(namePredicate))));
+    }
+
+    @Test
+    public void constructor_noPredicates_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new OrPredicate(List.of()));
+    }
+
+    @Test
+    public void getPredicates_mostSelectiveForItsCostFirst() {
+        // tags are cheaper to match than names and match more persons
+        OrPredicate predicate = new OrPredicate(List.of(namePredicate, tagPredicate));
+        assertEquals(List.of(tagPredicate, namePredicate), predicate.getPredicates());
+    }
+
+    @Test
+    public void test() {
+        OrPredicate predicate = new OrPredicate(List.of(namePredicate, tagPredicate));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alex Yeoh").withTags("supplier").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bernice Yu").withTags("friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bernice Yu").withTags("supplier").build()));
+    }
+
+    @Test
+    public void equals() {
+        OrPredicate predicate = new OrPredicate(List.of(namePredicate, tagPredicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new OrPredicate(List.of(namePredicate, tagPredicate))));
+
+        // nested or predicates are merged -> returns true
+        assertTrue(predicate.equals(new OrPredicate(List.of(new OrPredicate(List.of(namePredicate)), tagPredicate))));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(predicate.equals(new OrPredicate(List.of(tagPredicate))));
+    }
+}
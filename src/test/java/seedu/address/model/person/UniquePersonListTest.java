@@ -9,12 +9,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -127,6 +130,74 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsInOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        uniquePersonList.removeAll(List.of(BOB, ALICE));
+        assertEquals(new UniquePersonList(), uniquePersonList);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void replaceAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replaceAll(Map.of(BOB, editedBob)));
+    }
+
+    @Test
+    public void replaceAll_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAll(Map.of(ALICE, BOB)));
+    }
+
+    @Test
+    public void replaceAll_editedPersonsHaveSameIdentity_replacesPersonsInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        uniquePersonList.replaceAll(Map.of(ALICE, editedAlice, BOB, editedBob));
+        assertEquals(List.of(editedAlice, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void replaceAll_editedPersonsSwapIdentities_replacesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.replaceAll(Map.of(ALICE, BOB, BOB, ALICE));
+        assertEquals(List.of(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_editedPersonsShareIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person bobAsAlice = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        Person aliceWithNewPhone = new PersonBuilder(ALICE).withPhone("99998888").withEmail("new@example.com")
+                .build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAll(Map.of(BOB, bobAsAlice)));
+        uniquePersonList.replaceAll(Map.of(ALICE, aliceWithNewPhone, BOB, bobAsAlice));
+        assertEquals(List.of(aliceWithNewPhone, bobAsAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -1,9 +1,12 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -34,4 +37,8 @@ public class TagTest {
         assertTrue(Tag.isValidTagName("friend and family")); // multiword tag
     }
 
+    @Test
+    public void getSearchWords_mixedCase_returnsLowerCaseWords() {
+        assertEquals(List.of("craft", "fair"), new Tag("Craft Fair").getSearchWords());
+    }
 }
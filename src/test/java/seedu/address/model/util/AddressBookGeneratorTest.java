@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+public class AddressBookGeneratorTest {
+
+    @Test
+    public void stream_sameSeed_samePersons() {
+        List<Person> first = new AddressBookGenerator(1).stream(500).collect(Collectors.toList());
+        List<Person> second = new AddressBookGenerator(1).stream(500).collect(Collectors.toList());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void stream_differentSeed_differentPersons() {
+        List<Person> first = new AddressBookGenerator(1).stream(100).collect(Collectors.toList());
+        List<Person> second = new AddressBookGenerator(2).stream(100).collect(Collectors.toList());
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void stream_count_generatesCount() {
+        assertEquals(0, new AddressBookGenerator(1).stream(0).count());
+        assertEquals(1234, new AddressBookGenerator(1).stream(1234).count());
+    }
+
+    @Test
+    public void stream_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookGenerator(1).stream(-1));
+    }
+
+    @Test
+    public void withDuplicateRate_outOfRange_throwsIllegalArgumentException() {
+        AddressBookGenerator generator = new AddressBookGenerator(1);
+        assertThrows(IllegalArgumentException.class, AddressBookGenerator.MESSAGE_INVALID_DUPLICATE_RATE, () ->
+                generator.withDuplicateRate(1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withDuplicateRate(-0.01));
+        assertEquals(2000, generator.withDuplicateRate(0.999).generateUniquePersons(2000).size());
+    }
+
+    @Test
+    public void stream_noDuplicateRate_noDuplicates() {
+        List<Person> persons = new AddressBookGenerator(1).withDuplicateRate(0).stream(5000)
+                .collect(Collectors.toList());
+        assertEquals(5000, persons.stream().map(Person::getPhone).distinct().count());
+        assertEquals(5000, persons.stream().map(Person::getEmail).distinct().count());
+    }
+
+    @Test
+    public void stream_highDuplicateRate_duplicates() {
+        List<Person> persons = new AddressBookGenerator(1).withDuplicateRate(0.99).stream(100)
+                .collect(Collectors.toList());
+        Set<Person> distinctIdentities = new HashSet<>();
+        for (Person person : persons) {
+            if (distinctIdentities.stream().noneMatch(person::isSamePerson)) {
+                distinctIdentities.add(person);
+            }
+        }
+        assertTrue(distinctIdentities.size() < persons.size());
+    }
+
+    @Test
+    public void stream_tags_zipfian() {
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        new AddressBookGenerator(1).withTagCount(20).stream(5000)
+                .flatMap(person -> person.getTags().stream())
+                .forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        int mostCommon = tagCounts.get(new Tag("supplier"));
+        int leastCommon = tagCounts.get(new Tag("local"));
+        assertTrue(tagCounts.size() <= 20);
+        assertTrue(mostCommon > 5 * leastCommon);
+    }
+
+    @Test
+    public void generateAddressBook_withDuplicates_uniquePersonsOfCount() {
+        AddressBook addressBook = new AddressBookGenerator(1).withDuplicateRate(0.5).generateAddressBook(2000);
+        assertEquals(2000, addressBook.getPersonList().size());
+    }
+}
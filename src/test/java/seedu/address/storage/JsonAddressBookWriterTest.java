@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.AddressBookGenerator;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeAll_typicalPersons_sameAsSaved() throws Exception {
+        Path writtenFile = testFolder.resolve("written.json");
+        Path savedFile = testFolder.resolve("saved.json");
+        ReadOnlyAddressBook typicalAddressBook = getTypicalAddressBook();
+
+        try (JsonAddressBookWriter writer = new JsonAddressBookWriter(writtenFile)) {
+            writer.writeAll(typicalAddressBook.getPersonList().iterator());
+        }
+        new JsonAddressBookStorage(savedFile).saveAddressBook(typicalAddressBook);
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(writtenFile);
+        assertEquals(typicalAddressBook, storage.readAddressBook().get());
+        assertEquals(storage.readAddressBook(savedFile).get(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void write_generatedPersons_readBack() throws Exception {
+        Path filePath = testFolder.resolve("generated.json");
+        List<Person> persons = new AddressBookGenerator(1).generateUniquePersons(300);
+
+        try (JsonAddressBookWriter writer = new JsonAddressBookWriter(filePath)) {
+            for (Person person : persons) {
+                writer.write(person);
+            }
+        }
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+        assertEquals(expected, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void close_noPersons_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("empty.json");
+        new JsonAddressBookWriter(filePath).close();
+        assertEquals(new AddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}